@@ -0,0 +1,55 @@
+package io.dougluciano.microservices.products.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.dougluciano.microservices.products.api.dto.ApiErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma resposta de erro do {@code ApiExceptionHandler}: a construção do {@link ApiErrorResponse}
+ * (com o {@link Instant#now()} e a mensagem formatada) e a sua serialização.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ApiErrorResponseBenchmark {
+
+    private static final ObjectWriter WRITER = BenchmarkData.objectMapper().writer();
+
+    // Campo (e não constante) para que a mensagem seja montada a cada invocação, como no handler
+    private long id = 42;
+
+    @Benchmark
+    public ApiErrorResponse build() {
+        return notFound();
+    }
+
+    @Benchmark
+    public byte[] buildAndSerialize() throws JsonProcessingException {
+        return WRITER.writeValueAsBytes(notFound());
+    }
+
+    private ApiErrorResponse notFound() {
+        return ApiErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(404)
+                .error("Resource Not Found")
+                .message("Recurso com ID #" + id + " não encontrado")
+                .path("/api/v1/products/" + id)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package io.dougluciano.microservices.products.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Dados sintéticos e objetos compartilhados pelos benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final Instant AUDIT_INSTANT = Instant.parse("2025-09-10T12:00:00Z");
+
+    /**
+     * Construtor privado para impedir a instância da classe utilitária
+     */
+    private BenchmarkData(){}
+
+    /**
+     * Cria um produto completo, como carregado do banco, com uma descrição do tamanho informado.
+     */
+    static Product product(long id, int descriptionLength) {
+        Product product = Product.builder()
+                .name("Produto " + id)
+                .description(description(descriptionLength))
+                .price(BigDecimal.valueOf(1_000 + id * 37 % 100_000, 2))
+                .sku("SKU-BENCH-" + id)
+                .build();
+        product.setId(id);
+        product.setVersion(0L);
+        product.setCreatedAt(AUDIT_INSTANT);
+        product.setCreatedBy("testuser");
+        product.setUpdatedAt(AUDIT_INSTANT);
+        product.setUpdatedBy("testuser");
+        return product;
+    }
+
+    static List<Product> products(int count, int descriptionLength) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> product(id, descriptionLength))
+                .toList();
+    }
+
+    /**
+     * O modelo de leitura do mesmo produto de {@link #product(long, int)}, como lido pela projeção.
+     */
+    static ProductSummary summary(long id, int descriptionLength) {
+        Product product = product(id, descriptionLength);
+        return new ProductSummary(product.getId(), product.getName(), product.getDescription(), product.getPrice(),
+                product.getSku(), product.getVersion(), product.getUpdatedAt());
+    }
+
+    static List<ProductSummary> summaries(int count, int descriptionLength) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> summary(id, descriptionLength))
+                .toList();
+    }
+
+    /**
+     * Um {@link ObjectMapper} com a mesma configuração do Spring Boot, inclusive
+     * {@code DEFAULT_VIEW_INCLUSION} desabilitado, que é o que faz o {@code @JsonView} filtrar campos.
+     */
+    static ObjectMapper objectMapper() {
+        return objectMapper(new JsonFactory());
+    }
+
+    /**
+     * O mesmo {@link #objectMapper()}, mas escrevendo no formato da fábrica informada (ex: Smile ou CBOR),
+     * como os conversores binários do {@code ContentNegotiationConfig}.
+     */
+    static ObjectMapper objectMapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static String description(int length) {
+        return length == 0 ? null : "Descrição sintética do produto. ".repeat(length / 32 + 1).substring(0, length);
+    }
+}
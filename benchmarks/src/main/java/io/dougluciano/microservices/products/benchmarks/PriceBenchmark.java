@@ -0,0 +1,102 @@
+package io.dougluciano.microservices.products.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do tratamento dos preços ({@link BigDecimal}) nos caminhos quentes: leitura do texto recebido no
+ * JSON, escrita na resposta, as comparações dos filtros por faixa de preço e o reajuste percentual
+ * (mesma regra do SQL de {@code ProductBulkOperationsImpl}: arredondamento em 2 casas e mínimo de 0,01).
+ * Cada invocação processa {@value #PRICES} preços.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PriceBenchmark {
+
+    private static final int PRICES = 1_000;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
+
+    private static final ObjectReader READER = BenchmarkData.objectMapper().readerFor(BigDecimal.class);
+
+    private static final ObjectWriter WRITER = BenchmarkData.objectMapper().writerFor(BigDecimal.class);
+
+    private String[] texts;
+
+    private BigDecimal[] prices;
+
+    private BigDecimal factor;
+
+    private BigDecimal rangeMin;
+
+    private BigDecimal rangeMax;
+
+    @Setup
+    public void setUp() {
+        texts = new String[PRICES];
+        prices = new BigDecimal[PRICES];
+        for (int n = 0; n < PRICES; n++) {
+            prices[n] = BigDecimal.valueOf(100 + n * 7919L % 1_000_000, 2);
+            texts[n] = prices[n].toPlainString();
+        }
+        factor = HUNDRED.add(new BigDecimal("12.5"));
+        rangeMin = new BigDecimal("100.00");
+        rangeMax = new BigDecimal("5000.00");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICES)
+    public void parse(Blackhole blackhole) throws JsonProcessingException {
+        for (String text : texts) {
+            blackhole.consume(READER.readValue(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICES)
+    public void write(Blackhole blackhole) throws JsonProcessingException {
+        for (BigDecimal price : prices) {
+            blackhole.consume(WRITER.writeValueAsString(price));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICES)
+    public void filterByRange(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            blackhole.consume(price.compareTo(rangeMin) >= 0 && price.compareTo(rangeMax) <= 0);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICES)
+    public void adjust(Blackhole blackhole) {
+        for (BigDecimal price : prices) {
+            BigDecimal adjusted = price.multiply(factor).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            blackhole.consume(adjusted.max(MIN_PRICE));
+        }
+    }
+}
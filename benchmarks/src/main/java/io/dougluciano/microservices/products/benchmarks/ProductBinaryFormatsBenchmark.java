@@ -0,0 +1,131 @@
+package io.dougluciano.microservices.products.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.mapper.ProductMapper;
+import io.dougluciano.microservices.products.api.mapper.ProductProtobufMapper;
+import io.dougluciano.microservices.products.api.protobuf.ProductProtos;
+import io.dougluciano.microservices.products.api.views.Views;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Custo de escrita e leitura de uma listagem de produtos em cada representação negociável pelo
+ * {@code Accept} (JSON, Smile, CBOR e Protobuf), sempre com a visão {@link Views.Publico} dos endpoints.
+ * <p>
+ * O tamanho do payload de cada combinação (puro e com gzip, como com o {@code server.compression}) é
+ * impresso no {@code @Setup}, na saída da execução de cada parâmetro. O benchmark {@code encodeGzip} mede
+ * a escrita somada à compressão.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProductBinaryFormatsBenchmark {
+
+    private static final ProductMapper MAPPER = Mappers.getMapper(ProductMapper.class);
+
+    private static final TypeReference<List<ProductDTO>> LIST_TYPE = new TypeReference<>() {};
+
+    public enum Format {
+        JSON(new JsonFactory()),
+        SMILE(new SmileFactory()),
+        CBOR(new CBORFactory()),
+        PROTOBUF(null);
+
+        private final ObjectWriter writer;
+        private final ObjectReader reader;
+
+        Format(JsonFactory factory) {
+            ObjectMapper mapper = factory != null ? BenchmarkData.objectMapper(factory) : null;
+            this.writer = mapper != null ? mapper.writerWithView(Views.Publico.class) : null;
+            this.reader = mapper != null ? mapper.readerFor(LIST_TYPE) : null;
+        }
+
+        byte[] encode(List<ProductDTO> dtos) throws IOException {
+            if (this == PROTOBUF) {
+                return ProductProtobufMapper.toMessage(dtos, false).toByteArray();
+            }
+            return writer.writeValueAsBytes(dtos);
+        }
+
+        List<ProductDTO> decode(byte[] payload) throws IOException {
+            if (this == PROTOBUF) {
+                return ProductProtobufMapper.toDTOList(ProductProtos.ProductList.parseFrom(payload));
+            }
+            return reader.readValue(payload);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Payload {
+
+        @Param({"JSON", "SMILE", "CBOR", "PROTOBUF"})
+        Format format;
+
+        @Param({"10", "100", "1000"})
+        int listSize;
+
+        @Param({"0", "256"})
+        int descriptionLength;
+
+        List<ProductDTO> dtos;
+
+        byte[] encoded;
+
+        @Setup
+        public void setUp() throws IOException {
+            dtos = MAPPER.toDTOList(BenchmarkData.products(listSize, descriptionLength));
+            encoded = format.encode(dtos);
+
+            System.out.printf("%nPayload %s (listSize=%d, descriptionLength=%d): %d bytes, %d bytes com gzip%n",
+                    format, listSize, descriptionLength, encoded.length, gzip(encoded).length);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode(Payload state) throws IOException {
+        return state.format.encode(state.dtos);
+    }
+
+    @Benchmark
+    public List<ProductDTO> decode(Payload state) throws IOException {
+        return state.format.decode(state.encoded);
+    }
+
+    @Benchmark
+    public byte[] encodeGzip(Payload state) throws IOException {
+        return gzip(state.format.encode(state.dtos));
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(payload.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(payload);
+        }
+        return output.toByteArray();
+    }
+}
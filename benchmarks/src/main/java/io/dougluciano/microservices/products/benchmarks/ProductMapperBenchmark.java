@@ -0,0 +1,102 @@
+package io.dougluciano.microservices.products.benchmarks;
+
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.mapper.ProductMapper;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo dos mapeamentos gerados pelo MapStruct em {@link ProductMapper}: entidade para DTO (um item e
+ * listas), o modelo de leitura {@link ProductSummary} para DTO e a aplicação de um DTO sobre uma entidade
+ * existente: {@code updateEntityFromDTO} (todos os campos editáveis) e {@code applyChanges} (usado pelo
+ * {@code PATCH}, que não copia o SKU nem a versão).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProductMapperBenchmark {
+
+    private static final ProductMapper MAPPER = Mappers.getMapper(ProductMapper.class);
+
+    @State(Scope.Benchmark)
+    public static class Single {
+
+        @Param({"0", "256", "4096"})
+        int descriptionLength;
+
+        Product product;
+        ProductDTO changes;
+
+        @Setup
+        public void setUp() {
+            product = BenchmarkData.product(1, descriptionLength);
+            changes = MAPPER.toDTO(BenchmarkData.product(1, descriptionLength));
+            changes.setName("Produto alterado");
+            changes.setPrice(new BigDecimal("249.90"));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Many {
+
+        @Param({"10", "100", "1000"})
+        int listSize;
+
+        @Param({"0", "256", "4096"})
+        int descriptionLength;
+
+        List<Product> products;
+        List<ProductSummary> summaries;
+
+        @Setup
+        public void setUp() {
+            products = BenchmarkData.products(listSize, descriptionLength);
+            summaries = BenchmarkData.summaries(listSize, descriptionLength);
+        }
+    }
+
+    @Benchmark
+    public ProductDTO toDTO(Single state) {
+        return MAPPER.toDTO(state.product);
+    }
+
+    @Benchmark
+    public List<ProductDTO> toDTOList(Many state) {
+        return MAPPER.toDTOList(state.products);
+    }
+
+    @Benchmark
+    public List<ProductDTO> toSummaryDTOList(Many state) {
+        return MAPPER.toSummaryDTOList(state.summaries);
+    }
+
+    @Benchmark
+    public Product updateEntityFromDTO(Single state) {
+        MAPPER.updateEntityFromDTO(state.changes, state.product);
+        return state.product;
+    }
+
+    @Benchmark
+    public Product applyChanges(Single state) {
+        MAPPER.applyChanges(state.changes, state.product);
+        return state.product;
+    }
+}
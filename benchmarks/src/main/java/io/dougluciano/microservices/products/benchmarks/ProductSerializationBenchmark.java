@@ -0,0 +1,95 @@
+package io.dougluciano.microservices.products.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.mapper.ProductMapper;
+import io.dougluciano.microservices.products.api.views.Views;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da serialização JSON das respostas de produto, de um item e de listas, com a visão
+ * {@link Views.Publico} (como nos endpoints do {@code ProductController}) e sem visão nenhuma
+ * (todos os campos, inclusive os de auditoria).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProductSerializationBenchmark {
+
+    private static final ProductMapper MAPPER = Mappers.getMapper(ProductMapper.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = BenchmarkData.objectMapper();
+
+    private static final ObjectWriter WITH_VIEW = OBJECT_MAPPER.writerWithView(Views.Publico.class);
+
+    private static final ObjectWriter WITHOUT_VIEW = OBJECT_MAPPER.writer();
+
+    @State(Scope.Benchmark)
+    public static class Single {
+
+        @Param({"0", "256", "4096"})
+        int descriptionLength;
+
+        ProductDTO dto;
+
+        @Setup
+        public void setUp() {
+            dto = MAPPER.toDTO(BenchmarkData.product(1, descriptionLength));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Many {
+
+        @Param({"10", "100", "1000"})
+        int listSize;
+
+        @Param({"0", "256", "4096"})
+        int descriptionLength;
+
+        List<ProductDTO> dtos;
+
+        @Setup
+        public void setUp() {
+            dtos = MAPPER.toDTOList(BenchmarkData.products(listSize, descriptionLength));
+        }
+    }
+
+    @Benchmark
+    public byte[] singleWithView(Single state) throws JsonProcessingException {
+        return WITH_VIEW.writeValueAsBytes(state.dto);
+    }
+
+    @Benchmark
+    public byte[] singleWithoutView(Single state) throws JsonProcessingException {
+        return WITHOUT_VIEW.writeValueAsBytes(state.dto);
+    }
+
+    @Benchmark
+    public byte[] listWithView(Many state) throws JsonProcessingException {
+        return WITH_VIEW.writeValueAsBytes(state.dtos);
+    }
+
+    @Benchmark
+    public byte[] listWithoutView(Many state) throws JsonProcessingException {
+        return WITHOUT_VIEW.writeValueAsBytes(state.dtos);
+    }
+}
@@ -0,0 +1,114 @@
+package io.dougluciano.microservices.products.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.dougluciano.microservices.products.api.controller.ProductController;
+import io.dougluciano.microservices.products.config.SampledRequestLogFilter;
+import io.dougluciano.microservices.products.enumerated.LogMessages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do log de uma requisição para as threads da aplicação: as duas linhas INFO que cada endpoint
+ * do {@code ProductController} registra (recebida e concluída), com a mesma cadeia do
+ * {@code logback-spring.xml} (AsyncAppender sem bloqueio na frente de um appender de texto).
+ * <p>
+ * Modos: {@code off} (nível WARN, as linhas INFO nem chegam a ser criadas), {@code on} (todas as linhas)
+ * e {@code sampled} (apenas {@value #SAMPLE_RATE} das requisições, pelo {@link SampledRequestLogFilter}).
+ * A saída vai para um stream descartado, para medir o log e não o terminal.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+
+    private static final double SAMPLE_RATE = 0.01;
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"off", "on", "sampled"})
+    String mode;
+
+    private LoggerContext context;
+
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.addAppender(output);
+        async.start();
+
+        if (mode.equals("sampled")) {
+            SampledRequestLogFilter filter = new SampledRequestLogFilter(ProductController.class.getPackageName());
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.addAppender(async);
+        root.setLevel(mode.equals("off") ? Level.WARN : Level.INFO);
+
+        logger = context.getLogger(ProductController.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void request() {
+        long id = ThreadLocalRandom.current().nextLong(1, 100_000);
+        if (mode.equals("sampled")) {
+            SampledRequestLogFilter.suppress(ThreadLocalRandom.current().nextDouble() >= SAMPLE_RATE);
+        }
+        try {
+            logger.info(LogMessages.FIND_BY_ID_REQUEST.getValue(), id);
+            logger.info(LogMessages.RESOURCE_BY_ID_FOUND_SUCCESS.getValue(), id);
+        } finally {
+            SampledRequestLogFilter.suppress(false);
+        }
+    }
+}
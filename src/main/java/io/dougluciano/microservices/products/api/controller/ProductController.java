@@ -1,23 +1,79 @@
 package io.dougluciano.microservices.products.api.controller;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.dougluciano.microservices.products.api.dto.BulkResultDTO;
+import io.dougluciano.microservices.products.api.dto.CursorPageDTO;
+import io.dougluciano.microservices.products.api.dto.PriceAdjustmentRequestDTO;
+import io.dougluciano.microservices.products.api.dto.PriceUpdateRequestDTO;
+import io.dougluciano.microservices.products.api.dto.ProductBatchRequestDTO;
+import io.dougluciano.microservices.products.api.dto.ProductBatchResponseDTO;
+import io.dougluciano.microservices.products.api.dto.ProductDeleteRequestDTO;
 import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.dto.ProductLookupRequestDTO;
+import io.dougluciano.microservices.products.api.dto.ProductLookupResponseDTO;
+import io.dougluciano.microservices.products.api.dto.ProductSuggestionDTO;
+import io.dougluciano.microservices.products.api.http.EntityTags;
+import io.dougluciano.microservices.products.api.http.ProductJsonCache;
+import io.dougluciano.microservices.products.api.http.ProductMediaTypes;
 import io.dougluciano.microservices.products.api.mapper.ProductMapper;
+import io.dougluciano.microservices.products.api.pagination.CursorCodec;
+import io.dougluciano.microservices.products.api.patch.ProductMergePatch;
 import io.dougluciano.microservices.products.api.views.Views;
+import io.dougluciano.microservices.products.config.HttpCacheProperties;
+import io.dougluciano.microservices.products.config.PaginationProperties;
+import io.dougluciano.microservices.products.config.SuggestProperties;
 import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSearchHit;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
 import io.dougluciano.microservices.products.enumerated.LogMessages;
+import io.dougluciano.microservices.products.exception.InvalidCursorException;
+import io.dougluciano.microservices.products.exception.PreconditionFailedException;
+import io.dougluciano.microservices.products.service.batch.BatchItemResult;
+import io.dougluciano.microservices.products.service.batch.BatchItemStatus;
+import io.dougluciano.microservices.products.service.batch.BulkResult;
+import io.dougluciano.microservices.products.service.batch.PriceFilter;
+import io.dougluciano.microservices.products.service.batch.ProductRef;
+import io.dougluciano.microservices.products.service.implementations.ProductBulkService;
 import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.service.listing.ProductFilter;
+import io.dougluciano.microservices.products.service.listing.ProductSort;
+import io.dougluciano.microservices.products.service.suggestion.ProductSuggestion;
+import io.dougluciano.microservices.products.service.suggestion.ProductSuggestionIndex;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.net.URI;
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Controlador REST para o recurso de Produtos.
@@ -28,44 +84,386 @@ import java.util.Optional;
  */
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductBulkService bulkService;
     private final ProductMapper productMapper;
+    private final PaginationProperties paginationProperties;
+    private final HttpCacheProperties httpCacheProperties;
+    private final ObjectMapper objectMapper;
+    private final ProductMergePatch mergePatch;
+    private final ProductSuggestionIndex suggestionIndex;
+    private final SuggestProperties suggestProperties;
+    private final ProductJsonCache jsonCache;
 
 
     /**
      * Endpoint para listar todos os produtos.
      * Retorna uma visão pública e simplificada dos produtos.
+     * <p>
+     * <b>[ATENÇÃO]</b> Este endpoint carrega a tabela inteira em memória e só é atendido quando
+     * nenhum parâmetro de paginação, filtro ou ordenação é informado. Novos clientes devem utilizar
+     * a listagem paginada por cursor ({@link #findPage}).
      */
-    @GetMapping
+    @GetMapping(params = {"!cursor", "!size", "!sort", "!minPrice", "!maxPrice", "!name", "!updatedSince"})
     @JsonView(Views.Publico.class)
     public ResponseEntity<List<ProductDTO>> findAll(){
 
         log.info(LogMessages.FIND_ALL_REQUEST.getValue());
-        List<Product> products = productService.findAll();
-        List<ProductDTO> dtos = productMapper.toDTOList(products);
+        List<ProductSummary> products = productService.findAllSummaries();
+        List<ProductDTO> dtos = productMapper.toSummaryDTOList(products);
 
         log.info(LogMessages.RESOURCE_FIND_ALL_SUCCESS.getValue());
         return ResponseEntity.ok(dtos);
     }
 
+    /**
+     * Endpoint para listar produtos paginados por cursor (keyset), com filtros e ordenação opcionais.
+     * <p>
+     * É atendido sempre que o parâmetro {@code cursor}, {@code size}, {@code sort} ou algum filtro é informado.
+     * O tamanho da página respeita o padrão e o limite máximo configurados em
+     * {@link PaginationProperties}. A resposta traz o cursor e a URL da próxima página,
+     * que também é enviada no header {@code Link} com {@code rel="next"}; a URL mantém os filtros e a ordenação.
+     * <p>
+     * Filtros: {@code minPrice}/{@code maxPrice} (faixa de preço, inclusive), {@code name} (trecho do nome)
+     * e {@code updatedSince} (data ISO-8601 mínima da última alteração). Ordenação: apenas os campos de
+     * {@link ProductSort} ({@code id}, {@code price}, {@code name} e {@code updatedAt}, com {@code -} para a
+     * ordem decrescente), todos com índice. Na ordenação padrão o cursor guarda apenas o ID; nas demais,
+     * guarda também a ordenação e o valor do campo, e um cursor de outra ordenação é rejeitado.
+     */
+    @GetMapping
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<CursorPageDTO<ProductDTO>> findPage(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer size,
+                                                              @RequestParam(required = false) String sort,
+                                                              @RequestParam(required = false) BigDecimal minPrice,
+                                                              @RequestParam(required = false) BigDecimal maxPrice,
+                                                              @RequestParam(required = false) String name,
+                                                              @RequestParam(required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince,
+                                                              ServletWebRequest request){
+
+        ProductFilter filter = new ProductFilter(minPrice, maxPrice, name, updatedSince);
+        ProductSort productSort = ProductSort.fromToken(sort);
+        log.info(LogMessages.FIND_PAGE_REQUEST.getValue(), cursor, size, filter, productSort.token());
+        applyCacheControl(request, HttpCacheProperties.FIND_PAGE);
+
+        int pageSize = paginationProperties.resolveSize(size);
+        Comparable<?> afterKey = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            if (productSort == ProductSort.DEFAULT) {
+                afterId = CursorCodec.decodeId(cursor);
+            } else {
+                List<String> keys = CursorCodec.decode(cursor, 3);
+                if (!keys.get(0).equals(productSort.token())) {
+                    throw new InvalidCursorException(cursor);
+                }
+                try {
+                    afterKey = productSort.parseKey(keys.get(1));
+                    afterId = Long.valueOf(keys.get(2));
+                } catch (RuntimeException ex) {
+                    throw new InvalidCursorException(cursor);
+                }
+            }
+        }
+
+        Slice<ProductSummary> page = productService.findPage(filter, productSort, afterKey, afterId, pageSize);
+        List<ProductSummary> products = page.getContent();
+
+        String nextCursor = null;
+        String next = null;
+        if (page.hasNext()) {
+            ProductSummary last = products.get(products.size() - 1);
+            nextCursor = productSort == ProductSort.DEFAULT
+                    ? CursorCodec.encode(last.id())
+                    : CursorCodec.encode(productSort.token(), productSort.keyOf(last), last.id());
+            next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("size", pageSize)
+                    .toUriString();
+        }
+
+        MediaType representation = ProductMediaTypes.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(EntityTags.ofPage(products.stream().map(ProductVersion::of).toList(), pageSize, next, representation))) {
+            log.info(LogMessages.RESOURCE_NOT_MODIFIED.getValue(), request.getRequest().getRequestURI());
+            return null;
+        }
+
+        CursorPageDTO<ProductDTO> body = CursorPageDTO.<ProductDTO>builder()
+                .content(productMapper.toSummaryDTOList(products))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .next(next)
+                .build();
+
+        log.info(LogMessages.RESOURCE_FIND_PAGE_SUCCESS.getValue(), products.size());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (next != null) {
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Endpoint do autocompletar: sugere produtos cujo nome, alguma palavra do nome ou o SKU começa
+     * com o prefixo informado, sem diferenciar maiúsculas nem acentos.
+     * <p>
+     * As sugestões vêm de um índice em memória ({@link ProductSuggestionIndex}), sem consultar o banco.
+     * Prefixos menores que {@link SuggestProperties#minPrefixLength()} devolvem uma lista vazia.
+     */
+    @GetMapping("/suggest")
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<List<ProductSuggestionDTO>> suggest(@RequestParam String prefix,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              ServletWebRequest request){
+
+        log.info(LogMessages.SUGGEST_REQUEST.getValue(), prefix);
+        applyCacheControl(request, HttpCacheProperties.SUGGEST);
+
+        List<ProductSuggestion> suggestions = suggestionIndex.suggest(prefix, suggestProperties.resolveLimit(limit));
+
+        log.info(LogMessages.RESOURCE_SUGGEST_SUCCESS.getValue(), suggestions.size());
+        return ResponseEntity.ok(productMapper.toSuggestionDTOList(suggestions));
+    }
+
+    /**
+     * Endpoint para a busca textual de produtos pelo nome e pela descrição.
+     * <p>
+     * Os resultados vêm do mais para o menos relevante e são paginados por cursor, da mesma forma que
+     * a listagem ({@link #findPage}): o cursor guarda a relevância e o
+     * ID do último resultado entregue e a URL da próxima página também é enviada no header {@code Link}.
+     */
+    @GetMapping("/search")
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<CursorPageDTO<ProductDTO>> search(@RequestParam String q,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer size){
+
+        log.info(LogMessages.SEARCH_REQUEST.getValue(), q, cursor, size);
+
+        int pageSize = paginationProperties.resolveSize(size);
+        Float afterRank = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            List<String> keys = CursorCodec.decode(cursor, 2);
+            try {
+                afterRank = Float.valueOf(keys.get(0));
+                afterId = Long.valueOf(keys.get(1));
+            } catch (NumberFormatException ex) {
+                throw new InvalidCursorException(cursor);
+            }
+        }
+
+        Slice<ProductSearchHit> page = productService.search(q, afterRank, afterId, pageSize);
+        List<ProductSearchHit> hits = page.getContent();
+
+        String nextCursor = null;
+        String next = null;
+        if (page.hasNext()) {
+            ProductSearchHit last = hits.get(hits.size() - 1);
+            nextCursor = CursorCodec.encode(last.rank(), last.product().id());
+            next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("size", pageSize)
+                    .toUriString();
+        }
+
+        CursorPageDTO<ProductDTO> body = CursorPageDTO.<ProductDTO>builder()
+                .content(productMapper.toSummaryDTOList(hits.stream().map(ProductSearchHit::product).toList()))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .next(next)
+                .build();
+
+        log.info(LogMessages.RESOURCE_SEARCH_SUCCESS.getValue(), hits.size());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (next != null) {
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Endpoint para exportar o catálogo completo em NDJSON (um produto por linha).
+     * <p>
+     * Os produtos são lidos do banco através de um cursor no servidor, já no modelo de leitura
+     * {@link ProductSummary} (sem entidades), e escritos um a um
+     * diretamente no corpo da resposta por um {@link JsonGenerator}, sem montar nenhuma lista
+     * em memória. A escrita ocorre fora da thread da requisição, através de um
+     * {@link StreamingResponseBody}, e usa a mesma visão pública da listagem.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(){
+
+        log.info(LogMessages.EXPORT_REQUEST.getValue());
+
+        ObjectWriter writer = objectMapper.writerWithView(Views.Publico.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            AtomicLong exported = new AtomicLong();
+
+            try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+                // O separador padrão entre valores na raiz é um espaço; no NDJSON queremos apenas a quebra de linha
+                generator.setRootValueSeparator(null);
+
+                productService.streamSummaries(product -> {
+                    try {
+                        writer.writeValue(generator, productMapper.toDTO(product));
+                        generator.writeRaw('\n');
+                        exported.incrementAndGet();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+
+            log.info(LogMessages.RESOURCE_EXPORT_SUCCESS.getValue(), exported.get());
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Endpoint para buscar um produto pelo seu ID.
      * Retorna uma visão interna e detalhada do produto.
+     * <p>
+     * Suporta requisições condicionais: o ETag e o {@code Last-Modified} são calculados a partir da
+     * versão do produto ({@link ProductService#findVersion(Long)}), extraída do produto em cache ou, na falta
+     * dele, obtida do banco por uma consulta que não carrega a entidade. Se o cliente já possui a versão atual,
+     * a resposta é um 304 sem corpo, sem carregar a entidade, mapear o DTO ou serializar o JSON.
+     * <p>
+     * O corpo vem do {@link ProductJsonCache}: se o JSON da versão atual já foi serializado, os bytes guardados
+     * são escritos diretamente na resposta, sem carregar a entidade nem passar pelo Jackson. Caso contrário, a
+     * entidade é carregada em uma versão igual ou posterior à do ETag ({@link ProductService#findAtLeast}) e o
+     * JSON é guardado com a versão efetivamente serializada.
+     * Quando o cliente prefere uma representação binária ({@link ProductMediaTypes}), o DTO é devolvido
+     * e o conversor é escolhido pela negociação do {@code Accept}, com a mesma visão pública. A representação
+     * é resolvida antes do {@code checkNotModified}, porque cada uma tem o seu ETag ({@link EntityTags}).
      */
     @GetMapping("/{id}")
     @JsonView(Views.Publico.class)
-    public ResponseEntity<ProductDTO> findById(@PathVariable Long id){
+    public ResponseEntity<?> findById(@PathVariable Long id, ServletWebRequest request){
+
+        log.info(LogMessages.FIND_BY_ID_REQUEST.getValue(), id);
+        applyCacheControl(request, HttpCacheProperties.FIND_BY_ID);
 
-        log.info(LogMessages.FIND_BY_ID_REQUEST.getValue(), id, LocalDateTime.now());
-        Product product = productService.findById(id);
+        ProductVersion version = productService.findVersion(id);
+        MediaType representation = ProductMediaTypes.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(EntityTags.of(version, representation), version.updatedAt().toEpochMilli())) {
+            log.info(LogMessages.RESOURCE_NOT_MODIFIED.getValue(), request.getRequest().getRequestURI());
+            return null;
+        }
+
+        if (!ProductMediaTypes.isJson(representation)) {
+            Product product = productService.findAtLeast(version);
+            refreshValidators(request, version, product, representation);
+
+            log.info(LogMessages.RESOURCE_BY_ID_FOUND_SUCCESS.getValue(), id);
+            return ResponseEntity.ok(productMapper.toDTO(product));
+        }
+
+        byte[] json = jsonCache.find(id, version, Views.Publico.class);
+        if (json == null) {
+            Product product = productService.findAtLeast(version);
+            refreshValidators(request, version, product, representation);
+            json = jsonCache.put(id, ProductVersion.of(product), Views.Publico.class, productMapper.toDTO(product));
+        }
 
         log.info(LogMessages.RESOURCE_BY_ID_FOUND_SUCCESS.getValue(), id);
-        // Quando implementarmos o Exception Handler, isso será refatorado
-        return ResponseEntity.ok(productMapper.toDTO(product));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    /**
+     * Endpoint para buscar um produto pelo seu SKU.
+     * Outros serviços referenciam produtos pelo SKU, e não pelo ID interno.
+     * O ETag vem da versão do produto, como na busca por ID; se o produto em cache é anterior a ela, ele é
+     * recarregado do banco.
+     * O corpo vem do {@link ProductJsonCache} e as representações binárias são negociadas, como na busca por ID.
+     */
+    @GetMapping("/sku/{sku}")
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<?> findBySku(@PathVariable String sku, ServletWebRequest request){
+
+        log.info(LogMessages.FIND_BY_SKU_REQUEST.getValue(), sku);
+        applyCacheControl(request, HttpCacheProperties.FIND_BY_SKU);
+
+        Product product = productService.findBySku(sku);
+        ProductVersion version = productService.findVersion(product.getId());
+        MediaType representation = ProductMediaTypes.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(EntityTags.of(version, representation), version.updatedAt().toEpochMilli())) {
+            log.info(LogMessages.RESOURCE_NOT_MODIFIED.getValue(), request.getRequest().getRequestURI());
+            return null;
+        }
+        if (product.getVersion() < version.version()) {
+            product = productService.findAtLeast(version);
+        }
+        refreshValidators(request, version, product, representation);
+
+        if (!ProductMediaTypes.isJson(representation)) {
+            log.info(LogMessages.RESOURCE_BY_SKU_FOUND_SUCCESS.getValue(), sku);
+            return ResponseEntity.ok(productMapper.toDTO(product));
+        }
+
+        byte[] json = jsonCache.find(product.getId(), version, Views.Publico.class);
+        if (json == null) {
+            json = jsonCache.put(product.getId(), ProductVersion.of(product), Views.Publico.class, productMapper.toDTO(product));
+        }
+
+        log.info(LogMessages.RESOURCE_BY_SKU_FOUND_SUCCESS.getValue(), sku);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    /**
+     * Endpoint para buscar vários produtos em uma única requisição, identificados pelo ID e/ou pelo SKU.
+     * <p>
+     * Substitui uma busca por ID por item (ex: o enriquecimento dos itens de um carrinho): os produtos
+     * já presentes no cache não são consultados e os demais são buscados com uma consulta por bloco
+     * ({@link ProductService#findAllById(List)} e {@link ProductService#findAllBySku(List)}). IDs e SKUs
+     * inexistentes não falham a requisição; eles são devolvidos em {@code notFound}.
+     */
+    @PostMapping("/lookup")
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<ProductLookupResponseDTO> lookup(@RequestBody @Valid ProductLookupRequestDTO request){
+        List<Long> ids = Optional.ofNullable(request.getIds()).orElse(List.of());
+        List<String> skus = Optional.ofNullable(request.getSkus()).orElse(List.of());
+
+        log.info(LogMessages.LOOKUP_REQUEST.getValue(), ids.size(), skus.size());
+
+        List<Product> byId = productService.findAllById(ids);
+        List<Product> bySku = productService.findAllBySku(skus);
+
+        // Um produto pedido pelo ID e pelo SKU é devolvido uma única vez
+        Map<Long, Product> products = new LinkedHashMap<>();
+        byId.forEach(product -> products.putIfAbsent(product.getId(), product));
+        bySku.forEach(product -> products.putIfAbsent(product.getId(), product));
+
+        Set<Long> foundIds = byId.stream().map(Product::getId).collect(Collectors.toSet());
+        Set<String> foundSkus = bySku.stream().map(Product::getSku).collect(Collectors.toSet());
+        List<String> notFound = new ArrayList<>();
+        ids.stream().distinct().filter(id -> !foundIds.contains(id)).forEach(id -> notFound.add(ProductRef.keyOf(id, null)));
+        skus.stream().distinct().filter(sku -> !foundSkus.contains(sku)).forEach(sku -> notFound.add(ProductRef.keyOf(null, sku)));
+
+        ProductLookupResponseDTO body = ProductLookupResponseDTO.builder()
+                .products(productMapper.toDTOList(List.copyOf(products.values())))
+                .notFound(notFound)
+                .build();
+
+        log.info(LogMessages.RESOURCE_LOOKUP_SUCCESS.getValue(), products.size(), notFound.size());
+        return ResponseEntity.ok(body);
     }
 
     /**
@@ -91,24 +489,164 @@ public class ProductController {
 
     }
 
+    /**
+     * Endpoint para criar vários produtos em uma única requisição.
+     * <p>
+     * Os produtos são persistidos em uma única transação, com os INSERTs agrupados em lotes JDBC.
+     * Produtos com SKU já cadastrado (ou repetido na própria lista) são rejeitados individualmente;
+     * a resposta traz o resultado de cada item, na ordem recebida, com status 201 quando todos
+     * foram criados e 207 (Multi-Status) quando algum foi rejeitado.
+     */
+    @PostMapping("/batch")
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<ProductBatchResponseDTO> createAll(@RequestBody @Valid ProductBatchRequestDTO request){
+
+        log.info(LogMessages.CREATE_BATCH_REQUEST.getValue(), request.getProducts().size());
+
+        List<Product> toPersist = productMapper.toNewEntityList(request.getProducts());
+        List<BatchItemResult> results = productService.createAll(toPersist);
+
+        int created = (int) results.stream().filter(result -> result.status() == BatchItemStatus.CREATED).count();
+        int rejected = results.size() - created;
+
+        ProductBatchResponseDTO body = ProductBatchResponseDTO.builder()
+                .created(created)
+                .rejected(rejected)
+                .items(productMapper.toBatchItemDTOList(results))
+                .build();
+
+        log.info(LogMessages.RESOURCE_BATCH_CREATED_SUCCESS.getValue(), created, rejected);
+        return ResponseEntity.status(rejected == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(body);
+    }
+
+    /**
+     * Endpoint para atualizar o preço de vários produtos, identificados pelo ID ou pelo SKU.
+     * <p>
+     * Os preços são alterados com {@code UPDATE}s baseados em conjunto, sem carregar as entidades,
+     * um bloco por transação. A resposta traz as linhas alteradas e o tempo de cada bloco, além dos
+     * IDs/SKUs que não correspondem a nenhum produto.
+     */
+    @PatchMapping("/prices")
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<BulkResultDTO> updatePrices(@RequestBody @Valid PriceUpdateRequestDTO request){
+
+        log.info(LogMessages.UPDATE_PRICES_REQUEST.getValue(), request.getPrices().size());
+
+        BulkResult result = bulkService.updatePrices(productMapper.toPriceChangeList(request.getPrices()));
+
+        log.info(LogMessages.RESOURCE_PRICES_UPDATED_SUCCESS.getValue(),
+                result.affectedRows(), result.chunks().size(), result.elapsedMillis());
+        return ResponseEntity.ok(productMapper.toBulkResultDTO(result));
+    }
+
+    /**
+     * Endpoint para reajustar em um percentual o preço de todos os produtos que atendem a um filtro
+     * (prefixo do SKU e faixa de preço atual), em blocos de uma transação cada.
+     */
+    @PostMapping("/prices/adjustments")
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<BulkResultDTO> adjustPrices(@RequestBody @Valid PriceAdjustmentRequestDTO request){
+
+        PriceFilter filter = productMapper.toPriceFilter(request);
+        log.info(LogMessages.ADJUST_PRICES_REQUEST.getValue(), request.getPercentage(), filter);
+
+        BulkResult result = bulkService.adjustPrices(request.getPercentage(), filter);
+
+        log.info(LogMessages.RESOURCE_PRICES_UPDATED_SUCCESS.getValue(),
+                result.affectedRows(), result.chunks().size(), result.elapsedMillis());
+        return ResponseEntity.ok(productMapper.toBulkResultDTO(result));
+    }
+
     /**
      * Endpoint para atualizar um produto existente.
+     * <p>
+     * Se o header {@code If-Match} for informado com o ETag de uma leitura anterior, a atualização só
+     * é aplicada se o produto ainda estiver nessa versão; caso contrário, a resposta é 412 Precondition
+     * Failed. A resposta traz o ETag da nova versão.
      */
     @PutMapping("/{id}")
     @JsonView(Views.Publico.class)
-    public ResponseEntity<ProductDTO> update(@PathVariable Long id, @RequestBody @Valid ProductDTO productDTO) {
+    public ResponseEntity<ProductDTO> update(@PathVariable Long id,
+                                             @RequestBody @Valid ProductDTO productDTO,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info(LogMessages.UPDATE_REQUEST.getValue(), id);
 
-        Product existingProduct = productService.findById(id);
+        Long expectedVersion = EntityTags.parseVersion(ifMatch, id);
+        Product changes = productMapper.toEntity(productDTO);
+
+        Product updated;
+        try {
+            updated = productService.update(id, changes, expectedVersion);
+        } catch (OptimisticLockingFailureException ex) {
+            // Outra escrita venceu a corrida entre a leitura e o commit: com If-Match, a pré-condição falhou
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("O recurso com ID #" + id + " foi alterado durante a atualização");
+            }
+            throw ex;
+        }
+
+        log.info(LogMessages.RESOURCE_UPDATED_SUCCESS.getValue(), id);
+
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(ProductVersion.of(updated)))
+                .body(productMapper.toDTO(updated));
+    }
+
+    /**
+     * Endpoint para atualizar parcialmente um produto (JSON Merge Patch).
+     * <p>
+     * Apenas os campos informados são alterados; um campo com {@code null} é removido. O produto
+     * resultante é validado com as mesmas regras do PUT e o UPDATE gerado contém somente as colunas
+     * que mudaram. Assim como no PUT, o header {@code If-Match} é opcional.
+     */
+    @PatchMapping(value = "/{id}", consumes = ProductMergePatch.MEDIA_TYPE)
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<ProductDTO> patch(@PathVariable Long id,
+                                            @RequestBody JsonNode patch,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        log.info(LogMessages.PATCH_REQUEST.getValue(), id);
 
-        productMapper.updateEntityFromDTO(productDTO, existingProduct);
+        Long expectedVersion = EntityTags.parseVersion(ifMatch, id);
 
-        Product updated = productService.update(id, existingProduct);
+        Product patched;
+        try {
+            patched = productService.patch(id, product -> mergePatch.apply(patch, product), expectedVersion);
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("O recurso com ID #" + id + " foi alterado durante a atualização");
+            }
+            throw ex;
+        }
 
         log.info(LogMessages.RESOURCE_UPDATED_SUCCESS.getValue(), id);
 
-        return ResponseEntity.ok(productMapper.toDTO(updated));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(ProductVersion.of(patched)))
+                .body(productMapper.toDTO(patched));
+    }
+
+    /**
+     * Endpoint para deletar vários produtos, identificados pelo ID e/ou pelo SKU.
+     * <p>
+     * Os produtos não são carregados: cada bloco é um único {@code DELETE}, em sua própria transação.
+     * A resposta traz as linhas removidas e o tempo de cada bloco, além dos IDs/SKUs inexistentes.
+     */
+    @DeleteMapping
+    @JsonView(Views.Publico.class)
+    public ResponseEntity<BulkResultDTO> deleteAll(@RequestBody @Valid ProductDeleteRequestDTO request) {
+        List<ProductRef> products = new ArrayList<>();
+        Optional.ofNullable(request.getIds()).orElse(List.of()).forEach(id -> products.add(new ProductRef(id, null)));
+        Optional.ofNullable(request.getSkus()).orElse(List.of()).forEach(sku -> products.add(new ProductRef(null, sku)));
+
+        log.info(LogMessages.DELETE_BATCH_REQUEST.getValue(), products.size());
+
+        BulkResult result = bulkService.deleteAll(products);
+
+        log.info(LogMessages.RESOURCE_BATCH_DELETED_SUCCESS.getValue(),
+                result.affectedRows(), result.chunks().size(), result.elapsedMillis());
+        return ResponseEntity.ok(productMapper.toBulkResultDTO(result));
     }
 
     /**
@@ -123,4 +661,34 @@ public class ProductController {
         log.info(LogMessages.RESOURCE_DELETED_SUCCESS.getValue(), id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Define o header {@code Cache-Control} configurado para a rota em {@link HttpCacheProperties}, além do
+     * {@code Vary: Accept}. Os headers são escritos diretamente na resposta para também acompanharem as respostas 304.
+     */
+    private void applyCacheControl(ServletWebRequest request, String route) {
+        if (request.getResponse() == null) {
+            return;
+        }
+        // A representação (JSON, Smile, CBOR ou Protobuf) depende do Accept, então os caches devem considerá-lo
+        request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        String cacheControl = httpCacheProperties.cacheControlFor(route);
+        if (cacheControl != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+    }
+
+    /**
+     * O {@code checkNotModified} já escreveu o ETag e o {@code Last-Modified} da versão consultada.
+     * Se o produto foi alterado depois dela (a entidade carregada é posterior), os headers são
+     * reescritos com a versão efetivamente devolvida no corpo, na mesma representação.
+     */
+    private void refreshValidators(ServletWebRequest request, ProductVersion version, Product product, MediaType representation) {
+        ProductVersion loaded = ProductVersion.of(product);
+        if (!loaded.equals(version) && request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.ETAG, "\"" + EntityTags.of(loaded, representation) + "\"");
+            request.getResponse().setDateHeader(HttpHeaders.LAST_MODIFIED, loaded.updatedAt().toEpochMilli());
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package io.dougluciano.microservices.products.api.controller;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.dto.CursorPageDTO;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.mapper.ProductMapper;
+import io.dougluciano.microservices.products.api.pagination.CursorCodec;
+import io.dougluciano.microservices.products.api.views.Views;
+import io.dougluciano.microservices.products.config.PaginationProperties;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.enumerated.LogMessages;
+import io.dougluciano.microservices.products.service.implementations.ProductReactiveService;
+import io.dougluciano.microservices.products.service.listing.ProductFilter;
+import io.dougluciano.microservices.products.service.listing.ProductSort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controlador REST reativo, somente leitura, para o recurso de Produtos.
+ * <p>
+ * Substitui o {@link ProductController} quando a aplicação sobe com o profile {@code reactive}, atendendo
+ * as mesmas rotas de leitura com o mesmo {@link ProductDTO} e a mesma visão {@link Views.Publico}, para que
+ * os dois caminhos possam ser comparados com a mesma carga. Nenhum método bloqueia: as respostas são
+ * {@link Mono}/{@link Flux} montados sobre as consultas R2DBC do {@link ProductReactiveService}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ProductReactiveController {
+
+    private final ProductReactiveService productService;
+    private final ProductMapper productMapper;
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Endpoint para listar produtos paginados por cursor (keyset), com o mesmo contrato da listagem do
+     * {@link ProductController}: sem parâmetros, devolve a primeira página no tamanho padrão.
+     */
+    @GetMapping
+    @JsonView(Views.Publico.class)
+    public Mono<ResponseEntity<CursorPageDTO<ProductDTO>>> findPage(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer size,
+                                                                    ServerHttpRequest request){
+
+        log.info(LogMessages.FIND_PAGE_REQUEST.getValue(), cursor, size, ProductFilter.NONE, ProductSort.DEFAULT.token());
+
+        int pageSize = paginationProperties.resolveSize(size);
+        Long after = (cursor == null || cursor.isBlank()) ? null : CursorCodec.decodeId(cursor);
+
+        return productService.findPage(after, pageSize).map(page -> {
+            List<Product> products = page.getContent();
+
+            String nextCursor = null;
+            String next = null;
+            if (page.hasNext()) {
+                nextCursor = CursorCodec.encode(products.get(products.size() - 1).getId());
+                next = UriComponentsBuilder.fromUri(request.getURI())
+                        .replaceQueryParam("cursor", nextCursor)
+                        .replaceQueryParam("size", pageSize)
+                        .toUriString();
+            }
+
+            CursorPageDTO<ProductDTO> body = CursorPageDTO.<ProductDTO>builder()
+                    .content(productMapper.toDTOList(products))
+                    .size(pageSize)
+                    .nextCursor(nextCursor)
+                    .next(next)
+                    .build();
+
+            log.info(LogMessages.RESOURCE_FIND_PAGE_SUCCESS.getValue(), products.size());
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (next != null) {
+                response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            }
+            return response.body(body);
+        });
+    }
+
+    /**
+     * Endpoint para exportar o catálogo completo em NDJSON (um produto por linha).
+     * <p>
+     * Cada produto é serializado e enviado assim que lido. O banco só entrega o próximo bloco de linhas
+     * quando o cliente consome o anterior (backpressure), então um cliente lento não faz o catálogo
+     * se acumular em memória.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @JsonView(Views.Publico.class)
+    public Flux<ProductDTO> export(){
+
+        log.info(LogMessages.EXPORT_REQUEST.getValue());
+
+        AtomicLong exported = new AtomicLong();
+        return productService.streamAll()
+                .map(productMapper::toDTO)
+                .doOnNext(dto -> exported.incrementAndGet())
+                .doOnComplete(() -> log.info(LogMessages.RESOURCE_EXPORT_SUCCESS.getValue(), exported.get()));
+    }
+
+    /**
+     * Endpoint para buscar um produto pelo seu ID.
+     */
+    @GetMapping("/{id}")
+    @JsonView(Views.Publico.class)
+    public Mono<ProductDTO> findById(@PathVariable Long id){
+
+        log.info(LogMessages.FIND_BY_ID_REQUEST.getValue(), id);
+
+        return productService.findById(id)
+                .map(productMapper::toDTO)
+                .doOnNext(dto -> log.info(LogMessages.RESOURCE_BY_ID_FOUND_SUCCESS.getValue(), id));
+    }
+
+    /**
+     * Endpoint para buscar um produto pelo seu SKU.
+     */
+    @GetMapping("/sku/{sku}")
+    @JsonView(Views.Publico.class)
+    public Mono<ProductDTO> findBySku(@PathVariable String sku){
+
+        log.info(LogMessages.FIND_BY_SKU_REQUEST.getValue(), sku);
+
+        return productService.findBySku(sku)
+                .map(productMapper::toDTO)
+                .doOnNext(dto -> log.info(LogMessages.RESOURCE_BY_SKU_FOUND_SUCCESS.getValue(), sku));
+    }
+}
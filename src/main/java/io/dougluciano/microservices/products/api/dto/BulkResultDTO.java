@@ -0,0 +1,40 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.views.Views;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta das operações em massa executadas em blocos.
+ */
+@Data
+@NoArgsConstructor
+public class BulkResultDTO {
+
+    /**
+     * O total de linhas alteradas.
+     */
+    @JsonView(Views.Publico.class)
+    private int affectedRows;
+
+    /**
+     * O tempo total da operação, em milissegundos.
+     */
+    @JsonView(Views.Publico.class)
+    private long elapsedMillis;
+
+    /**
+     * As linhas alteradas e o tempo de cada bloco.
+     */
+    @JsonView(Views.Publico.class)
+    private List<ChunkResultDTO> chunks;
+
+    /**
+     * Os IDs ou SKUs informados que não correspondem a nenhum produto.
+     */
+    @JsonView(Views.Publico.class)
+    private List<String> notFound;
+}
@@ -0,0 +1,23 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.views.Views;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado de um bloco (uma transação) de uma operação em massa.
+ */
+@Data
+@NoArgsConstructor
+public class ChunkResultDTO {
+
+    @JsonView(Views.Publico.class)
+    private int chunk;
+
+    @JsonView(Views.Publico.class)
+    private int affectedRows;
+
+    @JsonView(Views.Publico.class)
+    private long elapsedMillis;
+}
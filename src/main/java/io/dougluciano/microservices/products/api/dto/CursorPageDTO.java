@@ -0,0 +1,46 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.views.Views;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para listagens paginadas por cursor (keyset).
+ * <p>
+ * Os campos são marcados com {@link Views.Publico} porque o Spring Boot desabilita a
+ * inclusão por padrão de campos sem {@code @JsonView}; sem a anotação, o envelope seria
+ * serializado vazio nos endpoints que utilizam visões.
+ *
+ * @param <T> o tipo dos itens da página.
+ */
+@Getter
+@Builder
+public class CursorPageDTO<T> {
+
+    /**
+     * Os itens da página atual.
+     */
+    @JsonView(Views.Publico.class)
+    private List<T> content;
+
+    /**
+     * O tamanho de página efetivamente aplicado (após o limite máximo).
+     */
+    @JsonView(Views.Publico.class)
+    private Integer size;
+
+    /**
+     * Cursor opaco para buscar a próxima página, ou {@code null} se esta for a última.
+     */
+    @JsonView(Views.Publico.class)
+    private String nextCursor;
+
+    /**
+     * URL completa da próxima página, ou {@code null} se esta for a última.
+     */
+    @JsonView(Views.Publico.class)
+    private String next;
+}
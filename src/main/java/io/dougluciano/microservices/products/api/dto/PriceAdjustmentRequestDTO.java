@@ -0,0 +1,37 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de entrada para o reajuste percentual dos preços dos produtos que atendem a um filtro.
+ * Os critérios do filtro são opcionais; sem nenhum critério, todos os produtos são reajustados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceAdjustmentRequestDTO {
+
+    /**
+     * O percentual do reajuste (ex: {@code 10} para +10%, {@code -5} para -5%).
+     */
+    @NotNull(message = "O percentual não pode ser nulo.")
+    @DecimalMin(value = "-99.99", message = "O percentual deve ser maior que -100.")
+    @DecimalMax(value = "1000", message = "O percentual deve ser de no máximo 1000.")
+    private BigDecimal percentage;
+
+    private String skuPrefix;
+
+    @PositiveOrZero(message = "O preço mínimo não pode ser negativo.")
+    private BigDecimal minPrice;
+
+    @PositiveOrZero(message = "O preço máximo não pode ser negativo.")
+    private BigDecimal maxPrice;
+}
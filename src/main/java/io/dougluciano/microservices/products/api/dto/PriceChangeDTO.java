@@ -0,0 +1,36 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO com o novo preço de um produto, identificado pelo ID ou pelo SKU (exatamente um dos dois).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceChangeDTO {
+
+    private Long id;
+
+    private String sku;
+
+    @NotNull(message = "O preço não pode ser nulo.")
+    @Positive(message = "O preço deve ser um valor positivo.")
+    @Digits(integer = 8, fraction = 2, message = "O preço deve ter no máximo 8 dígitos inteiros e 2 decimais.")
+    private BigDecimal price;
+
+    @JsonIgnore
+    @AssertTrue(message = "Informe o ID ou o SKU do produto, mas não ambos.")
+    public boolean isIdentified() {
+        return (id != null) != (sku != null && !sku.isBlank());
+    }
+}
@@ -0,0 +1,28 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de entrada para a atualização de preços em massa a partir de uma lista explícita.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdateRequestDTO {
+
+    /**
+     * Quantidade máxima de preços aceita em uma única requisição.
+     */
+    public static final int MAX_ITEMS = 50_000;
+
+    @NotEmpty(message = "A lista de preços não pode ser vazia.")
+    @Size(max = MAX_ITEMS, message = "A lista de preços deve ter no máximo " + MAX_ITEMS + " itens.")
+    private List<@Valid PriceChangeDTO> prices;
+}
@@ -0,0 +1,33 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.views.Views;
+import io.dougluciano.microservices.products.service.batch.BatchItemStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado de um item da criação de produtos em lote.
+ */
+@Data
+@NoArgsConstructor
+public class ProductBatchItemDTO {
+
+    /**
+     * A posição do item na lista recebida.
+     */
+    @JsonView(Views.Publico.class)
+    private int index;
+
+    @JsonView(Views.Publico.class)
+    private String sku;
+
+    /**
+     * O ID gerado, ou {@code null} se o item foi rejeitado.
+     */
+    @JsonView(Views.Publico.class)
+    private Long id;
+
+    @JsonView(Views.Publico.class)
+    private BatchItemStatus status;
+}
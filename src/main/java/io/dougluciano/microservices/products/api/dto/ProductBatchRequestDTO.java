@@ -0,0 +1,31 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de entrada para a criação de produtos em lote.
+ * <p>
+ * Cada produto da lista é validado com as mesmas regras do {@link ProductDTO}; um erro em
+ * qualquer item rejeita a requisição inteira, indicando o índice do item (ex: {@code products[3].name}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchRequestDTO {
+
+    /**
+     * Quantidade máxima de produtos aceita em uma única requisição.
+     */
+    public static final int MAX_ITEMS = 1000;
+
+    @NotEmpty(message = "A lista de produtos não pode ser vazia.")
+    @Size(max = MAX_ITEMS, message = "A lista de produtos deve ter no máximo " + MAX_ITEMS + " itens.")
+    private List<@Valid ProductDTO> products;
+}
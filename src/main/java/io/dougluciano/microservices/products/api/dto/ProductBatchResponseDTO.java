@@ -0,0 +1,36 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.views.Views;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para a criação de produtos em lote.
+ * <p>
+ * Os campos são marcados com {@link Views.Publico} pelo mesmo motivo do {@link CursorPageDTO}.
+ */
+@Getter
+@Builder
+public class ProductBatchResponseDTO {
+
+    /**
+     * Quantidade de produtos criados.
+     */
+    @JsonView(Views.Publico.class)
+    private int created;
+
+    /**
+     * Quantidade de produtos rejeitados.
+     */
+    @JsonView(Views.Publico.class)
+    private int rejected;
+
+    /**
+     * O resultado de cada item, na mesma ordem da requisição.
+     */
+    @JsonView(Views.Publico.class)
+    private List<ProductBatchItemDTO> items;
+}
@@ -0,0 +1,38 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de entrada para a exclusão de produtos em massa, identificados pelo ID e/ou pelo SKU.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDeleteRequestDTO {
+
+    /**
+     * Quantidade máxima de IDs e SKUs (somados) aceita em uma única requisição.
+     */
+    public static final int MAX_ITEMS = 50_000;
+
+    private List<@NotNull Long> ids = new ArrayList<>();
+
+    private List<@NotBlank String> skus = new ArrayList<>();
+
+    @JsonIgnore
+    @AssertTrue(message = "Informe entre 1 e " + MAX_ITEMS + " IDs e/ou SKUs.")
+    public boolean isSizeValid() {
+        int total = (ids == null ? 0 : ids.size()) + (skus == null ? 0 : skus.size());
+        return total > 0 && total <= MAX_ITEMS;
+    }
+}
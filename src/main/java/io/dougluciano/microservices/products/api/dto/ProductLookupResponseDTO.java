@@ -0,0 +1,31 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.views.Views;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da busca de vários produtos.
+ * <p>
+ * Os campos são marcados com {@link Views.Publico} pelo mesmo motivo do {@link CursorPageDTO}.
+ */
+@Getter
+@Builder
+public class ProductLookupResponseDTO {
+
+    /**
+     * Os produtos encontrados, sem repetição: primeiro os buscados pelo ID e depois os buscados pelo SKU,
+     * cada grupo na ordem da requisição.
+     */
+    @JsonView(Views.Publico.class)
+    private List<ProductDTO> products;
+
+    /**
+     * Os IDs ou SKUs informados que não correspondem a nenhum produto ({@code id:<ID>} ou {@code sku:<SKU>}).
+     */
+    @JsonView(Views.Publico.class)
+    private List<String> notFound;
+}
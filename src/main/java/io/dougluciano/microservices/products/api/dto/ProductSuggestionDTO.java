@@ -0,0 +1,24 @@
+package io.dougluciano.microservices.products.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.dougluciano.microservices.products.api.views.Views;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de uma sugestão do autocompletar: apenas o necessário para exibir o produto na lista
+ * e, ao ser escolhido, buscá-lo pelo ID ou pelo SKU.
+ */
+@Data
+@NoArgsConstructor
+public class ProductSuggestionDTO {
+
+    @JsonView(Views.Publico.class)
+    private Long id;
+
+    @JsonView(Views.Publico.class)
+    private String name;
+
+    @JsonView(Views.Publico.class)
+    private String sku;
+}
@@ -0,0 +1,106 @@
+package io.dougluciano.microservices.products.api.http;
+
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
+import io.dougluciano.microservices.products.exception.PreconditionFailedException;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Geração dos ETags das respostas de produtos.
+ * <p>
+ * O ETag de um produto é derivado do ID e da versão ({@code @Version}), então pode ser calculado
+ * tanto a partir da entidade quanto de uma {@link ProductVersion}, sem serializar o corpo. Como a
+ * versão é incrementada a cada alteração, o mesmo ETag é usado no {@code If-Match} das escritas.
+ * <p>
+ * Cada representação negociada pelo {@code Accept} ({@link ProductMediaTypes}) tem o seu próprio ETag: o do
+ * JSON é o da versão, e os das representações binárias levam o tipo como sufixo. Assim, um cliente com o
+ * ETag do JSON não recebe um 304 ao pedir o Protobuf. Os ETags de um produto são fortes, e o Tomcat não
+ * comprime respostas com ETags fortes; os das páginas são fracos ({@code W/}), para que as listagens sejam
+ * comprimidas pelo {@code server.compression} (o corpo comprimido é equivalente, mas não idêntico).
+ */
+public final class EntityTags {
+
+    private static final String VERSION_SEPARATOR = "-v";
+
+    private static final String REPRESENTATION_SEPARATOR = "-";
+
+    private EntityTags() {
+    }
+
+    /**
+     * Gera o ETag de um produto a partir da sua versão.
+     *
+     * @param version a versão do produto.
+     * @return o ETag, sem as aspas.
+     */
+    public static String of(ProductVersion version) {
+        return version.id() + VERSION_SEPARATOR + version.version();
+    }
+
+    /**
+     * Gera o ETag de uma representação de um produto. O do JSON é o mesmo de {@link #of(ProductVersion)},
+     * aceito no {@code If-Match} das escritas.
+     *
+     * @param version a versão do produto.
+     * @param representation a representação negociada ({@link ProductMediaTypes#negotiate(String)}).
+     * @return o ETag, sem as aspas.
+     */
+    public static String of(ProductVersion version, MediaType representation) {
+        String tag = of(version);
+        return ProductMediaTypes.isJson(representation) ? tag : tag + REPRESENTATION_SEPARATOR + representation.getSubtype();
+    }
+
+    /**
+     * Extrai a versão do produto de um header {@code If-Match}. O ETag de qualquer representação
+     * ({@link #of(ProductVersion, MediaType)}) é aceito, já que todas identificam a mesma versão.
+     *
+     * @param ifMatch o valor do header, possivelmente {@code null}.
+     * @param id o ID do produto alvo da requisição.
+     * @return a versão esperada, ou {@code null} se o header não foi informado ou é {@code *}.
+     * @throws PreconditionFailedException se o ETag informado não é de uma versão deste produto.
+     */
+    public static Long parseVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + VERSION_SEPARATOR;
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            String version = tag.substring(prefix.length(), tag.length() - 1);
+            for (MediaType representation : ProductMediaTypes.REPRESENTATIONS) {
+                String suffix = REPRESENTATION_SEPARATOR + representation.getSubtype();
+                if (!ProductMediaTypes.isJson(representation) && version.endsWith(suffix)) {
+                    version = version.substring(0, version.length() - suffix.length());
+                    break;
+                }
+            }
+            try {
+                return Long.parseLong(version);
+            } catch (NumberFormatException ex) {
+                // Tratado abaixo como um ETag que não corresponde ao produto
+            }
+        }
+        throw new PreconditionFailedException("O ETag " + tag + " não corresponde a uma versão do recurso com ID #" + id);
+    }
+
+    /**
+     * Gera o ETag (fraco) de uma página de produtos a partir dos ETags dos itens e dos parâmetros que
+     * alteram o corpo da resposta (representação, tamanho da página e link da próxima página).
+     *
+     * @param versions as versões dos produtos da página.
+     * @param size o tamanho da página.
+     * @param next a URL da próxima página, possivelmente {@code null}.
+     * @param representation a representação negociada ({@link ProductMediaTypes#negotiate(String)}).
+     * @return o ETag, com o prefixo {@code W/} e as aspas.
+     */
+    public static String ofPage(List<ProductVersion> versions, int size, String next, MediaType representation) {
+        StringBuilder content = new StringBuilder().append(representation.getSubtype())
+                .append('|').append(size).append('|').append(next);
+        versions.forEach(version -> content.append('|').append(of(version)));
+        return "W/\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,201 @@
+package io.dougluciano.microservices.products.api.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.config.JsonCacheProperties;
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import io.dougluciano.microservices.products.service.events.ProductsInvalidatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache dos produtos já serializados em JSON (UTF-8), por ID e por visão ({@code @JsonView}).
+ * <p>
+ * Em um acerto, a resposta é escrita diretamente a partir dos bytes guardados, sem mapear a entidade para o
+ * DTO nem passar pelo Jackson. Cada entrada guarda a {@link ProductVersion} que foi serializada e só é usada
+ * quando ela é a versão atual do produto, então uma entrada nunca é mais antiga que o cache de entidades,
+ * mesmo que a escrita não tenha passado pelo {@code ProductService} (ex: o reajuste de preços em massa, que
+ * remove os produtos alterados do cache de entidades).
+ * <p>
+ * Para isso, a versão atual informada em {@link #find} deve ser a de {@code ProductService#findVersion}
+ * (a do produto em cache ou, na falta dele, a lida do banco), e a versão informada em {@link #put} deve
+ * ser a da entidade efetivamente serializada.
+ * <p>
+ * As entradas também são removidas pelos {@link ProductChangedEvent}s, após o commit da transação, e pelos
+ * {@link ProductsInvalidatedEvent}s das demais instâncias, para liberar a memória dos produtos alterados e
+ * excluídos. O total de bytes guardados é limitado por
+ * {@link JsonCacheProperties#maxMemory()}, com a política de despejo do Caffeine (W-TinyLFU).
+ * <p>
+ * Métricas: {@code products.json.cache.requests} (com a tag {@code result} {@code hit} ou {@code miss}),
+ * {@code products.json.cache.hit.ratio}, {@code products.json.cache.bytes} e {@code products.json.cache.evictions}.
+ */
+@Component
+public class ProductJsonCache {
+
+    /**
+     * Estimativa do custo fixo de cada produto guardado: a entrada do Caffeine, o {@link Entry}, a versão
+     * e o mapa das visões.
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Cache<Long, Entry> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductJsonCache(JsonCacheProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxMemory().toBytes())
+                .weigher((Long id, Entry entry) -> entry.bytes())
+                .recordStats()
+                .build();
+
+        this.hits = Counter.builder("products.json.cache.requests")
+                .tag("result", "hit")
+                .description("Respostas servidas pelo cache de JSON dos produtos")
+                .register(registry);
+        this.misses = Counter.builder("products.json.cache.requests")
+                .tag("result", "miss")
+                .description("Respostas que precisaram ser mapeadas e serializadas")
+                .register(registry);
+
+        Gauge.builder("products.json.cache.hit.ratio", this, ProductJsonCache::hitRatio)
+                .description("Proporção de respostas servidas pelo cache de JSON dos produtos desde a subida")
+                .register(registry);
+        Gauge.builder("products.json.cache.bytes", this, ProductJsonCache::estimatedBytes)
+                .description("Memória estimada dos JSONs guardados no cache")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("products.json.cache.evictions", cache, c -> c.stats().evictionCount())
+                .description("Produtos descartados do cache de JSON por falta de memória")
+                .register(registry);
+    }
+
+    /**
+     * Busca o JSON de um produto na visão informada.
+     *
+     * @param id o ID do produto.
+     * @param version a versão atual do produto ({@code ProductService#findVersion}).
+     * @param view a visão do {@code @JsonView} (ex: {@code Views.Publico.class}).
+     * @return o JSON guardado, ou {@code null} se não houver um JSON dessa versão.
+     */
+    public byte[] find(Long id, ProductVersion version, Class<?> view) {
+        Entry entry = enabled ? cache.getIfPresent(id) : null;
+        byte[] json = entry != null && entry.version().equals(version) ? entry.views().get(view) : null;
+
+        (json != null ? hits : misses).increment();
+        return json;
+    }
+
+    /**
+     * Serializa um produto na visão informada e guarda o JSON. Um JSON de outra versão do mesmo produto
+     * é descartado, junto com as suas outras visões.
+     *
+     * @param id o ID do produto.
+     * @param version a versão da entidade serializada.
+     * @param view a visão do {@code @JsonView}.
+     * @param dto o DTO do produto nessa versão.
+     * @return o JSON do produto, em UTF-8.
+     */
+    public byte[] put(Long id, ProductVersion version, Class<?> view, ProductDTO dto) {
+        byte[] json = serialize(view, dto);
+        if (!enabled) {
+            return json;
+        }
+
+        cache.asMap().compute(id, (key, current) -> {
+            Map<Class<?>, byte[]> views = current != null && current.version().equals(version)
+                    ? new HashMap<>(current.views())
+                    : new HashMap<>();
+            views.put(view, json);
+            return new Entry(version, Map.copyOf(views));
+        });
+        return json;
+    }
+
+    /**
+     * Remove um produto do cache.
+     *
+     * @param id o ID do produto.
+     */
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Remove do cache o produto criado, alterado ou excluído, após o commit da transação
+     * (ou imediatamente, se o evento for publicado fora de uma transação).
+     *
+     * @param event o evento publicado pelo serviço.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.id());
+    }
+
+    /**
+     * Remove do cache os produtos alterados em outra instância do serviço, ou todos eles.
+     *
+     * @param event o evento publicado pela escuta das invalidações.
+     */
+    @EventListener
+    public void onProductsInvalidated(ProductsInvalidatedEvent event) {
+        if (event.all()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.ids());
+        }
+    }
+
+    private byte[] serialize(Class<?> view, ProductDTO dto) {
+        try {
+            return writers.computeIfAbsent(view, objectMapper::writerWithView).writeValueAsBytes(dto);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private long estimatedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * Um produto guardado: a versão serializada e o JSON de cada visão.
+     */
+    private record Entry(ProductVersion version, Map<Class<?>, byte[]> views) {
+
+        int bytes() {
+            int bytes = ENTRY_OVERHEAD_BYTES;
+            for (byte[] json : views.values()) {
+                bytes += json.length;
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.dougluciano.microservices.products.api.http;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Os tipos de mídia das representações dos produtos, negociados pelo header {@code Accept}.
+ * <p>
+ * O JSON continua sendo a representação padrão. As representações binárias (Smile, CBOR e Protobuf) são
+ * destinadas à comunicação entre serviços, em que o tamanho e o custo de leitura do JSON pesam nas listagens.
+ */
+public final class ProductMediaTypes {
+
+    /**
+     * JSON binário do Jackson (Smile).
+     */
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * CBOR (RFC 8949).
+     */
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+
+    /**
+     * Protobuf, com os esquemas de {@code src/main/proto/products.proto}.
+     */
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    /**
+     * As representações dos produtos, na ordem dos conversores do Spring MVC: em um empate, vale a primeira.
+     */
+    static final List<MediaType> REPRESENTATIONS =
+            List.of(MediaType.APPLICATION_JSON, APPLICATION_SMILE, APPLICATION_CBOR, APPLICATION_PROTOBUF);
+
+    private ProductMediaTypes() {
+    }
+
+    /**
+     * Resolve a representação que a negociação do Spring MVC escolherá para o header {@code Accept}, para que
+     * o ETag possa ser calculado antes do corpo.
+     * <p>
+     * Segue o mesmo critério do Spring MVC: cada tipo aceito é combinado com as representações compatíveis,
+     * que são ordenadas pela qualidade ({@code q}) e pela especificidade do tipo aceito; em um empate, vale
+     * a ordem do header e depois a dos conversores. Sem o header, com um header inválido ou sem nenhum tipo
+     * compatível, o JSON é a representação padrão. Curingas ({@code *}{@code /*}, {@code application/*})
+     * também resultam em JSON.
+     *
+     * @param accept o valor do header {@code Accept}, possivelmente {@code null}.
+     * @return uma das representações dos produtos, sem parâmetros.
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> compatible = new ArrayList<>();
+        for (MediaType acceptedType : accepted) {
+            for (MediaType representation : REPRESENTATIONS) {
+                if (acceptedType.isCompatibleWith(representation)) {
+                    MediaType candidate = representation.copyQualityValue(acceptedType);
+                    compatible.add(acceptedType.isLessSpecific(candidate) ? candidate : acceptedType);
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+
+        return compatible.stream()
+                .filter(mediaType -> mediaType.getQualityValue() > 0)
+                .flatMap(mediaType -> REPRESENTATIONS.stream().filter(mediaType::equalsTypeAndSubtype))
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Verifica se uma representação é o JSON.
+     *
+     * @param representation a representação, como devolvida por {@link #negotiate(String)}.
+     * @return {@code true} se for o JSON.
+     */
+    public static boolean isJson(MediaType representation) {
+        return MediaType.APPLICATION_JSON.equalsTypeAndSubtype(representation);
+    }
+}
@@ -0,0 +1,133 @@
+package io.dougluciano.microservices.products.api.http;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import io.dougluciano.microservices.products.api.dto.CursorPageDTO;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.dto.ProductLookupResponseDTO;
+import io.dougluciano.microservices.products.api.mapper.ProductProtobufMapper;
+import io.dougluciano.microservices.products.api.protobuf.ProductProtos;
+import io.dougluciano.microservices.products.api.views.Views;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Escreve as respostas de produtos em Protobuf ({@link ProductMediaTypes#APPLICATION_PROTOBUF}) e lê os
+ * produtos enviados nesse formato.
+ * <p>
+ * Os controladores continuam devolvendo os DTOs; este conversor os transforma nas mensagens de
+ * {@code products.proto} com o {@link ProductProtobufMapper}. São suportados o {@link ProductDTO}, as listas
+ * de {@link ProductDTO}, o {@link CursorPageDTO} de {@link ProductDTO} e o {@link ProductLookupResponseDTO};
+ * para as demais respostas (ex: os erros), o cliente deve aceitar também JSON.
+ * <p>
+ * A visão do {@code @JsonView} do endpoint chega como um {@link MappingJacksonValue}
+ * (ver {@link ProtobufJsonViewResponseBodyAdvice}), como nos conversores do Jackson: os campos de auditoria só
+ * são escritos quando a visão inclui {@link Views.Interno}, ou quando não há visão.
+ */
+public class ProductProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    /**
+     * As respostas suportadas, identificadas pelo tipo declarado no controlador.
+     */
+    private enum Shape {
+        SINGLE, LIST, PAGE, LOOKUP
+    }
+
+    public ProductProtobufHttpMessageConverter() {
+        super(ProductMediaTypes.APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProductDTO.class == clazz
+                || CursorPageDTO.class == clazz
+                || ProductLookupResponseDTO.class == clazz
+                || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type == ProductDTO.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && shapeOf(type, clazz) != null;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ProductDTO.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return ProductProtobufMapper.toDTO(ProductProtos.Product.parseFrom(inputMessage.getBody()));
+        } catch (InvalidProtocolBufferException ex) {
+            throw new HttpMessageNotReadableException("Produto em Protobuf inválido: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Class<?> view = null;
+        Object value = object;
+        if (object instanceof MappingJacksonValue wrapper) {
+            view = wrapper.getSerializationView();
+            value = wrapper.getValue();
+        }
+        boolean internal = view == null || Views.Interno.class.isAssignableFrom(view);
+
+        Shape shape = shapeOf(type, value.getClass());
+        if (shape == null) {
+            throw new IllegalStateException("Resposta sem representação Protobuf: " + value.getClass().getName());
+        }
+
+        Message message = switch (shape) {
+            case SINGLE -> ProductProtobufMapper.toMessage((ProductDTO) value, internal);
+            case LIST -> ProductProtobufMapper.toMessage((List<ProductDTO>) value, internal);
+            case PAGE -> ProductProtobufMapper.toMessage((CursorPageDTO<ProductDTO>) value, internal);
+            case LOOKUP -> ProductProtobufMapper.toMessage((ProductLookupResponseDTO) value, internal);
+        };
+        message.writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * Identifica a resposta pelo tipo declarado no controlador ou, quando ele não é conhecido
+     * (ex: {@code ResponseEntity<?>}), pela classe do valor. As listas e páginas só são suportadas quando
+     * o tipo declarado informa que os itens são {@link ProductDTO}.
+     */
+    private static Shape shapeOf(Type type, Class<?> clazz) {
+        ResolvableType declared = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        Class<?> raw = declared.resolve(Object.class);
+        if (raw == Object.class) {
+            declared = ResolvableType.forClass(clazz);
+            raw = clazz;
+        }
+
+        if (ProductDTO.class == raw) {
+            return Shape.SINGLE;
+        }
+        if (ProductLookupResponseDTO.class == raw) {
+            return Shape.LOOKUP;
+        }
+        if (CursorPageDTO.class == raw && declared.resolveGeneric(0) == ProductDTO.class) {
+            return Shape.PAGE;
+        }
+        if (List.class.isAssignableFrom(raw) && declared.asCollection().resolveGeneric(0) == ProductDTO.class) {
+            return Shape.LIST;
+        }
+        return null;
+    }
+}
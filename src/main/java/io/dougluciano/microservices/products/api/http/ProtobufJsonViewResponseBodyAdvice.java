@@ -0,0 +1,27 @@
+package io.dougluciano.microservices.products.api.http;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.JsonViewResponseBodyAdvice;
+
+/**
+ * Aplica o {@code @JsonView} dos endpoints também às respostas em Protobuf.
+ * <p>
+ * O {@link JsonViewResponseBodyAdvice} do Spring só atua sobre os conversores do Jackson (JSON, Smile e CBOR).
+ * Este advice reaproveita a mesma lógica para o {@link ProductProtobufHttpMessageConverter}: o corpo é
+ * envolvido em um {@code MappingJacksonValue} com a visão do endpoint, que o conversor usa para decidir
+ * quais campos escrever.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProtobufJsonViewResponseBodyAdvice extends JsonViewResponseBodyAdvice {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return ProductProtobufHttpMessageConverter.class.isAssignableFrom(converterType)
+                && returnType.hasMethodAnnotation(JsonView.class);
+    }
+}
@@ -1,7 +1,18 @@
 package io.dougluciano.microservices.products.api.mapper;
 
+import io.dougluciano.microservices.products.api.dto.BulkResultDTO;
+import io.dougluciano.microservices.products.api.dto.PriceAdjustmentRequestDTO;
+import io.dougluciano.microservices.products.api.dto.PriceChangeDTO;
+import io.dougluciano.microservices.products.api.dto.ProductBatchItemDTO;
 import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.dto.ProductSuggestionDTO;
 import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import io.dougluciano.microservices.products.service.batch.BatchItemResult;
+import io.dougluciano.microservices.products.service.batch.BulkResult;
+import io.dougluciano.microservices.products.service.batch.PriceChange;
+import io.dougluciano.microservices.products.service.batch.PriceFilter;
+import io.dougluciano.microservices.products.service.suggestion.ProductSuggestion;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -28,6 +39,22 @@ public interface ProductMapper {
      */
     ProductDTO toDTO(Product product);
 
+    /**
+     * Converte o modelo de leitura {@link ProductSummary} para um {@link ProductDTO}.
+     * <p>
+     * Os campos de criação e de autoria não fazem parte do modelo de leitura e ficam nulos; eles só
+     * aparecem na visão interna, que não é usada pelos endpoints de leitura em lote.
+     *
+     * @param summary o modelo de leitura a ser convertido.
+     * @return o DTO correspondente.
+     */
+    @Mappings({
+            @Mapping(target = "createdAt", ignore = true),
+            @Mapping(target = "createdBy", ignore = true),
+            @Mapping(target = "updatedBy", ignore = true)
+    })
+    ProductDTO toDTO(ProductSummary summary);
+
     /**
      * Converte um {@link ProductDTO} para uma entidade {@link Product}.
      *
@@ -36,6 +63,67 @@ public interface ProductMapper {
      */
     Product toEntity(ProductDTO productDTO);
 
+    /**
+     * Converte uma lista de {@link ProductDTO} para novas entidades, ainda não persistidas.
+     * <p>
+     * Usa {@link #toEntity(ProductDTO)}, que monta a entidade pelo builder do Lombok: o builder só tem os
+     * campos do próprio {@link Product}, então o ID e os campos de auditoria nunca são copiados do DTO.
+     * Um ID informado pelo cliente faria o Spring Data tratar a entidade como existente ({@code merge}),
+     * com um SELECT extra por item.
+     *
+     * @param productDTOs a lista de DTOs a ser convertida.
+     * @return a lista de novas entidades, sem ID.
+     */
+    List<Product> toNewEntityList(List<ProductDTO> productDTOs);
+
+    /**
+     * Converte o resultado de um item do lote para o seu DTO.
+     *
+     * @param result o resultado do item.
+     * @return o DTO correspondente.
+     */
+    ProductBatchItemDTO toBatchItemDTO(BatchItemResult result);
+
+    /**
+     * Converte os resultados de um lote para a lista de DTOs.
+     *
+     * @param results os resultados dos itens.
+     * @return a lista de DTOs correspondente.
+     */
+    List<ProductBatchItemDTO> toBatchItemDTOList(List<BatchItemResult> results);
+
+    /**
+     * Converte as sugestões do autocompletar para a lista de DTOs.
+     *
+     * @param suggestions as sugestões.
+     * @return a lista de DTOs correspondente.
+     */
+    List<ProductSuggestionDTO> toSuggestionDTOList(List<ProductSuggestion> suggestions);
+
+    /**
+     * Converte os novos preços recebidos na API para o formato do serviço de reajuste.
+     *
+     * @param priceChangeDTOs os novos preços.
+     * @return a lista correspondente.
+     */
+    List<PriceChange> toPriceChangeList(List<PriceChangeDTO> priceChangeDTOs);
+
+    /**
+     * Extrai o filtro de produtos de uma requisição de reajuste percentual.
+     *
+     * @param request a requisição de reajuste.
+     * @return o filtro correspondente.
+     */
+    PriceFilter toPriceFilter(PriceAdjustmentRequestDTO request);
+
+    /**
+     * Converte o resultado de uma operação em massa para o seu DTO.
+     *
+     * @param result o resultado da operação.
+     * @return o DTO correspondente.
+     */
+    BulkResultDTO toBulkResultDTO(BulkResult result);
+
     /**
      * Converte uma lista de entidades {@link Product} para uma lista de {@link ProductDTO}.
      * O MapStruct automaticamente sabe como usar o método {@code toDTO} para cada item da lista.
@@ -45,6 +133,14 @@ public interface ProductMapper {
      */
     List<ProductDTO> toDTOList(List<Product> products);
 
+    /**
+     * Converte uma lista de {@link ProductSummary} para uma lista de {@link ProductDTO}.
+     *
+     * @param summaries a lista de modelos de leitura a ser convertida.
+     * @return a lista de DTOs correspondente.
+     */
+    List<ProductDTO> toSummaryDTOList(List<ProductSummary> summaries);
+
 
     /**
      * Atualiza uma entidade {@link Product} existente com os dados de um {@link ProductDTO}.
@@ -54,17 +150,39 @@ public interface ProductMapper {
      * Isso é crucial para atualizações com o JPA, pois preserva o estado da entidade gerenciada.
      * <p>
      * <b>[ATENÇÃO]</b> As anotações {@code @Mapping} com {@code ignore = true} são usadas
-     * para proteger campos que não devem ser alterados em uma atualização, como o ID
-     * e os campos de data/usuário de criação.
+     * para proteger campos que não devem ser alterados em uma atualização, como o ID,
+     * a versão (controlada pelo Hibernate) e os campos de data/usuário de criação.
      *
      * @param productDTO o DTO com os dados de origem.
      * @param product    a entidade que será atualizada (o alvo do mapeamento).
      */
     @Mappings({
             @Mapping(target = "id", ignore = true),
+            @Mapping(target = "version", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
             @Mapping(target = "createdBy", ignore = true)
     })
     void updateEntityFromDTO(ProductDTO productDTO, @MappingTarget Product product);
 
+    /**
+     * Aplica a uma entidade {@link Product} gerenciada apenas os campos editáveis de um {@link ProductDTO}
+     * (nome, descrição e preço), usado pelo PATCH após o merge e a validação do DTO.
+     * <p>
+     * O SKU, a versão e os campos de auditoria nunca são copiados do DTO. Campos com o mesmo valor
+     * não marcam a entidade como alterada, então o UPDATE contém apenas as colunas que mudaram.
+     *
+     * @param productDTO o DTO com o resultado do merge.
+     * @param product    a entidade gerenciada que será atualizada.
+     */
+    @Mappings({
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "sku", ignore = true),
+            @Mapping(target = "version", ignore = true),
+            @Mapping(target = "createdAt", ignore = true),
+            @Mapping(target = "createdBy", ignore = true),
+            @Mapping(target = "updatedAt", ignore = true),
+            @Mapping(target = "updatedBy", ignore = true)
+    })
+    void applyChanges(ProductDTO productDTO, @MappingTarget Product product);
+
 }
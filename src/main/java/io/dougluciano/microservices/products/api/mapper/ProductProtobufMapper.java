@@ -0,0 +1,163 @@
+package io.dougluciano.microservices.products.api.mapper;
+
+import com.google.protobuf.Timestamp;
+import io.dougluciano.microservices.products.api.dto.CursorPageDTO;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.dto.ProductLookupResponseDTO;
+import io.dougluciano.microservices.products.api.protobuf.ProductProtos;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Conversões entre os DTOs de produto e as mensagens Protobuf de {@code products.proto}.
+ * <p>
+ * Escrito à mão, e não com o MapStruct, porque as mensagens são imutáveis e montadas por builders que não
+ * aceitam {@code null}: os campos ausentes do DTO simplesmente não são definidos na mensagem. O parâmetro
+ * {@code internal} reproduz as visões do Jackson: os campos de auditoria ({@code Views.Interno}) só são
+ * escritos quando a visão ativa os inclui.
+ */
+public final class ProductProtobufMapper {
+
+    private ProductProtobufMapper() {
+    }
+
+    /**
+     * Converte um {@link ProductDTO} para a sua mensagem.
+     *
+     * @param dto o DTO a ser convertido.
+     * @param internal se os campos de auditoria devem ser incluídos.
+     * @return a mensagem correspondente.
+     */
+    public static ProductProtos.Product toMessage(ProductDTO dto, boolean internal) {
+        ProductProtos.Product.Builder message = ProductProtos.Product.newBuilder();
+        if (dto.getId() != null) {
+            message.setId(dto.getId());
+        }
+        if (dto.getName() != null) {
+            message.setName(dto.getName());
+        }
+        if (dto.getDescription() != null) {
+            message.setDescription(dto.getDescription());
+        }
+        if (dto.getPrice() != null) {
+            message.setPrice(dto.getPrice().toPlainString());
+        }
+        if (dto.getSku() != null) {
+            message.setSku(dto.getSku());
+        }
+
+        if (internal) {
+            if (dto.getCreatedAt() != null) {
+                message.setCreatedAt(toTimestamp(dto.getCreatedAt()));
+            }
+            if (dto.getCreatedBy() != null) {
+                message.setCreatedBy(dto.getCreatedBy());
+            }
+            if (dto.getUpdatedAt() != null) {
+                message.setUpdatedAt(toTimestamp(dto.getUpdatedAt()));
+            }
+            if (dto.getUpdatedBy() != null) {
+                message.setUpdatedBy(dto.getUpdatedBy());
+            }
+        }
+        return message.build();
+    }
+
+    /**
+     * Converte uma lista de {@link ProductDTO} para a mensagem da listagem.
+     *
+     * @param dtos os DTOs a serem convertidos.
+     * @param internal se os campos de auditoria devem ser incluídos.
+     * @return a mensagem correspondente.
+     */
+    public static ProductProtos.ProductList toMessage(List<ProductDTO> dtos, boolean internal) {
+        ProductProtos.ProductList.Builder message = ProductProtos.ProductList.newBuilder();
+        dtos.forEach(dto -> message.addProducts(toMessage(dto, internal)));
+        return message.build();
+    }
+
+    /**
+     * Converte uma página de {@link ProductDTO} para a mensagem da página.
+     *
+     * @param page a página a ser convertida.
+     * @param internal se os campos de auditoria devem ser incluídos.
+     * @return a mensagem correspondente.
+     */
+    public static ProductProtos.ProductPage toMessage(CursorPageDTO<ProductDTO> page, boolean internal) {
+        ProductProtos.ProductPage.Builder message = ProductProtos.ProductPage.newBuilder();
+        if (page.getContent() != null) {
+            page.getContent().forEach(dto -> message.addContent(toMessage(dto, internal)));
+        }
+        if (page.getSize() != null) {
+            message.setSize(page.getSize());
+        }
+        if (page.getNextCursor() != null) {
+            message.setNextCursor(page.getNextCursor());
+        }
+        if (page.getNext() != null) {
+            message.setNext(page.getNext());
+        }
+        return message.build();
+    }
+
+    /**
+     * Converte a resposta da busca de vários produtos para a sua mensagem.
+     *
+     * @param lookup a resposta a ser convertida.
+     * @param internal se os campos de auditoria devem ser incluídos.
+     * @return a mensagem correspondente.
+     */
+    public static ProductProtos.ProductLookup toMessage(ProductLookupResponseDTO lookup, boolean internal) {
+        ProductProtos.ProductLookup.Builder message = ProductProtos.ProductLookup.newBuilder();
+        if (lookup.getProducts() != null) {
+            lookup.getProducts().forEach(dto -> message.addProducts(toMessage(dto, internal)));
+        }
+        if (lookup.getNotFound() != null) {
+            message.addAllNotFound(lookup.getNotFound());
+        }
+        return message.build();
+    }
+
+    /**
+     * Converte uma mensagem para um {@link ProductDTO}, usado nas requisições com corpo Protobuf.
+     *
+     * @param message a mensagem a ser convertida.
+     * @return o DTO correspondente; os campos ausentes na mensagem ficam {@code null}.
+     */
+    public static ProductDTO toDTO(ProductProtos.Product message) {
+        ProductDTO dto = new ProductDTO();
+        dto.setId(message.hasId() ? message.getId() : null);
+        dto.setName(message.getName().isEmpty() ? null : message.getName());
+        dto.setDescription(message.hasDescription() ? message.getDescription() : null);
+        dto.setPrice(message.getPrice().isEmpty() ? null : new BigDecimal(message.getPrice()));
+        dto.setSku(message.getSku().isEmpty() ? null : message.getSku());
+        dto.setCreatedAt(message.hasCreatedAt() ? toInstant(message.getCreatedAt()) : null);
+        dto.setCreatedBy(message.hasCreatedBy() ? message.getCreatedBy() : null);
+        dto.setUpdatedAt(message.hasUpdatedAt() ? toInstant(message.getUpdatedAt()) : null);
+        dto.setUpdatedBy(message.hasUpdatedBy() ? message.getUpdatedBy() : null);
+        return dto;
+    }
+
+    /**
+     * Converte a mensagem da listagem para uma lista de {@link ProductDTO}.
+     *
+     * @param message a mensagem a ser convertida.
+     * @return os DTOs correspondentes.
+     */
+    public static List<ProductDTO> toDTOList(ProductProtos.ProductList message) {
+        return message.getProductsList().stream().map(ProductProtobufMapper::toDTO).toList();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+}
@@ -0,0 +1,84 @@
+package io.dougluciano.microservices.products.api.pagination;
+
+import io.dougluciano.microservices.products.exception.InvalidCursorException;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Codificador dos cursores opacos usados na paginação por keyset.
+ * <p>
+ * Um cursor guarda os valores das chaves de ordenação do último registro entregue
+ * (na listagem padrão, apenas o {@code id}). Os valores são serializados como texto,
+ * unidos por vírgula e codificados em Base64 URL-safe, de modo que o cliente não
+ * dependa do formato interno e possa repassar o cursor diretamente na query string.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ",";
+
+    /**
+     * Construtor privado para impedir a instância da classe utilitária
+     */
+    private CursorCodec(){}
+
+    /**
+     * Gera um cursor opaco a partir dos valores das chaves de ordenação.
+     *
+     * @param keys os valores das chaves, na ordem em que serão lidos por {@link #decode(String, int)}.
+     * @return o cursor codificado.
+     */
+    public static String encode(Object... keys) {
+        String joined = Arrays.stream(keys)
+                .map(key -> URLEncoder.encode(String.valueOf(key), StandardCharsets.UTF_8))
+                .collect(Collectors.joining(SEPARATOR));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor gerado por {@link #encode(Object...)}.
+     *
+     * @param cursor o cursor recebido do cliente.
+     * @param expectedKeys a quantidade de chaves esperada no cursor.
+     * @return os valores das chaves, como texto.
+     * @throws InvalidCursorException se o cursor estiver malformado.
+     */
+    public static List<String> decode(String cursor, int expectedKeys) {
+        String joined;
+        try {
+            joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        String[] parts = joined.split(SEPARATOR, -1);
+        if (parts.length != expectedKeys) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        return Arrays.stream(parts)
+                .map(part -> URLDecoder.decode(part, StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    /**
+     * Decodifica um cursor que contém apenas o {@code id} do último registro entregue.
+     *
+     * @param cursor o cursor recebido do cliente.
+     * @return o ID contido no cursor.
+     * @throws InvalidCursorException se o cursor estiver malformado.
+     */
+    public static Long decodeId(String cursor) {
+        try {
+            return Long.valueOf(decode(cursor, 1).get(0));
+        } catch (NumberFormatException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
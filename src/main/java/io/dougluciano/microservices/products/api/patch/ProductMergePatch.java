@@ -0,0 +1,70 @@
+package io.dougluciano.microservices.products.api.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.mapper.ProductMapper;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.exception.InvalidRequestParameterException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Aplicação de um JSON Merge Patch (RFC 7396) a um produto.
+ * <p>
+ * O patch é aplicado sobre o {@link ProductDTO} do estado atual: campos presentes substituem o valor
+ * atual, campos com {@code null} o removem e campos ausentes permanecem como estão. O resultado do merge
+ * é validado com as mesmas regras do PUT e só então os campos editáveis são copiados para a entidade.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductMergePatch {
+
+    /**
+     * Media type do JSON Merge Patch.
+     */
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final ProductMapper productMapper;
+    private final Validator validator;
+
+    /**
+     * Aplica o patch a uma entidade gerenciada.
+     *
+     * @param patch o documento do patch, que precisa ser um objeto JSON.
+     * @param product a entidade a ser alterada.
+     * @throws InvalidRequestParameterException se o patch não for um objeto JSON válido para um produto ou tentar alterar o SKU.
+     * @throws ConstraintViolationException se o produto resultante não for válido.
+     */
+    public void apply(JsonNode patch, Product product) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestParameterException("O corpo de um JSON Merge Patch deve ser um objeto JSON.");
+        }
+
+        ProductDTO merged;
+        try {
+            merged = objectMapper.readerForUpdating(productMapper.toDTO(product)).readValue(patch);
+        } catch (IOException ex) {
+            throw new InvalidRequestParameterException("JSON Merge Patch inválido para um produto.", ex);
+        }
+
+        Set<ConstraintViolation<ProductDTO>> violations = validator.validate(merged);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        if (!Objects.equals(product.getSku(), merged.getSku())) {
+            throw new InvalidRequestParameterException("O SKU de um produto não pode ser alterado!");
+        }
+
+        productMapper.applyChanges(merged, product);
+    }
+}
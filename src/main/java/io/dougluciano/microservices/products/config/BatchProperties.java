@@ -0,0 +1,17 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades das operações em massa executadas diretamente em SQL, lidas do
+ * {@code application.properties} com o prefixo {@code products.batch}.
+ *
+ * @param chunkSize a quantidade máxima de linhas alteradas por transação. Cada bloco é confirmado
+ *                  separadamente, limitando o tempo em que as linhas ficam bloqueadas.
+ */
+@ConfigurationProperties(prefix = "products.batch")
+public record BatchProperties(
+        @DefaultValue("1000") int chunkSize
+) {
+}
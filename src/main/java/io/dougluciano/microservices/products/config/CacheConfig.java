@@ -0,0 +1,31 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache em memória da aplicação.
+ * <p>
+ * O {@code @EnableCaching} ativa a autoconfiguração de cache do Spring Boot, que cria o
+ * {@link org.springframework.cache.CacheManager} a partir das propriedades {@code spring.cache.*}
+ * do {@code application.properties} (Caffeine, com política de despejo W-TinyLFU) e registra
+ * as métricas de cada cache (acertos, falhas, despejos e tempo de carga) no Micrometer.
+ * <p>
+ * Com {@code spring.cache.type=none} o Spring Boot fornece um cache que não armazena nada,
+ * desligando o cache sem nenhuma alteração no código.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Nome do cache de produtos indexado pelo ID.
+     */
+    public static final String PRODUCTS_BY_ID = "products";
+
+    /**
+     * Nome do cache que mapeia o SKU de um produto para o seu ID.
+     * Os produtos em si ficam apenas no cache {@link #PRODUCTS_BY_ID}.
+     */
+    public static final String PRODUCTS_BY_SKU = "productsBySku";
+}
@@ -0,0 +1,54 @@
+package io.dougluciano.microservices.products.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.dougluciano.microservices.products.api.http.ProductProtobufHttpMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Representações binárias das respostas, negociadas pelo header {@code Accept}, além do JSON padrão.
+ * <p>
+ * Os conversores Smile e CBOR são criados a partir do {@link Jackson2ObjectMapperBuilder} do Spring Boot,
+ * com as mesmas configurações do {@code ObjectMapper} do JSON (módulos, datas e a exclusão dos campos sem
+ * visão), então as visões {@code @JsonView} valem igualmente para eles. O conversor Protobuf escreve as
+ * mensagens de {@code products.proto} (ver {@link ProductProtobufHttpMessageConverter}).
+ * <p>
+ * Com o Smile e o CBOR no classpath, o Spring MVC já registraria os seus conversores, mas com um
+ * {@code ObjectMapper} próprio, sem as configurações {@code spring.jackson.*}; os beans declarados aqui os
+ * substituem na lista de conversores montada pelo Spring Boot, nas mesmas posições, depois do conversor JSON.
+ * <p>
+ * O conversor Protobuf, por outro lado, não é um bean: o Spring Boot colocaria um conversor de um tipo novo
+ * antes de todos os padrões, e o Protobuf passaria a ser a representação escolhida para as requisições sem
+ * {@code Accept} ou com {@code *}{@code /*}. Ele é acrescentado ao final da lista
+ * ({@link #extendMessageConverters}), então o JSON continua sendo a representação padrão.
+ * <p>
+ * A compressão das respostas é configurada em {@code server.compression.*}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    @Bean
+    MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProductProtobufHttpMessageConverter());
+    }
+}
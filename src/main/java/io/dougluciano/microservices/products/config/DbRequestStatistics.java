@@ -0,0 +1,125 @@
+package io.dougluciano.microservices.products.config;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Contadores do trabalho feito pelo Hibernate durante uma requisição: comandos SQL executados (cada lote
+ * JDBC conta como um), entidades carregadas e flushes.
+ * <p>
+ * As estatísticas globais do Hibernate ({@code hibernate.generate_statistics}) somam todas as requisições;
+ * estes contadores ficam em um {@link ThreadLocal} aberto pelo {@link DbRequestStatisticsInterceptor} no
+ * início da requisição, e são alimentados pelos listeners abaixo, registrados em {@link MetricsConfig}.
+ * Fora de uma requisição (ou em outra thread, como na escrita assíncrona da exportação) nada é contado.
+ */
+public final class DbRequestStatistics {
+
+    private static final ThreadLocal<DbRequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+
+    private int entityLoads;
+
+    private int flushes;
+
+    private DbRequestStatistics() {
+    }
+
+    /**
+     * Abre os contadores da requisição na thread corrente.
+     */
+    static void start() {
+        CURRENT.set(new DbRequestStatistics());
+    }
+
+    /**
+     * Fecha os contadores da thread corrente.
+     *
+     * @return os contadores da requisição, ou {@code null} se nenhum foi aberto.
+     */
+    static DbRequestStatistics stop() {
+        DbRequestStatistics current = CURRENT.get();
+        CURRENT.remove();
+        return current;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    int entityLoads() {
+        return entityLoads;
+    }
+
+    int flushes() {
+        return flushes;
+    }
+
+    private static void onStatement() {
+        DbRequestStatistics current = CURRENT.get();
+        if (current != null) {
+            current.statements++;
+        }
+    }
+
+    private static void onEntityLoad() {
+        DbRequestStatistics current = CURRENT.get();
+        if (current != null) {
+            current.entityLoads++;
+        }
+    }
+
+    private static void onFlush() {
+        DbRequestStatistics current = CURRENT.get();
+        if (current != null) {
+            current.flushes++;
+        }
+    }
+
+    /**
+     * Listener instanciado pelo Hibernate para cada sessão ({@code hibernate.session.events.auto}).
+     */
+    public static class SessionListener implements SessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            onStatement();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            onStatement();
+        }
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            onFlush();
+        }
+    }
+
+    /**
+     * Registra a contagem de entidades carregadas no evento {@code POST_LOAD} do Hibernate.
+     */
+    static class LoadCountingIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry()
+                    .getService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) (PostLoadEvent event) -> onEntityLoad());
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            // Nada a liberar: o listener não guarda estado
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.dougluciano.microservices.products.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Abre os contadores de {@link DbRequestStatistics} no início de cada requisição atendida por um
+ * controlador e, ao final, registra o total da requisição nas distribuições {@code products.db.statements},
+ * {@code products.db.entity.loads} e {@code products.db.flushes}, com a tag {@code operation} (o nome do
+ * método do controlador, ex: {@code findById}).
+ */
+@RequiredArgsConstructor
+public class DbRequestStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            DbRequestStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // A resposta continua em outra thread (ex: exportação em streaming); os contadores desta thread são descartados
+        DbRequestStatistics.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DbRequestStatistics statistics = DbRequestStatistics.stop();
+        if (statistics == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        String operation = handlerMethod.getMethod().getName();
+        record("products.db.statements", "Comandos SQL executados por requisição", operation, statistics.statements());
+        record("products.db.entity.loads", "Entidades carregadas por requisição", operation, statistics.entityLoads());
+        record("products.db.flushes", "Flushes do Hibernate por requisição", operation, statistics.flushes());
+    }
+
+    private void record(String name, String description, String operation, int amount) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
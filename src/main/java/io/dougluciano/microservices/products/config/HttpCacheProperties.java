@@ -0,0 +1,50 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Propriedades de cache HTTP das respostas, lidas do {@code application.properties}
+ * com o prefixo {@code products.http}.
+ *
+ * @param cacheControl o valor do header {@code Cache-Control} de cada rota, indexado pelo nome da rota
+ *                     (ex: {@code products.http.cache-control.find-by-id=no-cache}). Rotas sem valor
+ *                     configurado não recebem o header.
+ */
+@ConfigurationProperties(prefix = "products.http")
+public record HttpCacheProperties(
+        @DefaultValue Map<String, String> cacheControl
+) {
+
+    /**
+     * Rota da busca de um produto pelo ID.
+     */
+    public static final String FIND_BY_ID = "find-by-id";
+
+    /**
+     * Rota da busca de um produto pelo SKU.
+     */
+    public static final String FIND_BY_SKU = "find-by-sku";
+
+    /**
+     * Rota da listagem paginada por cursor.
+     */
+    public static final String FIND_PAGE = "find-page";
+
+    /**
+     * Rota das sugestões do autocompletar.
+     */
+    public static final String SUGGEST = "suggest";
+
+    /**
+     * Devolve o {@code Cache-Control} configurado para a rota.
+     *
+     * @param route o nome da rota.
+     * @return o valor do header, ou {@code null} se a rota não tiver configuração.
+     */
+    public String cacheControlFor(String route) {
+        return cacheControl.get(route);
+    }
+}
@@ -0,0 +1,32 @@
+package io.dougluciano.microservices.products.config;
+
+import io.dougluciano.microservices.products.service.invalidation.ProductInvalidationListener;
+import io.dougluciano.microservices.products.service.invalidation.ProductInvalidationPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da invalidação dos caches em memória entre as instâncias do serviço.
+ * <p>
+ * A escuta das notificações ({@link ProductInvalidationListener}) é iniciada e encerrada junto com o contexto,
+ * com a origem do {@link ProductInvalidationPublisher} desta instância, e aplica as invalidações publicando
+ * {@link io.dougluciano.microservices.products.service.events.ProductsInvalidatedEvent}s para os caches.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "products.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class InvalidationConfig {
+
+    @Bean
+    ProductInvalidationListener productInvalidationListener(JdbcConnectionDetails connectionDetails,
+                                                            InvalidationProperties properties,
+                                                            ProductInvalidationPublisher publisher,
+                                                            ApplicationEventPublisher eventPublisher,
+                                                            MeterRegistry registry) {
+        return new ProductInvalidationListener(connectionDetails, properties, publisher.origin(),
+                eventPublisher::publishEvent, registry);
+    }
+}
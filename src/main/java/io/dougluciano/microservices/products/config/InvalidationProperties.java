@@ -0,0 +1,36 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da invalidação dos caches em memória entre as instâncias do serviço ({@code LISTEN/NOTIFY}
+ * do PostgreSQL), lidas do {@code application.properties} com o prefixo {@code products.invalidation}.
+ *
+ * @param enabled se a instância publica e recebe as invalidações. Desligada, os caches de cada instância só
+ *                refletem as escritas feitas por ela mesma (e a expiração configurada).
+ * @param channel o canal do {@code NOTIFY}; todas as instâncias precisam usar o mesmo.
+ * @param coalesceWindow o tempo durante o qual as notificações recebidas são acumuladas antes de serem
+ *                       aplicadas aos caches, em uma única invalidação.
+ * @param reconnectBackoff a espera inicial antes de reconectar após perder a conexão de escuta; dobra a
+ *                         cada falha seguida, até {@code maxReconnectBackoff}.
+ * @param maxReconnectBackoff a espera máxima entre as tentativas de reconexão.
+ * @param validationInterval o intervalo entre as verificações da conexão de escuta. Sem elas, uma conexão
+ *                           interrompida sem aviso (ex: por um firewall) apenas deixaria de receber
+ *                           notificações, sem nunca falhar.
+ * @param validationTimeout o tempo máximo de resposta da conexão de escuta a uma verificação; sem resposta,
+ *                          ela é descartada e a escuta é restabelecida.
+ */
+@ConfigurationProperties(prefix = "products.invalidation")
+public record InvalidationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("product_invalidation") String channel,
+        @DefaultValue("50ms") Duration coalesceWindow,
+        @DefaultValue("1s") Duration reconnectBackoff,
+        @DefaultValue("30s") Duration maxReconnectBackoff,
+        @DefaultValue("10s") Duration validationInterval,
+        @DefaultValue("5s") Duration validationTimeout
+) {
+}
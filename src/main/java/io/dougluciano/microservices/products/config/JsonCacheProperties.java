@@ -0,0 +1,20 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propriedades do cache de respostas JSON já serializadas dos produtos ({@code GET /api/v1/products/{id}}),
+ * lidas do {@code application.properties} com o prefixo {@code products.json-cache}.
+ *
+ * @param enabled se o cache está ligado. Desligado, cada resposta é mapeada e serializada novamente.
+ * @param maxMemory a memória máxima ocupada pelos JSONs guardados. Ao atingi-la, os produtos menos
+ *                  acessados são descartados.
+ */
+@ConfigurationProperties(prefix = "products.json-cache")
+public record JsonCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("32MB") DataSize maxMemory
+) {
+}
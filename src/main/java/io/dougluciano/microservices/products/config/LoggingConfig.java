@@ -0,0 +1,44 @@
+package io.dougluciano.microservices.products.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.dougluciano.microservices.products.api.controller.ProductController;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuração do log das requisições.
+ * <p>
+ * O appender em si (assíncrono, com fila limitada e sem bloquear as threads da aplicação; em JSON com o
+ * profile {@code json-logs}) é definido no {@code logback-spring.xml}. Esta classe registra a amostragem das
+ * linhas INFO dos controladores e o registro das requisições lentas ou com erro
+ * ({@link RequestLoggingInterceptor}), configurados em {@link RequestLoggingProperties}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LoggingConfig implements WebMvcConfigurer {
+
+    private final RequestLoggingProperties properties;
+
+    LoggingConfig(RequestLoggingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(destroyMethod = "stop")
+    SampledRequestLogFilter sampledRequestLogFilter() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        SampledRequestLogFilter filter = new SampledRequestLogFilter(ProductController.class.getPackageName());
+        filter.setContext(loggerContext);
+        filter.start();
+        loggerContext.addTurboFilter(filter);
+        return filter;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestLoggingInterceptor(properties));
+    }
+}
@@ -0,0 +1,66 @@
+package io.dougluciano.microservices.products.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuração das métricas da aplicação, publicadas em {@code /actuator/prometheus}.
+ * <p>
+ * Boa parte das métricas vem do Spring Boot e é ajustada no {@code application.properties} (histogramas e
+ * faixas de SLO): {@code http.server.requests} para cada rota, {@code spring.data.repository.invocations}
+ * para cada método dos repositórios, {@code hikaricp.connections.*} para o pool e {@code hibernate.*} para as
+ * estatísticas globais do Hibernate. Esta classe acrescenta:
+ * <ul>
+ *     <li>o timer {@link #SERVICE_TIMER}, aplicado pelo {@link TimedAspect} às classes de serviço
+ *     anotadas com {@code @Timed};</li>
+ *     <li>o trabalho do Hibernate por requisição ({@link DbRequestStatistics}), agrupado pela operação.</li>
+ * </ul>
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    /**
+     * Nome do timer dos métodos das classes de serviço, com as tags {@code class} e {@code method}.
+     */
+    public static final String SERVICE_TIMER = "products.service";
+
+    @Bean
+    TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer dbRequestStatisticsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, DbRequestStatistics.SessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new DbRequestStatistics.LoadCountingIntegrator()));
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class WebMvcMetricsConfig implements WebMvcConfigurer {
+
+        private final MeterRegistry meterRegistry;
+
+        WebMvcMetricsConfig(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new DbRequestStatisticsInterceptor(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.dougluciano.microservices.products.config;
+
+import io.dougluciano.microservices.products.enumerated.LogMessages;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuração do outbox de alterações de produtos.
+ * <p>
+ * O {@code @EnableScheduling} ativa a execução periódica do relay
+ * ({@link io.dougluciano.microservices.products.service.outbox.ProductOutboxRelay}), no agendador
+ * criado pela autoconfiguração do Spring Boot ({@code spring.task.scheduling.*}).
+ * <p>
+ * Sem um destino em {@code products.outbox.sink}, as alterações não são gravadas no outbox e o relay não é
+ * criado; a situação é registrada em WARN na subida.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class OutboxConfig {
+
+    public OutboxConfig(OutboxProperties properties) {
+        if (properties.sink() == null) {
+            log.warn(LogMessages.OUTBOX_SINK_NOT_CONFIGURED.getValue());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Propriedades do outbox de alterações de produtos e do relay que as entrega, lidas do
+ * {@code application.properties} com o prefixo {@code products.outbox}.
+ *
+ * @param relayEnabled se esta instância executa o relay. Com um destino configurado, as alterações
+ *                     continuam sendo gravadas no outbox mesmo com o relay desligado.
+ * @param batchSize a quantidade máxima de alterações lidas, entregues e removidas por transação.
+ *                  O intervalo entre as leituras ({@code products.outbox.poll-interval}) é lido
+ *                  diretamente pelo {@code @Scheduled} do relay.
+ * @param sink o destino das alterações: {@code http}, ou {@code in-process} e {@code file} com os profiles
+ *             {@code dev} e {@code test}. Sem valor padrão: sem um destino, as alterações não são gravadas
+ *             no outbox e o relay não é criado. As instâncias com o relay desligado também devem informá-lo,
+ *             para que gravem as suas alterações.
+ * @param file as propriedades do destino {@code file}.
+ * @param http as propriedades do destino {@code http}.
+ */
+@ConfigurationProperties(prefix = "products.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("500") int batchSize,
+        String sink,
+        @DefaultValue File file,
+        @DefaultValue Http http
+) {
+
+    /**
+     * Destino que grava as alterações em um arquivo NDJSON local, para testes e desenvolvimento.
+     *
+     * @param path o caminho do arquivo; as alterações são acrescentadas ao final.
+     */
+    public record File(
+            @DefaultValue("target/product-changes.ndjson") Path path
+    ) {
+    }
+
+    /**
+     * Destino que envia cada lote de alterações por HTTP (ex: o proxy REST de um broker de mensagens).
+     *
+     * @param url o endereço que recebe o {@code POST} de cada lote.
+     * @param timeout o tempo máximo de cada envio.
+     */
+    public record Http(
+            URI url,
+            @DefaultValue("5s") Duration timeout
+    ) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades da paginação por cursor, lidas do {@code application.properties}
+ * com o prefixo {@code products.pagination}.
+ *
+ * @param defaultSize o tamanho da página quando o cliente não informa o parâmetro {@code size}.
+ * @param maxSize o limite máximo (hard cap) do tamanho da página, independentemente do que o cliente solicitar.
+ */
+@ConfigurationProperties(prefix = "products.pagination")
+public record PaginationProperties(
+        @DefaultValue("50") int defaultSize,
+        @DefaultValue("500") int maxSize
+) {
+
+    /**
+     * Resolve o tamanho efetivo da página, aplicando o valor padrão e o limite máximo.
+     *
+     * @param requested o tamanho solicitado pelo cliente, possivelmente nulo.
+     * @return um tamanho entre 1 e {@link #maxSize()}.
+     */
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return Math.min(defaultSize, maxSize);
+        }
+        return Math.max(1, Math.min(requested, maxSize));
+    }
+}
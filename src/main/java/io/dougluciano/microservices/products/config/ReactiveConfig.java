@@ -0,0 +1,32 @@
+package io.dougluciano.microservices.products.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Configuração do módulo reativo de leitura, ativa apenas quando a aplicação sobe como WebFlux
+ * ({@code spring.main.web-application-type=reactive}, profile {@code reactive}).
+ * <p>
+ * Como o Tomcat também está no classpath (por causa do Spring MVC), o Spring Boot o escolheria como
+ * servidor reativo; o servidor é fixado no Netty, com event loop e I/O totalmente não bloqueantes.
+ * O acesso ao banco é feito por um {@link DatabaseClient} sobre o pool R2DBC do Spring Boot, sem
+ * repositórios do Spring Data: as consultas são as mesmas do caminho JPA, escritas em SQL.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
@@ -0,0 +1,17 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades do módulo reativo de leitura (profile {@code reactive}), lidas do
+ * {@code application.properties} com o prefixo {@code products.reactive}.
+ *
+ * @param exportFetchSize quantidade de linhas pedidas ao banco por vez na exportação em streaming. O driver
+ *                        só busca o próximo bloco quando o cliente consome o anterior (backpressure).
+ */
+@ConfigurationProperties(prefix = "products.reactive")
+public record ReactiveProperties(
+        @DefaultValue("500") int exportFetchSize
+) {
+}
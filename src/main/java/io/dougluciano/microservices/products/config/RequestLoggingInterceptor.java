@@ -0,0 +1,63 @@
+package io.dougluciano.microservices.products.config;
+
+import io.dougluciano.microservices.products.enumerated.LogMessages;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decide, no início de cada requisição atendida por um controlador, se as suas linhas INFO entram na amostra
+ * configurada para a operação ({@link RequestLoggingProperties#sampleRateFor(String)}); as demais são
+ * descartadas pelo {@link SampledRequestLogFilter}.
+ * <p>
+ * Ao final, as requisições lentas (acima de {@link RequestLoggingProperties#slowThreshold()}) e as que
+ * terminaram com erro (status 4xx/5xx ou exceção) são sempre registradas em WARN, independentemente da amostra.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestLoggingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestLoggingInterceptor.class.getName() + ".start";
+
+    private final RequestLoggingProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            double rate = properties.sampleRateFor(handlerMethod.getMethod().getName());
+            SampledRequestLogFilter.suppress(rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SampledRequestLogFilter.suppress(false);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SampledRequestLogFilter.suppress(false);
+
+        if (!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int status = response.getStatus();
+        if (ex != null || status >= 400) {
+            log.warn(LogMessages.FAILED_REQUEST.getValue(), request.getMethod(), request.getRequestURI(),
+                    handlerMethod.getMethod().getName(), status, elapsedMillis);
+        } else if (elapsedMillis >= properties.slowThreshold().toMillis()) {
+            log.warn(LogMessages.SLOW_REQUEST.getValue(), request.getMethod(), request.getRequestURI(),
+                    handlerMethod.getMethod().getName(), status, elapsedMillis);
+        }
+    }
+}
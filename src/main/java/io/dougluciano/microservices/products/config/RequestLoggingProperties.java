@@ -0,0 +1,33 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Propriedades do log das requisições, lidas do {@code application.properties} com o prefixo
+ * {@code products.logging}.
+ *
+ * @param defaultSampleRate fração (de 0 a 1) das requisições cujas linhas INFO dos controladores são
+ *                          registradas, quando a operação não tem uma taxa própria.
+ * @param sampleRates       taxa de amostragem por operação, pelo nome do método do controlador
+ *                          (ex: {@code products.logging.sample-rates.findById=0.01}).
+ * @param slowThreshold     duração a partir da qual uma requisição é sempre registrada como lenta.
+ */
+@ConfigurationProperties(prefix = "products.logging")
+public record RequestLoggingProperties(
+        @DefaultValue("1.0") double defaultSampleRate,
+        @DefaultValue Map<String, Double> sampleRates,
+        @DefaultValue("500ms") Duration slowThreshold
+) {
+
+    /**
+     * @param operation o nome do método do controlador.
+     * @return a taxa de amostragem da operação.
+     */
+    public double sampleRateFor(String operation) {
+        return sampleRates.getOrDefault(operation, defaultSampleRate);
+    }
+}
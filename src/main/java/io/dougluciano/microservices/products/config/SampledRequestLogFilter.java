@@ -0,0 +1,61 @@
+package io.dougluciano.microservices.products.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * {@link TurboFilter} do Logback que descarta as linhas INFO dos controladores nas requisições que ficaram
+ * fora da amostra (ver {@link RequestLoggingInterceptor}).
+ * <p>
+ * Um turbo filter é consultado antes de o evento de log ser criado: nas requisições descartadas a mensagem
+ * não é formatada, nem os argumentos convertidos em texto, nem o evento enfileirado no appender.
+ * WARN e ERROR nunca são descartados.
+ */
+public class SampledRequestLogFilter extends TurboFilter {
+
+    private static final ThreadLocal<Boolean> SUPPRESSED = new ThreadLocal<>();
+
+    private final String loggerPrefix;
+
+    public SampledRequestLogFilter(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+        setName("sampled-request-log");
+    }
+
+    /**
+     * Marca as linhas INFO da requisição atendida pela thread corrente como descartadas (ou não).
+     * Quem marca deve desmarcar ao final da requisição, já que a thread volta ao pool.
+     */
+    public static void suppress(boolean suppressed) {
+        if (suppressed) {
+            SUPPRESSED.set(Boolean.TRUE);
+        } else {
+            SUPPRESSED.remove();
+        }
+    }
+
+    /**
+     * Para o filtro e o remove do {@link LoggerContext} em que foi registrado.
+     */
+    @Override
+    public void stop() {
+        super.stop();
+        if (getContext() instanceof LoggerContext loggerContext) {
+            loggerContext.getTurboFilterList().remove(this);
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level.levelInt <= Level.INFO_INT
+                && SUPPRESSED.get() != null
+                && logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
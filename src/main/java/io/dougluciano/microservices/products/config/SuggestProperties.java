@@ -0,0 +1,53 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propriedades do autocompletar de produtos ({@code GET /api/v1/products/suggest}), lidas do
+ * {@code application.properties} com o prefixo {@code products.suggest}.
+ *
+ * @param minPrefixLength o tamanho mínimo do prefixo (já normalizado); prefixos menores não devolvem sugestões.
+ * @param defaultLimit a quantidade de sugestões quando o cliente não informa o parâmetro {@code limit}.
+ * @param maxLimit o limite máximo de sugestões, independentemente do que o cliente solicitar.
+ * @param maxMemory a memória estimada máxima do índice. Produtos que a ultrapassariam não são indexados.
+ * @param weights o peso de cada tipo de termo na pontuação das sugestões.
+ */
+@ConfigurationProperties(prefix = "products.suggest")
+public record SuggestProperties(
+        @DefaultValue("2") int minPrefixLength,
+        @DefaultValue("10") int defaultLimit,
+        @DefaultValue("20") int maxLimit,
+        @DefaultValue("64MB") DataSize maxMemory,
+        @DefaultValue Weights weights
+) {
+
+    /**
+     * Pesos da pontuação: uma sugestão vale o maior peso dentre os termos que casaram com o prefixo.
+     * Em caso de empate, os nomes mais curtos vêm primeiro.
+     *
+     * @param name o prefixo casou com o início do nome.
+     * @param word o prefixo casou com o início de outra palavra do nome.
+     * @param sku o prefixo casou com o início do SKU.
+     */
+    public record Weights(
+            @DefaultValue("3") int name,
+            @DefaultValue("2") int word,
+            @DefaultValue("1") int sku
+    ) {
+    }
+
+    /**
+     * Resolve a quantidade efetiva de sugestões, aplicando o valor padrão e o limite máximo.
+     *
+     * @param requested a quantidade solicitada pelo cliente, possivelmente nula.
+     * @return uma quantidade entre 1 e {@link #maxLimit()}.
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return Math.min(defaultLimit, maxLimit);
+        }
+        return Math.max(1, Math.min(requested, maxLimit));
+    }
+}
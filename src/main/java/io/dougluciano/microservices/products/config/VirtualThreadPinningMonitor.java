@@ -0,0 +1,114 @@
+package io.dougluciano.microservices.products.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detecta, pelo evento {@code jdk.VirtualThreadPinned} do JDK Flight Recorder, os momentos em que uma
+ * virtual thread bloqueia sem liberar a sua carrier thread. No Java 21 isso acontece, por exemplo,
+ * quando ela bloqueia dentro de um bloco {@code synchronized}, algo comum em drivers e pools JDBC.
+ * <p>
+ * Cada ocorrência acima do limite configurado é contada no timer {@code products.virtual-threads.pinned}
+ * (tag {@code frame}: o método, fora do JDK, que segurava o monitor). O primeiro pinning de cada método
+ * também é registrado no log, com a pilha resumida, para que o trecho possa ser corrigido (trocando o
+ * {@code synchronized} por um {@link java.util.concurrent.locks.ReentrantLock}, por exemplo).
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Duration threshold;
+
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Monitor de pinning de virtual threads ativo (limite de {}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = culprit(event.getStackTrace());
+        Timer.builder("products.virtual-threads.pinned")
+                .description("Tempo em que virtual threads ficaram presas à carrier thread")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedFrames.add(frame)) {
+            log.warn("Virtual thread presa à carrier thread por {}ms em {}:\n{}",
+                    event.getDuration().toMillis(), frame, summary(event.getStackTrace()));
+        }
+    }
+
+    /**
+     * O primeiro método da pilha fora do JDK, que é quem segura o monitor ou faz a chamada bloqueante.
+     */
+    private static String culprit(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::describe)
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse("unknown");
+    }
+
+    private static String summary(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(sem pilha)";
+        }
+        StringBuilder summary = new StringBuilder();
+        stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .forEach(frame -> summary.append("\tat ").append(describe(frame))
+                        .append(':').append(frame.getLineNumber()).append('\n'));
+        return summary.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
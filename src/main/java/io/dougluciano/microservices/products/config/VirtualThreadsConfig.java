@@ -0,0 +1,74 @@
+package io.dougluciano.microservices.products.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração do modo de execução com virtual threads, ativa apenas com
+ * {@code spring.threads.virtual.enabled=true} (profile {@code virtual-threads}).
+ * <p>
+ * Nesse modo o próprio Spring Boot passa a atender as requisições do Tomcat, as respostas assíncronas
+ * (como a exportação NDJSON) e as tarefas {@code @Async} e agendadas em virtual threads. Esta classe
+ * completa o modo com o que é específico da persistência:
+ * <ul>
+ *     <li>o {@link DataSource} do Hikari é envolvido por um {@link ConnectionLimitingDataSource}, que
+ *     enfileira as threads excedentes em vez de deixá-las disputar o pool;</li>
+ *     <li>as métricas {@code products.datasource.guard.*} mostram as conexões em uso e as threads na fila;</li>
+ *     <li>o {@link VirtualThreadPinningMonitor} aponta os trechos que prendem as virtual threads.</li>
+ * </ul>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(ObjectProvider<VirtualThreadsProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                VirtualThreadsProperties props = properties.getObject();
+                int maxConcurrent = props.maxConcurrentConnections() > 0
+                        ? props.maxConcurrentConnections()
+                        : hikari.getMaximumPoolSize();
+                return new ConnectionLimitingDataSource(hikari, maxConcurrent, props.connectionAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionLimitingDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource guard) {
+                Gauge.builder("products.datasource.guard.max", guard, ConnectionLimitingDataSource::getMaxConcurrent)
+                        .description("Máximo de conexões em uso ao mesmo tempo")
+                        .register(registry);
+                Gauge.builder("products.datasource.guard.active", guard, ConnectionLimitingDataSource::getActive)
+                        .description("Conexões em uso")
+                        .register(registry);
+                Gauge.builder("products.datasource.guard.pending", guard, ConnectionLimitingDataSource::getPending)
+                        .description("Threads aguardando uma conexão")
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.virtual-threads", name = "pinning-monitor", havingValue = "true", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry, VirtualThreadsProperties properties) {
+        return new VirtualThreadPinningMonitor(meterRegistry, properties.pinningThreshold());
+    }
+}
@@ -0,0 +1,24 @@
+package io.dougluciano.microservices.products.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do modo de execução com virtual threads ({@code spring.threads.virtual.enabled=true}),
+ * lidas do {@code application.properties} com o prefixo {@code products.virtual-threads}.
+ *
+ * @param maxConcurrentConnections quantidade máxima de conexões JDBC em uso ao mesmo tempo. Com {@code 0}
+ *                                 (padrão) vale o tamanho máximo do pool do Hikari.
+ * @param connectionAcquireTimeout quanto tempo uma thread espera por uma vaga antes de receber erro.
+ * @param pinningThreshold         duração mínima de um pinning (virtual thread presa à carrier thread)
+ *                                 para que ele seja registrado nas métricas e no log.
+ */
+@ConfigurationProperties(prefix = "products.virtual-threads")
+public record VirtualThreadsProperties(
+        @DefaultValue("0") int maxConcurrentConnections,
+        @DefaultValue("5s") Duration connectionAcquireTimeout,
+        @DefaultValue("20ms") Duration pinningThreshold
+) {
+}
@@ -25,7 +25,19 @@ import lombok.Setter;
 @MappedSuperclass
 public abstract class AbstractEntity {
 
+    /**
+     * Identificador único da entidade.
+     * <p>
+     * A estratégia {@code GenerationType.SEQUENCE} usa uma sequence por entidade, com o nome
+     * implícito {@code <entidade>_seq} (ex: {@code product_seq}) e incremento de 50. O Hibernate
+     * reserva 50 IDs a cada {@code nextval} (otimizador "pooled"), o que permite agrupar os
+     * INSERTs em lotes JDBC. Com {@code GenerationType.IDENTITY} cada INSERT precisava ser
+     * executado imediatamente para obter o ID, desabilitando silenciosamente o batching.
+     * <p>
+     * <b>[ATENÇÃO]</b> o incremento da sequence no banco (migração Flyway) deve ser igual ao
+     * {@code allocationSize} padrão (50), caso contrário o Hibernate recusa a inicialização.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 }
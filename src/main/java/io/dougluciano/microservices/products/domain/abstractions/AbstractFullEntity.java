@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -11,14 +12,19 @@ import java.time.Instant;
 
 
 /**
- * Identificador único da entidade.
- * A estratégia {@code GenerationType.IDENTITY} delega a geração do valor
- * para o próprio banco de dados (ex: colunas auto-incrementáveis).
+ * Superclasse abstrata para as entidades que possuem campos de auditoria.
+ * O identificador e a sua estratégia de geração são herdados de {@link AbstractEntity}.
  */
 @Getter @Setter
 @MappedSuperclass
 public abstract class AbstractFullEntity extends AbstractEntity {
 
+    /**
+     * Usuário registrado nos campos de auditoria enquanto a aplicação não possui autenticação.
+     * Também é usado pelas atualizações feitas diretamente em SQL, que não passam pelos callbacks abaixo.
+     */
+    public static final String AUDIT_USER = "testuser";
+
     @Column(name = "created_at")
     private Instant createdAt;
 
@@ -31,18 +37,30 @@ public abstract class AbstractFullEntity extends AbstractEntity {
     @Column(name = "updated_by", nullable = true)
     private String updatedBy;
 
+    /**
+     * Versão da entidade, para o controle de concorrência otimista.
+     * <p>
+     * O Hibernate incrementa a versão a cada UPDATE e inclui a versão lida na cláusula
+     * {@code WHERE}; se outra transação alterou a linha nesse meio tempo, nenhuma linha é
+     * atualizada e uma {@code OptimisticLockException} é lançada, evitando atualizações perdidas.
+     * Também é a base do ETag das respostas da API.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     public void onPrePersist(){
         Instant now = Instant.now();
         this.createdAt = now;
         this.updatedAt = now;
-        this.createdBy = "testuser";
+        this.createdBy = AUDIT_USER;
     }
 
     @PreUpdate
     public void onPreUpdate(){
         this.updatedAt = Instant.now();
-        this.updatedBy = "testuser";
+        this.updatedBy = AUDIT_USER;
     }
 
 }
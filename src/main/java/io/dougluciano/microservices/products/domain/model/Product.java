@@ -10,6 +10,7 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -23,12 +24,16 @@ import java.time.Instant;
  * Ela herda o campo {@code id} de {@link io.dougluciano.microservices.products.domain.abstractions.AbstractEntity}
  * e os campos de auditoria (createdAt, createdBy, etc.) de
  * {@link io.dougluciano.microservices.products.domain.abstractions.AbstractFullEntity}.
+ * <p>
+ * Com {@code @DynamicUpdate}, os UPDATEs gerados pelo Hibernate incluem apenas as colunas
+ * efetivamente alteradas (além dos campos de auditoria e da versão), em vez de todas as colunas.
  *
  * @author dougluciano
  * @since 2025-09-09
  */
 @Entity
 @Table(name = "products")
+@DynamicUpdate
 @AllArgsConstructor @NoArgsConstructor
 @Builder
 @Data
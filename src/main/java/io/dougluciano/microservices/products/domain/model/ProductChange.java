@@ -0,0 +1,33 @@
+package io.dougluciano.microservices.products.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Uma alteração de produto registrada no outbox ({@code product_outbox}) e entregue aos outros serviços.
+ * <p>
+ * A alteração apenas identifica o produto: os consumidores buscam o estado atual pela API
+ * ({@code GET /api/v1/products/{id}}). A entrega é "ao menos uma vez": a mesma alteração pode ser
+ * entregue de novo após uma falha, e os consumidores devem ignorar as repetidas pelo {@code sequence}.
+ *
+ * @param sequence o identificador da alteração, crescente na ordem em que foram registradas.
+ * @param productId o ID do produto.
+ * @param type o tipo da alteração.
+ * @param sku o SKU do produto, ou {@code null} se ele não era conhecido ao registrar a alteração.
+ * @param occurredAt o momento em que a alteração foi registrada.
+ */
+public record ProductChange(Long sequence, Long productId, Type type, String sku, Instant occurredAt) {
+
+    /**
+     * Tipo de uma alteração de produto.
+     */
+    public enum Type {
+        /**
+         * O produto foi criado ou alterado.
+         */
+        SAVED,
+        /**
+         * O produto foi excluído.
+         */
+        DELETED
+    }
+}
@@ -0,0 +1,13 @@
+package io.dougluciano.microservices.products.domain.model;
+
+/**
+ * Resultado da busca textual: o produto encontrado, no modelo de leitura, e a sua relevância para a consulta.
+ * <p>
+ * A relevância é o {@code ts_rank} do PostgreSQL (um {@code real}) e, junto com o ID, forma a chave
+ * da paginação por cursor da busca.
+ *
+ * @param product o produto encontrado.
+ * @param rank a relevância do produto para a consulta (quanto maior, mais relevante).
+ */
+public record ProductSearchHit(ProductSummary product, float rank) {
+}
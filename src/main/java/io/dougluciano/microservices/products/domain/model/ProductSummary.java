@@ -0,0 +1,25 @@
+package io.dougluciano.microservices.products.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Modelo de leitura de um produto: apenas as colunas da visão pública da API
+ * ({@code Views.Publico}), mais a versão e a data de alteração usadas nos ETags.
+ * <p>
+ * É preenchido diretamente pelas consultas de leitura (expressões {@code select new} do JPQL,
+ * {@code CriteriaBuilder#construct} ou linhas de consultas nativas), sem criar entidades gerenciadas:
+ * nada é guardado no contexto de persistência, não há snapshot para o dirty checking e as colunas de
+ * auditoria que a API não expõe não são lidas.
+ *
+ * @param id o ID do produto.
+ * @param name o nome do produto.
+ * @param description a descrição do produto.
+ * @param price o preço do produto.
+ * @param sku o SKU do produto.
+ * @param version a versão do produto (controle de concorrência otimista).
+ * @param updatedAt a data da última alteração.
+ */
+public record ProductSummary(Long id, String name, String description, BigDecimal price, String sku,
+                             Long version, Instant updatedAt) {
+}
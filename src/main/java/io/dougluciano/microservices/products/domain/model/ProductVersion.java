@@ -0,0 +1,36 @@
+package io.dougluciano.microservices.products.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Versão de um produto: apenas os campos necessários para identificar se ele foi alterado.
+ * <p>
+ * Usada para responder requisições condicionais ({@code If-None-Match} / {@code If-Modified-Since})
+ * sem carregar a entidade completa.
+ *
+ * @param id o ID do produto.
+ * @param version a versão do produto (controle de concorrência otimista).
+ * @param updatedAt a data da última alteração.
+ */
+public record ProductVersion(Long id, Long version, Instant updatedAt) {
+
+    /**
+     * Extrai a versão de um produto já carregado.
+     *
+     * @param product o produto.
+     * @return a versão do produto.
+     */
+    public static ProductVersion of(Product product) {
+        return new ProductVersion(product.getId(), product.getVersion(), product.getUpdatedAt());
+    }
+
+    /**
+     * Extrai a versão de um produto lido pelo modelo de leitura.
+     *
+     * @param product o produto.
+     * @return a versão do produto.
+     */
+    public static ProductVersion of(ProductSummary product) {
+        return new ProductVersion(product.id(), product.version(), product.updatedAt());
+    }
+}
@@ -0,0 +1,96 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repositório base para todas as entidades do domínio.
+ * <p>
+ * Estende o {@link JpaRepository} com consultas que dependem apenas do campo {@code id}
+ * herdado de {@link io.dougluciano.microservices.products.domain.abstractions.AbstractEntity},
+ * como a paginação por cursor (keyset). A expressão {@code #{#entityName}} é resolvida pelo
+ * Spring Data para o nome da entidade do repositório concreto.
+ * <p>
+ * A anotação {@code @NoRepositoryBean} impede que o Spring tente criar uma instância
+ * desta interface, que só existe para ser herdada.
+ *
+ * @param <T> o tipo da entidade.
+ * @param <ID> o tipo do ID da entidade.
+ *
+ * @author dougluciano
+ * @since 2025-09-09
+ */
+@NoRepositoryBean
+public interface GenericRepository<T, ID> extends JpaRepository<T, ID> {
+
+    /**
+     * Quantidade de linhas trazidas do banco a cada ida ao servidor durante o streaming.
+     * Com o PostgreSQL, um fetch size positivo dentro de uma transação faz o driver
+     * utilizar um cursor no servidor em vez de carregar todo o resultado em memória.
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
+    /**
+     * Busca a primeira página de entidades ordenadas pelo ID.
+     * Equivale a {@code SELECT ... ORDER BY id LIMIT ?}.
+     *
+     * @param pageable define apenas o limite de registros (a ordenação é fixa pelo ID).
+     * @return as entidades da primeira página.
+     */
+    @Query("select e from #{#entityName} e order by e.id")
+    List<T> findFirstPage(Pageable pageable);
+
+    /**
+     * Busca a página de entidades imediatamente posterior ao ID informado.
+     * Equivale a {@code SELECT ... WHERE id > ? ORDER BY id LIMIT ?}, que percorre o índice
+     * da chave primária e tem custo constante independentemente da profundidade da página.
+     *
+     * @param after o último ID já entregue ao cliente.
+     * @param pageable define apenas o limite de registros (a ordenação é fixa pelo ID).
+     * @return as entidades da página.
+     */
+    @Query("select e from #{#entityName} e where e.id > :after order by e.id")
+    List<T> findPageAfter(@Param("after") ID after, Pageable pageable);
+
+    /**
+     * Remove a entidade com o ID informado em um único comando {@code DELETE ... WHERE id = ?}.
+     * <p>
+     * Diferente do {@link #deleteById(Object)} do Spring Data, que carrega a entidade antes de
+     * removê-la, a exclusão é feita diretamente no banco e a quantidade de linhas removidas indica
+     * se a entidade existia. Por não passar pelo contexto de persistência, os callbacks e as
+     * cascatas do JPA não são executados.
+     *
+     * @param id o ID da entidade.
+     * @return a quantidade de linhas removidas ({@code 0} ou {@code 1}).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from #{#entityName} e where e.id = :id")
+    int deleteOneById(@Param("id") ID id);
+
+    /**
+     * Percorre todas as entidades ordenadas pelo ID através de um cursor no servidor.
+     * <p>
+     * As entidades são carregadas em modo somente leitura (sem snapshot para dirty checking)
+     * e em lotes de {@link #STREAM_FETCH_SIZE} linhas. O {@link Stream} retornado precisa ser
+     * consumido dentro de uma transação e fechado ao final, preferencialmente com try-with-resources.
+     *
+     * @return um {@link Stream} com todas as entidades.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select e from #{#entityName} e order by e.id")
+    Stream<T> streamAll();
+}
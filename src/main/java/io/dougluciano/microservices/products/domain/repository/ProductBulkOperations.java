@@ -0,0 +1,60 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.service.batch.PriceChange;
+import io.dougluciano.microservices.products.service.batch.PriceFilter;
+import io.dougluciano.microservices.products.service.batch.ProductRef;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operações em massa sobre a tabela {@code products}, executadas diretamente em SQL.
+ * <p>
+ * Estas operações não carregam as entidades: cada chamada é um único {@code UPDATE} ou {@code DELETE}
+ * baseado em conjunto. Os {@code UPDATE}s também mantêm os campos {@code updated_at} e {@code updated_by}
+ * (normalmente preenchidos pelo {@code @PreUpdate} de {@code AbstractFullEntity}, que não é acionado aqui)
+ * e incrementam a {@code version}, para que os ETags e o controle de concorrência otimista percebam a alteração.
+ * Por não passarem pelo contexto de persistência, quem as chama é responsável por invalidar os caches.
+ * <p>
+ * É um fragmento do Spring Data: a implementação {@link ProductBulkOperationsImpl} é combinada
+ * automaticamente ao {@link ProductRepository}.
+ */
+public interface ProductBulkOperations {
+
+    /**
+     * Atualiza o preço dos produtos informados.
+     *
+     * @param changes os novos preços, com os produtos identificados pelo ID ou pelo SKU.
+     * @return o SKU de cada produto alterado, indexado pelo ID.
+     */
+    Map<Long, String> updatePrices(List<PriceChange> changes);
+
+    /**
+     * Aplica um reajuste percentual ao próximo bloco de produtos que atendem ao filtro, na ordem do ID.
+     * O preço resultante é arredondado para 2 casas decimais e nunca fica abaixo de 0,01.
+     *
+     * @param percentage o percentual do reajuste (ex: {@code 10} para +10%, {@code -5} para -5%).
+     * @param filter o filtro dos produtos.
+     * @param afterId o último ID do bloco anterior, ou {@code 0} no primeiro bloco.
+     * @param limit o tamanho máximo do bloco.
+     * @return os IDs alterados, sem ordem definida; vazio quando não há mais produtos a reajustar.
+     */
+    List<Long> adjustPrices(BigDecimal percentage, PriceFilter filter, long afterId, int limit);
+
+    /**
+     * Busca o maior preço atual entre os produtos que atendem ao filtro.
+     *
+     * @param filter o filtro dos produtos.
+     * @return o maior preço, ou {@code null} se nenhum produto atender ao filtro.
+     */
+    BigDecimal findMaxPrice(PriceFilter filter);
+
+    /**
+     * Exclui os produtos informados, sem carregá-los.
+     *
+     * @param products os produtos, identificados pelo ID ou pelo SKU.
+     * @return o SKU de cada produto excluído, indexado pelo ID.
+     */
+    Map<Long, String> deleteProducts(List<ProductRef> products);
+}
@@ -0,0 +1,195 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.abstractions.AbstractFullEntity;
+import io.dougluciano.microservices.products.service.batch.PriceChange;
+import io.dougluciano.microservices.products.service.batch.PriceFilter;
+import io.dougluciano.microservices.products.service.batch.ProductRef;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação de {@link ProductBulkOperations} com {@link JdbcTemplate}.
+ * <p>
+ * Os valores de cada bloco são enviados como arrays e expandidos com {@code unnest}, de modo que o
+ * bloco inteiro é um único comando SQL, com um único plano de execução, independentemente do tamanho.
+ */
+@RequiredArgsConstructor
+public class ProductBulkOperationsImpl implements ProductBulkOperations {
+
+    private static final String UPDATE_PRICES_BY_ID = """
+            UPDATE products p
+               SET price = v.price, version = p.version + 1, updated_at = now(), updated_by = ?
+              FROM unnest(?::bigint[], ?::numeric[]) AS v(id, price)
+             WHERE p.id = v.id
+            RETURNING p.id, p.sku
+            """;
+
+    private static final String UPDATE_PRICES_BY_SKU = """
+            UPDATE products p
+               SET price = v.price, version = p.version + 1, updated_at = now(), updated_by = ?
+              FROM unnest(?::varchar[], ?::numeric[]) AS v(sku, price)
+             WHERE p.sku = v.sku
+            RETURNING p.id, p.sku
+            """;
+
+    private static final String ADJUST_PRICES = """
+            WITH chunk AS (
+                SELECT id FROM products
+                 WHERE id > ?%s
+                 ORDER BY id
+                 LIMIT ?
+            )
+            UPDATE products p
+               SET price = GREATEST(round(p.price * (100 + ?) / 100, 2), 0.01),
+                   version = p.version + 1, updated_at = now(), updated_by = ?
+              FROM chunk
+             WHERE p.id = chunk.id
+            RETURNING p.id
+            """;
+
+    private static final String MAX_PRICE = """
+            SELECT max(price) FROM products
+             WHERE TRUE%s
+            """;
+
+    private static final String DELETE_BY_ID = """
+            DELETE FROM products WHERE id = ANY(?::bigint[])
+            RETURNING id, sku
+            """;
+
+    private static final String DELETE_BY_SKU = """
+            DELETE FROM products WHERE sku = ANY(?::varchar[])
+            RETURNING id, sku
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<Long, String> updatePrices(List<PriceChange> changes) {
+        List<Long> ids = new ArrayList<>();
+        List<BigDecimal> idPrices = new ArrayList<>();
+        List<String> skus = new ArrayList<>();
+        List<BigDecimal> skuPrices = new ArrayList<>();
+
+        for (PriceChange change : changes) {
+            if (change.id() != null) {
+                ids.add(change.id());
+                idPrices.add(change.price());
+            } else {
+                skus.add(change.sku());
+                skuPrices.add(change.price());
+            }
+        }
+
+        Map<Long, String> updated = new LinkedHashMap<>();
+        if (!ids.isEmpty()) {
+            updateReturning(UPDATE_PRICES_BY_ID, "bigint", ids.toArray(), idPrices.toArray(), updated);
+        }
+        if (!skus.isEmpty()) {
+            updateReturning(UPDATE_PRICES_BY_SKU, "varchar", skus.toArray(), skuPrices.toArray(), updated);
+        }
+        return updated;
+    }
+
+    @Override
+    public Map<Long, String> deleteProducts(List<ProductRef> products) {
+        List<Long> ids = new ArrayList<>();
+        List<String> skus = new ArrayList<>();
+
+        for (ProductRef product : products) {
+            if (product.id() != null) {
+                ids.add(product.id());
+            } else {
+                skus.add(product.sku());
+            }
+        }
+
+        Map<Long, String> deleted = new LinkedHashMap<>();
+        if (!ids.isEmpty()) {
+            deleteReturning(DELETE_BY_ID, "bigint", ids.toArray(), deleted);
+        }
+        if (!skus.isEmpty()) {
+            deleteReturning(DELETE_BY_SKU, "varchar", skus.toArray(), deleted);
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<Long> adjustPrices(BigDecimal percentage, PriceFilter filter, long afterId, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(afterId);
+        String where = filterClause(filter, args);
+
+        args.add(limit);
+        args.add(percentage);
+        args.add(AbstractFullEntity.AUDIT_USER);
+
+        return jdbcTemplate.queryForList(ADJUST_PRICES.formatted(where), Long.class, args.toArray());
+    }
+
+    @Override
+    public BigDecimal findMaxPrice(PriceFilter filter) {
+        List<Object> args = new ArrayList<>();
+        String where = filterClause(filter, args);
+
+        return jdbcTemplate.queryForObject(MAX_PRICE.formatted(where), BigDecimal.class, args.toArray());
+    }
+
+    private void updateReturning(String sql, String keyType, Object[] keys, Object[] prices, Map<Long, String> updated) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setString(1, AbstractFullEntity.AUDIT_USER);
+            statement.setArray(2, connection.createArrayOf(keyType, keys));
+            statement.setArray(3, connection.createArrayOf("numeric", prices));
+            return statement;
+        }, resultSet -> {
+            updated.put(resultSet.getLong("id"), resultSet.getString("sku"));
+        });
+    }
+
+    private void deleteReturning(String sql, String keyType, Object[] keys, Map<Long, String> deleted) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf(keyType, keys));
+            return statement;
+        }, resultSet -> {
+            deleted.put(resultSet.getLong("id"), resultSet.getString("sku"));
+        });
+    }
+
+    /**
+     * Monta as condições do filtro de preços, cada uma iniciada por {@code AND}, e acrescenta seus valores aos
+     * parâmetros do comando.
+     */
+    private static String filterClause(PriceFilter filter, List<Object> args) {
+        StringBuilder where = new StringBuilder();
+
+        if (filter.skuPrefix() != null && !filter.skuPrefix().isBlank()) {
+            where.append(" AND sku LIKE ? ESCAPE '\\'");
+            args.add(escapeLike(filter.skuPrefix()) + "%");
+        }
+        if (filter.minPrice() != null) {
+            where.append(" AND price >= ?");
+            args.add(filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            where.append(" AND price <= ?");
+            args.add(filter.maxPrice());
+        }
+        return where.toString();
+    }
+
+    /**
+     * Escapa os curingas do {@code LIKE} para que o prefixo seja comparado literalmente.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,138 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Acesso à tabela do outbox de alterações de produtos ({@code product_outbox}) com {@link JdbcTemplate}.
+ * <p>
+ * O outbox não é mapeado pelo JPA: as linhas são gravadas em lote, com um único {@code INSERT} por
+ * transação, e lidas e removidas pelo relay sem passar pelo contexto de persistência.
+ * <p>
+ * O {@code id} (BIGSERIAL) é obtido no {@code INSERT}, e não no commit: sem mais nada, duas transações que
+ * alteram o mesmo produto poderiam fazer o commit na ordem inversa dos seus IDs, e o relay entregaria a
+ * alteração mais nova antes da mais antiga, que ainda não era visível. Por isso a gravação bloqueia cada
+ * produto com um advisory lock de transação ({@code pg_advisory_xact_lock}, com o ID do produto como
+ * chave) antes do {@code INSERT}: a segunda transação só obtém o seu {@code id} depois do commit da primeira.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductOutboxRepository {
+
+    /**
+     * Bloqueia os produtos até o fim da transação, sempre em ordem crescente de ID, para que duas transações
+     * com produtos em comum não se bloqueiem mutuamente.
+     */
+    private static final String LOCK_PRODUCTS = """
+            SELECT pg_advisory_xact_lock(ids.product_id)
+              FROM (SELECT DISTINCT unnest(?::bigint[]) AS product_id ORDER BY 1) ids
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO product_outbox (product_id, change_type, sku)
+            SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[])
+            """;
+
+    /**
+     * As alterações mais antigas, uma por produto: uma alteração só é lida quando não há outra mais antiga
+     * pendente para o mesmo produto, nem mesmo bloqueada por outra instância do relay. Assim as alterações
+     * de um produto são entregues em ordem, enquanto as de produtos diferentes são lidas em paralelo
+     * ({@code SKIP LOCKED}).
+     */
+    private static final String LOCK_NEXT = """
+            SELECT o.id, o.product_id, o.change_type, o.sku, o.created_at
+              FROM product_outbox o
+             WHERE NOT EXISTS (SELECT 1 FROM product_outbox older
+                                WHERE older.product_id = o.product_id AND older.id < o.id)
+             ORDER BY o.id
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE = "DELETE FROM product_outbox WHERE id = ANY(?::bigint[])";
+
+    private static final String OLDEST = "SELECT created_at FROM product_outbox ORDER BY id LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Grava as alterações, na ordem da lista, com um único {@code INSERT}, depois de bloquear os seus
+     * produtos até o fim da transação (ver a descrição da classe). Deve ser chamado ao final da transação,
+     * depois de todas as outras escritas, para que uma transação nunca espere por outro bloqueio enquanto
+     * mantém os dos produtos.
+     *
+     * @param changes as alterações; o {@code sequence} e o {@code occurredAt} são preenchidos pelo banco.
+     */
+    public void append(List<ProductChange> changes) {
+        Object[] productIds = changes.stream().map(ProductChange::productId).toArray();
+        Object[] types = changes.stream().map(change -> change.type().name()).toArray();
+        Object[] skus = changes.stream().map(ProductChange::sku).toArray();
+
+        jdbcTemplate.execute((Connection connection) -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_PRODUCTS);
+            statement.setArray(1, connection.createArrayOf("bigint", productIds));
+            return statement;
+        }, PreparedStatement::execute);
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT);
+            statement.setArray(1, connection.createArrayOf("bigint", productIds));
+            statement.setArray(2, connection.createArrayOf("varchar", types));
+            statement.setArray(3, connection.createArrayOf("varchar", skus));
+            return statement;
+        });
+    }
+
+    /**
+     * Lê e bloqueia, até o fim da transação, as próximas alterações a entregar.
+     *
+     * @param limit a quantidade máxima de alterações.
+     * @return as alterações, em ordem de registro.
+     */
+    public List<ProductChange> lockNext(int limit) {
+        return jdbcTemplate.query(LOCK_NEXT, ProductOutboxRepository::toChange, limit);
+    }
+
+    /**
+     * Remove as alterações já entregues.
+     *
+     * @param sequences os identificadores das alterações.
+     */
+    public void delete(List<Long> sequences) {
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE);
+            statement.setArray(1, connection.createArrayOf("bigint", sequences.toArray()));
+            return statement;
+        });
+    }
+
+    /**
+     * O momento em que foi registrada a alteração pendente mais antiga.
+     *
+     * @return o momento, ou vazio se não há alterações pendentes.
+     */
+    public Optional<Instant> findOldestPending() {
+        return jdbcTemplate.query(OLDEST, (rs, rowNum) -> rs.getTimestamp(1).toInstant()).stream().findFirst();
+    }
+
+    private static ProductChange toChange(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new ProductChange(
+                rs.getLong("id"),
+                rs.getLong("product_id"),
+                ProductChange.Type.valueOf(rs.getString("change_type")),
+                rs.getString("sku"),
+                createdAt.toInstant());
+    }
+}
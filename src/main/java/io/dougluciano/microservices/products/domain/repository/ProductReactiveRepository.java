@@ -0,0 +1,87 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Consultas de leitura de produtos sobre R2DBC, usadas pelo módulo reativo (profile {@code reactive}).
+ * <p>
+ * Lê a mesma tabela {@code products} criada pelo Flyway e mapeada em {@link Product}, mas sem o JPA:
+ * as linhas são convertidas diretamente em entidades desanexadas, que nunca voltam ao banco por aqui.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ProductReactiveRepository {
+
+    private static final String SELECT = """
+            SELECT id, name, description, price, sku, version, created_at, created_by, updated_at, updated_by
+            FROM products
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Product> findById(Long id) {
+        return databaseClient.sql(SELECT + "WHERE id = :id")
+                .bind("id", id)
+                .map(ProductReactiveRepository::toProduct)
+                .one();
+    }
+
+    public Mono<Product> findBySku(String sku) {
+        return databaseClient.sql(SELECT + "WHERE sku = :sku")
+                .bind("sku", sku)
+                .map(ProductReactiveRepository::toProduct)
+                .one();
+    }
+
+    /**
+     * Busca até {@code limit} produtos ordenados pelo ID, a partir do ID informado (exclusivo) ou do
+     * início quando ele é {@code null}. Mesma consulta por keyset de {@link GenericRepository#findPageAfter}.
+     */
+    public Flux<Product> findPage(Long after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = after == null
+                ? databaseClient.sql(SELECT + "ORDER BY id LIMIT :limit")
+                : databaseClient.sql(SELECT + "WHERE id > :after ORDER BY id LIMIT :limit").bind("after", after);
+
+        return spec.bind("limit", limit)
+                .map(ProductReactiveRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * Lê todos os produtos ordenados pelo ID em um único cursor, buscando {@code fetchSize} linhas por vez
+     * conforme a demanda de quem consome o {@link Flux}.
+     */
+    public Flux<Product> streamAll(int fetchSize) {
+        return databaseClient.sql(SELECT + "ORDER BY id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ProductReactiveRepository::toProduct)
+                .all();
+    }
+
+    private static Product toProduct(Readable row) {
+        Product product = Product.builder()
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .price(row.get("price", BigDecimal.class))
+                .sku(row.get("sku", String.class))
+                .build();
+        product.setId(row.get("id", Long.class));
+        product.setVersion(row.get("version", Long.class));
+        product.setCreatedAt(row.get("created_at", Instant.class));
+        product.setCreatedBy(row.get("created_by", String.class));
+        product.setUpdatedAt(row.get("updated_at", Instant.class));
+        product.setUpdatedBy(row.get("updated_by", String.class));
+        return product;
+    }
+}
@@ -0,0 +1,27 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Consultas de leitura que devolvem o modelo {@link ProductSummary} em vez de entidades.
+ * <p>
+ * É um fragmento do Spring Data: a implementação {@link ProductReadOperationsImpl} é combinada
+ * automaticamente ao {@link ProductRepository}.
+ */
+public interface ProductReadOperations {
+
+    /**
+     * Busca os produtos que atendem à especificação, na ordem informada, diretamente no modelo de leitura.
+     *
+     * @param specification os critérios da consulta (ver {@link ProductSpecifications}).
+     * @param sort a ordenação.
+     * @param limit a quantidade máxima de produtos.
+     * @return os produtos encontrados.
+     */
+    List<ProductSummary> findSummaries(Specification<Product> specification, Sort sort, int limit);
+}
@@ -0,0 +1,47 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Implementação de {@link ProductReadOperations} com a Criteria API.
+ * <p>
+ * A mesma {@link Specification} usada com entidades é aplicada a uma consulta cujo {@code SELECT} é um
+ * {@link CriteriaBuilder#construct}: o Hibernate lê apenas as colunas de {@link ProductSummary} e cria os
+ * objetos diretamente a partir do {@code ResultSet}. A consulta também não provoca um flush automático
+ * do contexto de persistência ({@code FlushMode.MANUAL}).
+ */
+public class ProductReadOperationsImpl implements ProductReadOperations {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductSummary> findSummaries(Specification<Product> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = cb.createQuery(ProductSummary.class);
+        Root<Product> root = query.from(Product.class);
+
+        query.select(cb.construct(ProductSummary.class,
+                        root.get("id"), root.get("name"), root.get("description"), root.get("price"),
+                        root.get("sku"), root.get("version"), root.get("updatedAt")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, "MANUAL")
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,9 +1,100 @@
 package io.dougluciano.microservices.products.domain.repository;
 
 import io.dougluciano.microservices.products.domain.model.Product;
-import org.springframework.data.jpa.repository.JpaRepository;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends GenericRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductBulkOperations, ProductSearchOperations, ProductReadOperations {
+
+    /**
+     * Expressão {@code select new} do modelo de leitura {@link ProductSummary}.
+     */
+    String SUMMARY = "select new io.dougluciano.microservices.products.domain.model.ProductSummary("
+            + "p.id, p.name, p.description, p.price, p.sku, p.version, p.updatedAt) ";
+
+    /**
+     * Busca todos os produtos, ordenados pelo ID, diretamente no modelo de leitura.
+     *
+     * @return todos os produtos.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SUMMARY + "from Product p order by p.id")
+    List<ProductSummary> findAllSummaries();
+
+    /**
+     * Percorre todos os produtos, ordenados pelo ID, através de um cursor no servidor, diretamente no
+     * modelo de leitura. Como nenhuma entidade é criada, o contexto de persistência não cresce durante a
+     * leitura e não há entidades a desanexar. O {@link Stream} retornado precisa ser consumido dentro de
+     * uma transação e fechado ao final.
+     *
+     * @return um {@link Stream} com todos os produtos.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SUMMARY + "from Product p order by p.id")
+    Stream<ProductSummary> streamSummaries();
+
+    /**
+     * Busca os produtos informados diretamente no modelo de leitura. Os IDs sem produto correspondente
+     * (ex: produtos excluídos) são ignorados.
+     *
+     * @param ids os IDs dos produtos.
+     * @return os produtos encontrados, em qualquer ordem.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(SUMMARY + "from Product p where p.id in :ids")
+    List<ProductSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca um produto pelo seu SKU, utilizando o índice da constraint {@code UNIQUE} da coluna.
+     *
+     * @param sku o SKU do produto.
+     * @return um {@link Optional} com o produto, ou vazio se não existir.
+     */
+    Optional<Product> findBySku(String sku);
+
+    /**
+     * Busca os produtos com os SKUs informados em uma única consulta ({@code WHERE sku IN (...)}),
+     * utilizando o índice da constraint {@code UNIQUE} da coluna.
+     *
+     * @param skus os SKUs dos produtos.
+     * @return os produtos encontrados, em qualquer ordem.
+     */
+    List<Product> findAllBySkuIn(Collection<String> skus);
+
+    /**
+     * Busca apenas a versão de um produto, sem carregar a entidade.
+     *
+     * @param id o ID do produto.
+     * @return um {@link Optional} com a versão do produto, ou vazio se ele não existir.
+     */
+    @Query("select new io.dougluciano.microservices.products.domain.model.ProductVersion(p.id, p.version, p.updatedAt) "
+            + "from Product p where p.id = :id")
+    Optional<ProductVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Dentre os SKUs informados, retorna os que já estão cadastrados.
+     *
+     * @param skus os SKUs a serem verificados.
+     * @return os SKUs existentes.
+     */
+    @Query("select p.sku from Product p where p.sku in :skus")
+    List<String> findExistingSkus(@Param("skus") Collection<String> skus);
 }
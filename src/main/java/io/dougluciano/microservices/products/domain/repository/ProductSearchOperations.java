@@ -0,0 +1,29 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.model.ProductSearchHit;
+
+import java.util.List;
+
+/**
+ * Busca textual sobre o nome e a descrição dos produtos, com o índice GIN da coluna
+ * {@code search_vector} (ver a migração {@code V7}).
+ * <p>
+ * É um fragmento do Spring Data: a implementação {@link ProductSearchOperationsImpl} é combinada
+ * automaticamente ao {@link ProductRepository}.
+ */
+public interface ProductSearchOperations {
+
+    /**
+     * Busca os produtos que atendem à consulta, do mais para o menos relevante (e pelo ID em caso de empate).
+     * <p>
+     * A consulta aceita a sintaxe de busca web do PostgreSQL ({@code websearch_to_tsquery}): termos
+     * soltos, {@code "frases entre aspas"}, {@code or} e {@code -termo} para exclusão.
+     *
+     * @param query o texto da busca.
+     * @param afterRank a relevância do último resultado já entregue, ou {@code null} na primeira página.
+     * @param afterId o ID do último resultado já entregue, ou {@code null} na primeira página.
+     * @param limit a quantidade máxima de resultados.
+     * @return os produtos encontrados, com a relevância de cada um.
+     */
+    List<ProductSearchHit> search(String query, Float afterRank, Long afterId, int limit);
+}
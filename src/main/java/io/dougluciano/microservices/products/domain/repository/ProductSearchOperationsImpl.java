@@ -0,0 +1,72 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.model.ProductSearchHit;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementação de {@link ProductSearchOperations} com uma consulta nativa do Hibernate, que devolve
+ * as colunas do modelo de leitura {@link ProductSummary} e a relevância calculada pelo banco na mesma linha,
+ * sem criar entidades.
+ * <p>
+ * A paginação é por keyset sobre {@code (rank DESC, id)}: a página seguinte começa logo após a relevância
+ * e o ID do último resultado entregue, sem {@code OFFSET}. Todas as linhas que atendem à consulta ainda
+ * precisam ser ranqueadas pelo banco (o índice GIN encontra as linhas, mas não as ordena), porém as páginas
+ * anteriores não são lidas, montadas nem descartadas a cada requisição.
+ */
+public class ProductSearchOperationsImpl implements ProductSearchOperations {
+
+    private static final String SEARCH = """
+            SELECT p.id, p.name, p.description, p.price, p.sku, p.version, p.updated_at,
+                   ts_rank(p.search_vector, q.query) AS rank
+              FROM products p, websearch_to_tsquery('portuguese', :query) AS q(query)
+             WHERE p.search_vector @@ q.query%s
+             ORDER BY rank DESC, p.id
+             LIMIT :limit
+            """;
+
+    private static final String AFTER = " AND (ts_rank(p.search_vector, q.query) < CAST(:afterRank AS real)"
+            + " OR (ts_rank(p.search_vector, q.query) = CAST(:afterRank AS real) AND p.id > :afterId))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductSearchHit> search(String query, Float afterRank, Long afterId, int limit) {
+        boolean first = afterRank == null || afterId == null;
+
+        NativeQuery<Object[]> search = entityManager
+                .createNativeQuery(SEARCH.formatted(first ? "" : AFTER))
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("name", StandardBasicTypes.STRING)
+                .addScalar("description", StandardBasicTypes.STRING)
+                .addScalar("price", StandardBasicTypes.BIG_DECIMAL)
+                .addScalar("sku", StandardBasicTypes.STRING)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("updated_at", StandardBasicTypes.INSTANT)
+                .addScalar("rank", StandardBasicTypes.FLOAT)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, "MANUAL")
+                .setParameter("query", query)
+                .setParameter("limit", limit);
+
+        if (!first) {
+            search.setParameter("afterRank", afterRank)
+                    .setParameter("afterId", afterId);
+        }
+
+        return search.getResultList().stream()
+                .map(row -> new ProductSearchHit(new ProductSummary((Long) row[0], (String) row[1], (String) row[2],
+                        (BigDecimal) row[3], (String) row[4], (Long) row[5], (Instant) row[6]), (Float) row[7]))
+                .toList();
+    }
+}
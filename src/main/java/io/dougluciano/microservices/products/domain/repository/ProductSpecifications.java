@@ -0,0 +1,101 @@
+package io.dougluciano.microservices.products.domain.repository;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.service.listing.ProductFilter;
+import io.dougluciano.microservices.products.service.listing.ProductSort;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link Specification}s da listagem de produtos com filtros e ordenação, usadas com o
+ * {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor} do {@link ProductRepository}.
+ * <p>
+ * Cada critério é escrito na mesma forma dos índices criados na migração {@code V8}, para que o
+ * planejador possa usá-los: faixas sobre {@code price} e {@code updated_at} e {@code lower(name) LIKE}
+ * para o trecho do nome.
+ */
+public final class ProductSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    /**
+     * Construtor privado para impedir a instância da classe utilitária
+     */
+    private ProductSpecifications(){}
+
+    /**
+     * Seleciona os produtos que atendem a todos os critérios do filtro.
+     *
+     * @param filter o filtro da listagem.
+     * @return a especificação correspondente.
+     */
+    public static Specification<Product> matching(ProductFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.minPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), filter.minPrice()));
+            }
+            if (filter.maxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), filter.maxPrice()));
+            }
+            if (filter.name() != null) {
+                String pattern = "%" + escapeLike(filter.name().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE));
+            }
+            if (filter.updatedSince() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), filter.updatedSince()));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Seleciona os produtos posteriores ao último entregue, na ordenação informada (keyset):
+     * {@code (campo, id) > (valor, id)} na ordem crescente e {@code <} na decrescente.
+     * <p>
+     * A comparação de tuplas é escrita como {@code campo > valor OR (campo = valor AND id > id)}, que o
+     * PostgreSQL não converte em uma faixa do índice {@code (campo, id)}: sem mais nada, cada página
+     * percorreria o índice desde o início e descartaria as linhas já entregues. Por isso o critério inclui
+     * também {@code campo >= valor} ({@code <=} na decrescente), redundante, que vira a condição de início
+     * da leitura do índice ({@code Index Cond} no {@code EXPLAIN}).
+     *
+     * @param sort a ordenação da listagem.
+     * @param key o valor do campo ordenado no último produto entregue.
+     * @param id o ID do último produto entregue.
+     * @return a especificação correspondente.
+     */
+    public static Specification<Product> after(ProductSort sort, Comparable<?> key, Long id) {
+        return (root, query, cb) -> {
+            Expression<Long> idPath = root.get("id");
+            Predicate fromKey = compare(cb, root.get(sort.attribute()), key, sort.descending(), true);
+            Predicate afterKey = compare(cb, root.get(sort.attribute()), key, sort.descending(), false);
+            Predicate sameKey = cb.equal(root.get(sort.attribute()), key);
+            Predicate afterId = sort.descending() ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+
+            return cb.and(fromKey, cb.or(afterKey, cb.and(sameKey, afterId)));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate compare(CriteriaBuilder cb, Expression path, Comparable key, boolean descending, boolean inclusive) {
+        if (inclusive) {
+            return descending ? cb.lessThanOrEqualTo(path, key) : cb.greaterThanOrEqualTo(path, key);
+        }
+        return descending ? cb.lessThan(path, key) : cb.greaterThan(path, key);
+    }
+
+    /**
+     * Escapa os curingas do {@code LIKE} para que o trecho seja comparado literalmente.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -8,17 +8,55 @@ package io.dougluciano.microservices.products.enumerated;
 public enum LogMessages {
     // --- MENSAGENS DE REQUISIÇÃO (Nível INFO) ---
     CREATE_REQUEST("Recebida requisição para criar novo produto: {}"),
+    CREATE_BATCH_REQUEST("Recebida requisição para criar {} produtos em lote."),
     UPDATE_REQUEST("Recebida requisição para atualizar produto com ID #{}"),
+    PATCH_REQUEST("Recebida requisição para atualizar parcialmente o produto com ID #{}"),
     DELETE_REQUEST("Recebida requisição para deletar produto com ID #{}."),
+    DELETE_BATCH_REQUEST("Recebida requisição para deletar {} produtos em lote."),
     FIND_ALL_REQUEST("Recebida requisição para listar todos os produtos."),
     FIND_BY_ID_REQUEST("Recebida requisição para buscar produto com ID #{}."),
+    FIND_BY_SKU_REQUEST("Recebida requisição para buscar produto com SKU {}."),
+    LOOKUP_REQUEST("Recebida requisição para buscar {} produtos por ID e {} por SKU."),
+    EXPORT_REQUEST("Recebida requisição para exportar o catálogo de produtos."),
+    UPDATE_PRICES_REQUEST("Recebida requisição para atualizar o preço de {} produtos."),
+    ADJUST_PRICES_REQUEST("Recebida requisição para reajustar em {}% os preços dos produtos. Filtro: {}."),
+    SUGGEST_REQUEST("Recebida requisição de sugestões para o prefixo '{}'."),
+    SEARCH_REQUEST("Recebida requisição para buscar produtos pelo texto '{}'. Cursor: {}, tamanho: {}."),
+    FIND_PAGE_REQUEST("Recebida requisição para listar produtos paginados. Cursor: {}, tamanho: {}, filtro: {}, ordenação: {}."),
 
     // --- MENSAGENS DE SUCESSO (Nível INFO) ---
     RESOURCE_CREATED_SUCCESS("Produto criado com sucesso com ID #{}."),
+    RESOURCE_BATCH_CREATED_SUCCESS("Lote de produtos processado: {} criados, {} rejeitados."),
     RESOURCE_UPDATED_SUCCESS("Produto com ID #{} atualizado com sucesso."),
     RESOURCE_DELETED_SUCCESS("Produto com ID #{} deletado com sucesso."),
+    RESOURCE_BATCH_DELETED_SUCCESS("Produtos deletados com sucesso: {} produtos em {} blocos ({} ms)."),
     RESOURCE_BY_ID_FOUND_SUCCESS("Produto com ID #{} encontrado com sucesso."),
     RESOURCE_FIND_ALL_SUCCESS("Listagem de produtos feita com sucesso."),
+    RESOURCE_BY_SKU_FOUND_SUCCESS("Produto com SKU {} encontrado com sucesso."),
+    RESOURCE_LOOKUP_SUCCESS("Busca de vários produtos concluída: {} encontrados, {} inexistentes."),
+    RESOURCE_EXPORT_SUCCESS("Exportação do catálogo concluída com {} produtos."),
+    RESOURCE_PRICES_UPDATED_SUCCESS("Preços atualizados com sucesso: {} produtos em {} blocos ({} ms)."),
+    RESOURCE_NOT_MODIFIED("Recurso {} não modificado; respondendo 304 Not Modified."),
+    RESOURCE_SUGGEST_SUCCESS("Sugestões de produtos devolvidas com {} itens."),
+    RESOURCE_SEARCH_SUCCESS("Busca de produtos concluída com {} itens."),
+    RESOURCE_FIND_PAGE_SUCCESS("Página de produtos listada com sucesso com {} itens."),
+
+    // --- MENSAGENS DO ÍNDICE DE SUGESTÕES ---
+    SUGGESTION_INDEX_BUILT("Índice de sugestões construído com {} produtos e {} termos (~{} KB) em {} ms."),
+    SUGGESTION_INDEX_BUDGET_EXCEEDED("Índice de sugestões atingiu o limite de memória ({}) com {} produtos; novos produtos não serão sugeridos."),
+
+    // --- MENSAGENS DO OUTBOX DE ALTERAÇÕES ---
+    OUTBOX_RELAYED("Outbox de alterações: {} alterações entregues em {} ms."),
+    OUTBOX_RELAY_FAILED("Falha ao entregar as alterações do outbox; o lote será reenviado na próxima leitura: {}"),
+    OUTBOX_SINK_NOT_CONFIGURED("Outbox de alterações sem destino (products.outbox.sink): as alterações de produtos não serão gravadas nem entregues."),
+
+    // --- MENSAGENS DA INVALIDAÇÃO DE CACHE ENTRE INSTÂNCIAS ---
+    INVALIDATION_LISTENING("Invalidação de cache: escutando o canal {} (origem {})."),
+    INVALIDATION_CONNECTION_LOST("Invalidação de cache: conexão de escuta perdida; nova tentativa em {} ms: {}"),
+
+    // --- MENSAGENS DE REQUISIÇÕES LENTAS OU COM FALHA (Nível WARN, nunca amostradas) ---
+    SLOW_REQUEST("Requisição lenta: {} {} ({}) respondida com status {} em {} ms."),
+    FAILED_REQUEST("Requisição com falha: {} {} ({}) respondida com status {} em {} ms."),
 
     // --- MENSAGENS DE ERRO DO CLIENTE (Nível WARN) ---
     RESOURCE_NOT_FOUND("Recurso do tipo Produto não encontrado para o ID #{}."),
@@ -0,0 +1,16 @@
+package io.dougluciano.microservices.products.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando o cursor de paginação enviado pelo cliente não pode ser decodificado.
+ * O tratamento principal é feito no ApiExceptionHandler global, que a transforma em um 400 Bad Request.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor de paginação inválido: " + cursor);
+    }
+}
@@ -0,0 +1,25 @@
+package io.dougluciano.microservices.products.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando um dado enviado pelo cliente é inválido e a validação não pode ser feita por
+ * anotações (ex: uma faixa de preço invertida, uma ordenação desconhecida ou a tentativa de alterar o SKU).
+ * O tratamento principal é feito no ApiExceptionHandler global, que a transforma em um 400 Bad Request
+ * com a mensagem da exceção; por isso, a mensagem deve ser sempre dirigida ao cliente.
+ * <p>
+ * Estende {@link IllegalArgumentException} para manter o contrato dos métodos que já a declaravam, mas
+ * apenas esta exceção é devolvida ao cliente: as demais {@code IllegalArgumentException} são erros internos.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestParameterException extends IllegalArgumentException {
+
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
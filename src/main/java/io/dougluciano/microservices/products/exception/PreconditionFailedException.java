@@ -0,0 +1,16 @@
+package io.dougluciano.microservices.products.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a versão informada no header {@code If-Match} não é a versão atual do recurso.
+ * O tratamento principal é feito no ApiExceptionHandler global, que a transforma em um 412 Precondition Failed.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
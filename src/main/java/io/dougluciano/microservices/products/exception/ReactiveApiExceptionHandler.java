@@ -0,0 +1,55 @@
+package io.dougluciano.microservices.products.exception;
+
+import io.dougluciano.microservices.products.api.dto.ApiErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Instant;
+
+/**
+ * Handler de exceções do módulo reativo de leitura (profile {@code reactive}).
+ * <p>
+ * Produz as mesmas respostas do {@link ApiExceptionHandler} para os erros que as leituras podem
+ * gerar, usando o {@link ServerHttpRequest} do WebFlux no lugar do {@code HttpServletRequest}.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveApiExceptionHandler {
+
+    /**
+     * Captura a exceção ResourceNotFoundException e a transforma em uma resposta HTTP 404 Not Found.
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+
+        return error(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), request);
+    }
+
+    /**
+     * Captura cursores de paginação malformados e os transforma em uma resposta HTTP 400 Bad Request.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex, ServerHttpRequest request) {
+
+        return error(HttpStatus.BAD_REQUEST, "Invalid Cursor", ex.getMessage(), request);
+    }
+
+    private static ResponseEntity<ApiErrorResponse> error(HttpStatus status, String error, String message,
+                                                          ServerHttpRequest request) {
+        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(request.getPath().value())
+                .build();
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
@@ -1,21 +1,56 @@
 package io.dougluciano.microservices.products.service.abstractions;
 
+import io.dougluciano.microservices.products.config.MetricsConfig;
+import io.dougluciano.microservices.products.domain.repository.GenericRepository;
 import io.dougluciano.microservices.products.exception.ResourceNotFoundException;
-import org.springframework.data.jpa.repository.JpaRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementação abstrata e reutilizável da interface {@link GenericService}.
  * <p>
- * Esta classe contém a lógica de CRUD padrão, utilizando um {@link JpaRepository}
+ * Esta classe contém a lógica de CRUD padrão, utilizando um {@link GenericRepository}
  * genérico para interagir com o banco de dados. O objetivo é evitar a repetição
  * de código nas classes de serviço concretas (ex: {@code ProductService}).
  * <p>
  * As anotações {@code @Transactional} são usadas para gerenciar as transações
  * com o banco de dados, garantindo a consistência dos dados.
+ * <p>
+ * Opcionalmente, a classe filha pode fornecer um {@link Cache} que é consultado antes do
+ * repositório no {@link #findById(Object)} e invalidado em todas as operações de escrita.
+ * As invalidações só são aplicadas após o commit da transação, para que uma leitura concorrente
+ * não devolva ao cache um valor que ainda pode sofrer rollback.
+ * <p>
+ * As entidades lidas do banco fora da carga do próprio cache só são colocadas nele se nenhuma
+ * invalidação ocorreu desde o início da leitura (ver {@link #putIfNotInvalidated}): uma leitura
+ * anterior ao commit de uma escrita concorrente não pode devolver ao cache o valor antigo depois que a
+ * escrita o invalidou.
+ * <p>
+ * Cada método público é medido no timer {@link MetricsConfig#SERVICE_TIMER}, com as tags
+ * {@code class} e {@code method}. As subclasses devem repetir o {@code @Timed} para que os
+ * métodos declarados nelas também sejam medidos.
  *
  * @param <T> o tipo da entidade.
  * @param <ID> o tipo do ID da entidade.
@@ -23,23 +58,177 @@ import java.util.Optional;
  * @author dougluciano
  * @since 2025-09-09
  */
+@Timed(MetricsConfig.SERVICE_TIMER)
 public abstract class AbstractGenericService<T, ID>  implements GenericService<T, ID> {
 
     /**
-     * O repositório JPA para a entidade T. É declarado como {@code protected final}
+     * O repositório para a entidade T. É declarado como {@code protected final}
      * para que seja inicializado uma vez pelo construtor e possa ser acessado
      * diretamente pelas subclasses, se necessário, para lógicas mais específicas.
      */
-    protected final JpaRepository<T, ID> repository;
+    protected final GenericRepository<T, ID> repository;
+
+    /**
+     * Quantidade de entidades enviadas ao banco a cada flush no {@link #saveAll(List)}.
+     * Deve ser igual a {@code hibernate.jdbc.batch_size}, configurado no {@code application.properties}.
+     */
+    protected static final int WRITE_BATCH_SIZE = 50;
+
+    /**
+     * Quantidade máxima de IDs por consulta no {@link #findAllById(List)}, para limitar o tamanho
+     * do {@code IN} e a quantidade de parâmetros de cada comando.
+     */
+    protected static final int READ_BATCH_SIZE = 500;
+
+    /**
+     * O {@link EntityManager} da transação corrente, usado para desanexar entidades
+     * em operações que percorrem grandes volumes de dados.
+     */
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    /**
+     * O cache de leitura das entidades, indexado pelo ID. Quando a classe filha não fornece
+     * um cache, é utilizado um {@link NoOpCache}, que sempre delega a busca ao repositório.
+     * <p>
+     * <b>[ATENÇÃO]</b> as entidades devolvidas pelo cache são compartilhadas entre requisições
+     * e não devem ser alteradas. Operações de escrita devem carregar a entidade pelo repositório.
+     */
+    protected final Cache cache;
+
+    /**
+     * Quantidade de invalidações do cache de leitura, incrementada imediatamente antes de cada uma.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
 
     /**
      * Construtor protegido para garantir que apenas classes filhas possam instanciar esta classe.
      * Exige um repositório para fornecer a funcionalidade de acesso a dados.
      *
-     * @param repository o JpaRepository específico para a entidade T, que será injetado pela classe filha.
+     * @param repository o repositório específico para a entidade T, que será injetado pela classe filha.
      */
-    protected AbstractGenericService(JpaRepository<T, ID> repository) {
+    protected AbstractGenericService(GenericRepository<T, ID> repository) {
+        this(repository, null);
+    }
+
+    /**
+     * Construtor protegido que, além do repositório, recebe o cache de leitura das entidades.
+     *
+     * @param repository o repositório específico para a entidade T, que será injetado pela classe filha.
+     * @param cache o cache de leitura por ID, ou {@code null} para não utilizar cache.
+     */
+    protected AbstractGenericService(GenericRepository<T, ID> repository, Cache cache) {
         this.repository = repository;
+        this.cache = decorate(cache, getClass().getSimpleName());
+    }
+
+    /**
+     * Prepara um cache para uso pelos serviços: as escritas passam a ser aplicadas somente após
+     * o commit da transação corrente, e um cache ausente é substituído por um {@link NoOpCache}.
+     *
+     * @param cache o cache configurado, possivelmente {@code null}.
+     * @param name o nome usado para o {@link NoOpCache} quando não houver cache.
+     * @return o cache pronto para uso, nunca {@code null}.
+     */
+    protected static Cache decorate(Cache cache, String name) {
+        return cache != null ? new TransactionAwareCacheDecorator(cache) : new NoOpCache(name);
+    }
+
+    /**
+     * Busca um valor no cache ou o carrega através do {@code loader} em caso de falha.
+     * <p>
+     * O cache encapsula as exceções lançadas na carga em uma {@link Cache.ValueRetrievalException};
+     * este método devolve ao chamador a exceção original (ex: {@link ResourceNotFoundException}).
+     *
+     * @param cache o cache a ser consultado.
+     * @param key a chave do valor.
+     * @param loader a função de carga executada apenas em caso de falha no cache.
+     * @return o valor em cache ou recém-carregado.
+     */
+    protected static <V> V getOrLoad(Cache cache, Object key, Callable<V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Extrai o identificador de uma entidade, usado para invalidar o cache após um {@code save}.
+     *
+     * @param entity a entidade.
+     * @return o ID da entidade.
+     */
+    protected abstract ID getId(T entity);
+
+    /**
+     * Remove uma entidade do cache de leitura. Dentro de uma transação, a remoção só
+     * acontece após o commit.
+     *
+     * @param id o ID da entidade a ser removida do cache.
+     */
+    protected void evict(ID id) {
+        countInvalidation();
+        cache.evict(id);
+    }
+
+    /**
+     * Remove todas as entidades do cache de leitura. Dentro de uma transação, a remoção só
+     * acontece após o commit.
+     */
+    protected void evictAll() {
+        countInvalidation();
+        cache.clear();
+    }
+
+    /**
+     * A quantidade de invalidações até o momento, a ser lida antes de uma consulta cujo resultado
+     * será colocado no cache por {@link #putIfNotInvalidated}.
+     *
+     * @return a quantidade de invalidações.
+     */
+    protected long invalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * Coloca no cache uma entidade lida do banco, se nenhuma invalidação ocorreu desde a contagem informada.
+     * <p>
+     * Uma invalidação posterior à verificação acontece depois do {@code putIfAbsent} e o remove; por isso a
+     * contagem é conferida novamente após a escrita, e a entidade é removida se ela mudou nesse intervalo.
+     *
+     * @param count a quantidade de invalidações lida antes da consulta ({@link #invalidationCount()}).
+     * @param id o ID da entidade.
+     * @param entity a entidade lida.
+     */
+    protected void putIfNotInvalidated(long count, ID id, T entity) {
+        if (invalidations.get() != count) {
+            return;
+        }
+        cache.putIfAbsent(id, entity);
+        if (invalidations.get() != count) {
+            cache.evictIfPresent(id);
+        }
+    }
+
+    /**
+     * Conta uma invalidação. Dentro de uma transação, a contagem é feita após o commit, imediatamente antes
+     * da remoção do cache, cuja sincronização é registrada em seguida.
+     */
+    private void countInvalidation() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidations.incrementAndGet();
+                }
+            });
+        } else {
+            invalidations.incrementAndGet();
+        }
     }
 
     @Override
@@ -48,18 +237,106 @@ public abstract class AbstractGenericService<T, ID>  implements GenericService<T
         return repository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<T> findPage(ID after, int size) {
+        // Busca um registro a mais que o solicitado para saber se existe uma próxima página sem executar um COUNT
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<T> content = after == null
+                ? repository.findFirstPage(limit)
+                : repository.findPageAfter(after, limit);
+
+        boolean hasNext = content.size() > size;
+        List<T> pageContent = hasNext ? content.subList(0, size) : content;
+
+        return new SliceImpl<>(pageContent, PageRequest.ofSize(size), hasNext);
+    }
 
     @Override
     @Transactional(readOnly = true)
+    public void streamAll(Consumer<T> action) {
+        try (Stream<T> entities = repository.streamAll()) {
+            entities.forEach(entity -> {
+                action.accept(entity);
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Este método não abre uma transação própria: em um acerto do cache nenhuma conexão com o
+     * banco é utilizada, e em uma falha a busca roda na transação somente leitura do repositório.
+     * A busca é feita pela carga do próprio cache, que a executa de forma atômica para o ID: uma
+     * invalidação concorrente aguarda o fim da carga e remove o valor carregado.
+     */
+    @Override
     public T findById(ID id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Recurso com ID #" + id + " não encontrado"));
+        return getOrLoad(cache, id, () -> repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Recurso com ID #" + id + " não encontrado")));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Assim como o {@link #findById(Object)}, este método não abre uma transação própria: cada bloco de IDs
+     * ausentes do cache é buscado na transação somente leitura do repositório, e as entidades encontradas
+     * são colocadas no cache de leitura, se ele não foi invalidado durante a busca.
+     */
+    @Override
+    public List<T> findAllById(List<ID> ids) {
+        long invalidationCount = invalidationCount();
+        Map<ID, T> found = new HashMap<>();
+        List<ID> misses = new ArrayList<>();
+        for (ID id : new LinkedHashSet<>(ids)) {
+            findCached(id).ifPresentOrElse(entity -> found.put(id, entity), () -> misses.add(id));
+        }
+
+        for (int start = 0; start < misses.size(); start += READ_BATCH_SIZE) {
+            List<ID> chunk = misses.subList(start, Math.min(start + READ_BATCH_SIZE, misses.size()));
+            for (T entity : repository.findAllById(chunk)) {
+                ID id = getId(entity);
+                found.put(id, entity);
+                putIfNotInvalidated(invalidationCount, id, entity);
+            }
+        }
+
+        return ids.stream().distinct().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> findCached(ID id) {
+        Cache.ValueWrapper cached = cache.get(id);
+        return cached == null ? Optional.empty() : Optional.ofNullable((T) cached.get());
     }
 
     @Override
     @Transactional
     public T save(T entity) {
-        return repository.save(entity);
+        T saved = repository.save(entity);
+        evict(getId(saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<T> saveAll(List<T> entities) {
+        List<T> saved = new ArrayList<>(entities.size());
+
+        for (int start = 0; start < entities.size(); start += WRITE_BATCH_SIZE) {
+            List<T> chunk = entities.subList(start, Math.min(start + WRITE_BATCH_SIZE, entities.size()));
+            saved.addAll(repository.saveAll(chunk));
+
+            // Envia o lote ao banco e esvazia o contexto de persistência, mantendo a memória constante
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        saved.forEach(entity -> evict(getId(entity)));
+        return saved;
     }
 
     @Override
@@ -71,7 +348,9 @@ public abstract class AbstractGenericService<T, ID>  implements GenericService<T
          * lançar um erro caso a entidade com o 'id' fornecido não exista.
           */
         if (repository.findById(id).isPresent()) {
-            return repository.save(entityToUpdate);
+            T updated = repository.save(entityToUpdate);
+            evict(id);
+            return updated;
         }
         // Retornaremos uma exceção aqui no futuro
         return null;
@@ -81,11 +360,12 @@ public abstract class AbstractGenericService<T, ID>  implements GenericService<T
     @Transactional
     public void deleteById(ID id) {
 
-        if(!repository.existsById(id)){
+        // Um único DELETE: a quantidade de linhas removidas substitui o existsById e a carga da entidade
+        if (repository.deleteOneById(id) == 0) {
             throw new ResourceNotFoundException("Recurso com ID #" + id + " não encontrado");
         }
 
-        repository.deleteById(id);
+        evict(id);
     }
 
 
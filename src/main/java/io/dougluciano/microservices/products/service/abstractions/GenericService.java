@@ -1,7 +1,10 @@
 package io.dougluciano.microservices.products.service.abstractions;
 
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Define o contrato padrão para um serviço genérico de CRUD (Create, Read, Update, Delete).
@@ -27,6 +30,30 @@ public interface GenericService<T, ID> {
      */
     List<T> findAll();
 
+    /**
+     * Retorna uma página de entidades ordenadas pelo ID, iniciando imediatamente após
+     * o ID informado (paginação por cursor / keyset).
+     * <p>
+     * Diferente do {@link #findAll()}, o custo de cada página é constante, independentemente
+     * da profundidade, pois a consulta percorre o índice da chave primária.
+     *
+     * @param after o último ID já entregue ao cliente, ou {@code null} para a primeira página.
+     * @param size a quantidade máxima de entidades na página.
+     * @return um {@link Slice} com as entidades da página e a indicação se existe uma próxima página.
+     */
+    Slice<T> findPage(ID after, int size);
+
+    /**
+     * Percorre todas as entidades do tipo T, uma a uma, sem materializá-las em uma lista.
+     * <p>
+     * Cada entidade é desanexada do contexto de persistência logo após ser processada,
+     * mantendo o consumo de memória constante mesmo para dezenas de milhões de registros.
+     * <b>[ATENÇÃO]</b> a ação não deve guardar referências às entidades recebidas.
+     *
+     * @param action a ação executada para cada entidade, na ordem do ID.
+     */
+    void streamAll(Consumer<T> action);
+
     /**
      * Busca uma entidade pelo seu ID e lança uma exceção se não for encontrada.
      * @param id o ID da entidade.
@@ -35,6 +62,25 @@ public interface GenericService<T, ID> {
      */
     T findById(ID id);
 
+    /**
+     * Busca várias entidades pelos seus IDs, sem falhar pelos IDs inexistentes.
+     * <p>
+     * As entidades que já estão no cache de leitura não são consultadas; as demais são buscadas com uma
+     * única consulta por bloco de IDs ({@code WHERE id IN (...)}), em vez de uma consulta por entidade.
+     *
+     * @param ids os IDs das entidades, possivelmente repetidos.
+     * @return as entidades encontradas, sem repetição, na ordem em que os IDs foram informados; os IDs sem
+     *         entidade correspondente são omitidos.
+     */
+    List<T> findAllById(List<ID> ids);
+
+    /**
+     * Busca uma entidade apenas no cache de leitura, sem consultar o banco.
+     * @param id o ID da entidade.
+     * @return um {@link Optional} com a entidade em cache, ou vazio se ela não estiver no cache.
+     */
+    Optional<T> findCached(ID id);
+
     /**
      * Salva uma nova entidade no banco de dados. Se a entidade já tiver um ID,
      * o provedor JPA pode tratá-la como uma atualização.
@@ -43,6 +89,14 @@ public interface GenericService<T, ID> {
      */
     T save(T entity);
 
+    /**
+     * Salva uma lista de novas entidades em uma única transação, enviando os INSERTs
+     * ao banco em lotes JDBC.
+     * @param entities as entidades a serem salvas.
+     * @return as entidades salvas, na mesma ordem, com os IDs gerados.
+     */
+    List<T> saveAll(List<T> entities);
+
     /**
      * Atualiza uma entidade existente, identificada pelo seu ID.
      * @param id o ID da entidade a ser atualizada.
@@ -0,0 +1,12 @@
+package io.dougluciano.microservices.products.service.batch;
+
+/**
+ * Resultado de um item de uma operação em lote.
+ *
+ * @param index a posição do item na lista recebida.
+ * @param sku o SKU do item.
+ * @param id o ID gerado, ou {@code null} se o item não foi persistido.
+ * @param status a situação do item.
+ */
+public record BatchItemResult(int index, String sku, Long id, BatchItemStatus status) {
+}
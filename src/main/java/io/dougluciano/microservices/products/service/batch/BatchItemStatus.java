@@ -0,0 +1,17 @@
+package io.dougluciano.microservices.products.service.batch;
+
+/**
+ * Situação de cada item de uma operação em lote.
+ */
+public enum BatchItemStatus {
+
+    /**
+     * O item foi persistido com sucesso.
+     */
+    CREATED,
+
+    /**
+     * O item foi rejeitado porque o SKU já está cadastrado ou se repete no próprio lote.
+     */
+    DUPLICATED_SKU
+}
@@ -0,0 +1,14 @@
+package io.dougluciano.microservices.products.service.batch;
+
+import java.util.List;
+
+/**
+ * Resultado de uma operação em massa executada em blocos.
+ *
+ * @param affectedRows o total de linhas alteradas.
+ * @param elapsedMillis o tempo total da operação.
+ * @param chunks o resultado de cada bloco.
+ * @param notFound os IDs ou SKUs informados que não correspondem a nenhum produto.
+ */
+public record BulkResult(int affectedRows, long elapsedMillis, List<ChunkResult> chunks, List<String> notFound) {
+}
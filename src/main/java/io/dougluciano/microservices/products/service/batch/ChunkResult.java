@@ -0,0 +1,11 @@
+package io.dougluciano.microservices.products.service.batch;
+
+/**
+ * Resultado de um bloco (uma transação) de uma operação em massa.
+ *
+ * @param chunk o número do bloco, a partir de 1.
+ * @param affectedRows a quantidade de linhas alteradas no bloco.
+ * @param elapsedMillis o tempo de execução do bloco, incluindo o commit.
+ */
+public record ChunkResult(int chunk, int affectedRows, long elapsedMillis) {
+}
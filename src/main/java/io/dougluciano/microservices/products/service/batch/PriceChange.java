@@ -0,0 +1,13 @@
+package io.dougluciano.microservices.products.service.batch;
+
+import java.math.BigDecimal;
+
+/**
+ * Novo preço de um produto, identificado pelo ID ou pelo SKU.
+ *
+ * @param id o ID do produto, ou {@code null} se o produto for identificado pelo SKU.
+ * @param sku o SKU do produto, usado apenas quando o ID não é informado.
+ * @param price o novo preço.
+ */
+public record PriceChange(Long id, String sku, BigDecimal price) {
+}
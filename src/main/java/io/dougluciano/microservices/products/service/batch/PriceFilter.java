@@ -0,0 +1,14 @@
+package io.dougluciano.microservices.products.service.batch;
+
+import java.math.BigDecimal;
+
+/**
+ * Filtro dos produtos afetados por um reajuste percentual de preços.
+ * Os critérios nulos são ignorados; um filtro sem critérios seleciona todos os produtos.
+ *
+ * @param skuPrefix o prefixo do SKU.
+ * @param minPrice o preço mínimo atual (inclusive).
+ * @param maxPrice o preço máximo atual (inclusive).
+ */
+public record PriceFilter(String skuPrefix, BigDecimal minPrice, BigDecimal maxPrice) {
+}
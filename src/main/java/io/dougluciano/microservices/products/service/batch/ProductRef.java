@@ -0,0 +1,22 @@
+package io.dougluciano.microservices.products.service.batch;
+
+/**
+ * Referência a um produto, identificado pelo ID ou pelo SKU.
+ *
+ * @param id o ID do produto, ou {@code null} se o produto for identificado pelo SKU.
+ * @param sku o SKU do produto, usado apenas quando o ID não é informado.
+ */
+public record ProductRef(Long id, String sku) {
+
+    /**
+     * A chave de um produto nas respostas das operações com vários produtos (ex: os itens não encontrados):
+     * {@code id:<ID>} ou {@code sku:<SKU>}.
+     *
+     * @param id o ID do produto, ou {@code null} se o produto for identificado pelo SKU.
+     * @param sku o SKU do produto, usado apenas quando o ID não é informado.
+     * @return a chave do produto.
+     */
+    public static String keyOf(Long id, String sku) {
+        return id != null ? "id:" + id : "sku:" + sku;
+    }
+}
@@ -0,0 +1,40 @@
+package io.dougluciano.microservices.products.service.events;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+
+/**
+ * Evento publicado pelos serviços a cada produto criado, alterado ou removido.
+ * <p>
+ * Os valores são copiados da entidade no momento da publicação, sempre dentro da transação da alteração.
+ * Os ouvintes que mantêm estruturas derivadas do catálogo devem usar {@code @TransactionalEventListener},
+ * para só aplicar a alteração após o commit (e ignorá-la em um rollback); o outbox
+ * ({@code ProductOutbox}) é a exceção, pois precisa gravar a alteração na mesma transação.
+ *
+ * @param id o ID do produto.
+ * @param name o nome do produto, ou {@code null} se ele foi removido.
+ * @param sku o SKU do produto, ou {@code null} se ele foi removido sem ser carregado.
+ * @param deleted se o produto foi removido.
+ */
+public record ProductChangedEvent(Long id, String name, String sku, boolean deleted) {
+
+    /**
+     * Cria o evento de um produto criado ou alterado.
+     *
+     * @param product o produto, já com o ID preenchido.
+     * @return o evento.
+     */
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(product.getId(), product.getName(), product.getSku(), false);
+    }
+
+    /**
+     * Cria o evento de um produto removido.
+     *
+     * @param id o ID do produto.
+     * @param sku o SKU do produto, se conhecido.
+     * @return o evento.
+     */
+    public static ProductChangedEvent deleted(Long id, String sku) {
+        return new ProductChangedEvent(id, null, sku, true);
+    }
+}
@@ -0,0 +1,36 @@
+package io.dougluciano.microservices.products.service.events;
+
+import java.util.Set;
+
+/**
+ * Evento local publicado quando outra instância do serviço alterou produtos: os caches em memória desta
+ * instância devem descartar (ou recarregar) os produtos informados.
+ * <p>
+ * As alterações feitas pela própria instância não geram este evento; elas já são aplicadas aos caches
+ * pelos {@link ProductChangedEvent}s.
+ *
+ * @param ids os IDs dos produtos alterados ou removidos em outra instância.
+ * @param all se todos os produtos devem ser descartados, porque notificações podem ter sido perdidas
+ *            (ex: a conexão de escuta caiu e foi restabelecida). Nesse caso {@code ids} é vazio.
+ */
+public record ProductsInvalidatedEvent(Set<Long> ids, boolean all) {
+
+    /**
+     * Cria o evento que descarta todos os produtos.
+     *
+     * @return o evento.
+     */
+    public static ProductsInvalidatedEvent everything() {
+        return new ProductsInvalidatedEvent(Set.of(), true);
+    }
+
+    /**
+     * Cria o evento que descarta os produtos informados.
+     *
+     * @param ids os IDs dos produtos.
+     * @return o evento.
+     */
+    public static ProductsInvalidatedEvent of(Set<Long> ids) {
+        return new ProductsInvalidatedEvent(Set.copyOf(ids), false);
+    }
+}
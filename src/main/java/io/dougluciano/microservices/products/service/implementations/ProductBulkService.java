@@ -0,0 +1,248 @@
+package io.dougluciano.microservices.products.service.implementations;
+
+import io.dougluciano.microservices.products.config.BatchProperties;
+import io.dougluciano.microservices.products.config.CacheConfig;
+import io.dougluciano.microservices.products.config.MetricsConfig;
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import io.dougluciano.microservices.products.domain.repository.ProductRepository;
+import io.dougluciano.microservices.products.exception.InvalidRequestParameterException;
+import io.dougluciano.microservices.products.service.batch.BulkResult;
+import io.dougluciano.microservices.products.service.batch.ChunkResult;
+import io.dougluciano.microservices.products.service.batch.PriceChange;
+import io.dougluciano.microservices.products.service.batch.PriceFilter;
+import io.dougluciano.microservices.products.service.batch.ProductRef;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import io.dougluciano.microservices.products.service.invalidation.ProductInvalidationPublisher;
+import io.dougluciano.microservices.products.service.outbox.ProductOutbox;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Serviço de operações em massa sobre produtos: reajuste de preços e exclusão.
+ * <p>
+ * Ao contrário das operações de {@link ProductService}, que carregam cada entidade, as linhas são
+ * alteradas com comandos baseados em conjunto (ver
+ * {@link io.dougluciano.microservices.products.domain.repository.ProductBulkOperations}), em blocos de
+ * {@link BatchProperties#chunkSize()} linhas. Cada bloco é executado e confirmado em sua própria transação:
+ * se um bloco falhar, os anteriores permanecem aplicados e a exceção é propagada.
+ * <p>
+ * Após o commit de cada bloco, os produtos afetados são removidos do cache por ID, pelo
+ * {@link ProductService#evict(Collection)}, que também conta as invalidações do cache. O cache de SKU
+ * guarda apenas o ID do produto: só precisa ser invalidado quando o produto é excluído. As exclusões
+ * também publicam um {@link ProductChangedEvent} por produto, dentro da transação do bloco; os reajustes de
+ * preço não alteram o nome nem o SKU e não publicam eventos, mas registram as alterações diretamente no
+ * {@link ProductOutbox} e no {@link ProductInvalidationPublisher}, na mesma transação.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ProductBulkService {
+
+    /**
+     * O maior preço representável na coluna {@code price} ({@code NUMERIC(10, 2)}).
+     */
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final ProductRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductService productService;
+    private final Cache skuCache;
+    private final int chunkSize;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductOutbox outbox;
+    private final ProductInvalidationPublisher invalidation;
+
+    public ProductBulkService(ProductRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              ProductService productService,
+                              CacheManager cacheManager,
+                              BatchProperties batchProperties,
+                              ApplicationEventPublisher eventPublisher,
+                              ProductOutbox outbox,
+                              ProductInvalidationPublisher invalidation) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.productService = productService;
+        this.skuCache = cacheManager.getCache(CacheConfig.PRODUCTS_BY_SKU);
+        this.chunkSize = batchProperties.chunkSize();
+        this.eventPublisher = eventPublisher;
+        this.outbox = outbox;
+        this.invalidation = invalidation;
+    }
+
+    /**
+     * Define o preço de cada produto informado.
+     * Se o mesmo produto for informado mais de uma vez, prevalece o último preço.
+     *
+     * @param changes os novos preços, com os produtos identificados pelo ID ou pelo SKU.
+     * @return o resultado de cada bloco e os IDs/SKUs que não correspondem a nenhum produto
+     *         (no formato {@code id:<id>} ou {@code sku:<sku>}).
+     */
+    public BulkResult updatePrices(List<PriceChange> changes) {
+        Map<String, PriceChange> byKey = new LinkedHashMap<>();
+        for (PriceChange change : changes) {
+            byKey.put(keyOf(change.id(), change.sku()), change);
+        }
+
+        return executeInChunks(byKey, repository::updatePrices, false);
+    }
+
+    /**
+     * Exclui os produtos informados, sem carregá-los, com um {@code DELETE} por bloco.
+     *
+     * @param products os produtos a excluir, identificados pelo ID ou pelo SKU.
+     * @return o resultado de cada bloco e os IDs/SKUs que não correspondem a nenhum produto
+     *         (no formato {@code id:<id>} ou {@code sku:<sku>}).
+     */
+    public BulkResult deleteAll(List<ProductRef> products) {
+        Map<String, ProductRef> byKey = new LinkedHashMap<>();
+        for (ProductRef product : products) {
+            byKey.put(keyOf(product.id(), product.sku()), product);
+        }
+
+        return executeInChunks(byKey, repository::deleteProducts, true);
+    }
+
+    /**
+     * Aplica um reajuste percentual a todos os produtos que atendem ao filtro.
+     * <p>
+     * Os produtos são percorridos na ordem do ID (keyset), um bloco por transação, então um
+     * produto nunca é reajustado duas vezes, mesmo que o novo preço continue atendendo ao filtro.
+     * <p>
+     * Antes do primeiro bloco, o reajuste é aplicado ao maior preço entre os produtos filtrados: se o
+     * resultado não couber na coluna {@code price}, nenhum bloco é executado. Sem essa verificação, o
+     * estouro só seria percebido no bloco do produto mais caro, com os anteriores já confirmados.
+     *
+     * @param percentage o percentual do reajuste (ex: {@code 10} para +10%, {@code -5} para -5%).
+     * @param filter o filtro dos produtos.
+     * @return o resultado de cada bloco.
+     * @throws InvalidRequestParameterException se o reajuste levar algum preço acima do máximo da coluna.
+     */
+    public BulkResult adjustPrices(BigDecimal percentage, PriceFilter filter) {
+        if (percentage.signum() > 0) {
+            BigDecimal maxPrice = repository.findMaxPrice(filter);
+            if (maxPrice != null && adjust(maxPrice, percentage).compareTo(MAX_PRICE) > 0) {
+                throw new InvalidRequestParameterException("O reajuste de " + percentage.toPlainString()
+                        + "% levaria o preço de " + maxPrice.toPlainString() + " acima do máximo de "
+                        + MAX_PRICE.toPlainString() + "!");
+            }
+        }
+
+        long start = System.nanoTime();
+        List<ChunkResult> chunks = new ArrayList<>();
+        long afterId = 0;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            final long after = afterId;
+            List<Long> updated = transactionTemplate.execute(status -> {
+                List<Long> ids = repository.adjustPrices(percentage, filter, after, chunkSize);
+                ids.forEach(id -> {
+                    outbox.record(ProductChange.Type.SAVED, id, null);
+                    invalidation.record(id);
+                });
+                return ids;
+            });
+
+            if (updated.isEmpty()) {
+                break;
+            }
+
+            productService.evict(updated);
+            chunks.add(new ChunkResult(chunks.size() + 1, updated.size(), elapsedMillis(chunkStart)));
+            afterId = Collections.max(updated);
+        }
+
+        return new BulkResult(total(chunks), elapsedMillis(start), chunks, List.of());
+    }
+
+    /**
+     * Executa uma operação sobre produtos identificados, um bloco por transação.
+     *
+     * @param byKey os itens da operação, sem repetição, indexados pela chave do produto ({@link #keyOf}).
+     * @param operation a operação de um bloco, que devolve o SKU de cada produto afetado, indexado pelo ID.
+     * @param deletion se a operação exclui os produtos: os SKUs afetados também são removidos do cache de SKU
+     *                 e um {@link ProductChangedEvent} é publicado para cada produto. Nas demais operações,
+     *                 cada produto é registrado no {@link ProductOutbox} e no {@link ProductInvalidationPublisher}.
+     * @return o resultado de cada bloco e as chaves que não corresponderam a nenhum produto.
+     */
+    private <E> BulkResult executeInChunks(Map<String, E> byKey, Function<List<E>, Map<Long, String>> operation,
+                                           boolean deletion) {
+        List<E> distinct = new ArrayList<>(byKey.values());
+
+        long start = System.nanoTime();
+        List<ChunkResult> chunks = new ArrayList<>();
+
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<E> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+
+            long chunkStart = System.nanoTime();
+            Map<Long, String> affected = transactionTemplate.execute(status -> {
+                Map<Long, String> rows = operation.apply(chunk);
+                if (deletion) {
+                    rows.forEach((id, sku) -> eventPublisher.publishEvent(ProductChangedEvent.deleted(id, sku)));
+                } else {
+                    rows.forEach((id, sku) -> {
+                        outbox.record(ProductChange.Type.SAVED, id, sku);
+                        invalidation.record(id);
+                    });
+                }
+                return rows;
+            });
+            productService.evict(affected.keySet());
+            if (deletion && skuCache != null) {
+                affected.values().forEach(skuCache::evict);
+            }
+
+            chunks.add(new ChunkResult(chunks.size() + 1, affected.size(), elapsedMillis(chunkStart)));
+
+            // O que sobrar em byKey ao final são os produtos não encontrados
+            affected.forEach((id, sku) -> {
+                byKey.remove(keyOf(id, null));
+                byKey.remove(keyOf(null, sku));
+            });
+        }
+
+        return new BulkResult(total(chunks), elapsedMillis(start), chunks, new ArrayList<>(byKey.keySet()));
+    }
+
+    /**
+     * Aplica o reajuste a um preço com o mesmo arredondamento do comando SQL (ver
+     * {@link io.dougluciano.microservices.products.domain.repository.ProductBulkOperations#adjustPrices}).
+     */
+    private static BigDecimal adjust(BigDecimal price, BigDecimal percentage) {
+        return price.multiply(ONE_HUNDRED.add(percentage)).divide(ONE_HUNDRED, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Chave que identifica um produto: o ID, quando informado, ou o SKU.
+     * Os prefixos evitam que um ID e um SKU com o mesmo texto sejam confundidos.
+     */
+    private static String keyOf(Long id, String sku) {
+        return ProductRef.keyOf(id, sku);
+    }
+
+    private static int total(List<ChunkResult> chunks) {
+        return chunks.stream().mapToInt(ChunkResult::affectedRows).sum();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,57 @@
+package io.dougluciano.microservices.products.service.implementations;
+
+import io.dougluciano.microservices.products.config.ReactiveProperties;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.repository.ProductReactiveRepository;
+import io.dougluciano.microservices.products.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Serviço de leitura de produtos do módulo reativo (profile {@code reactive}).
+ * <p>
+ * Espelha as leituras do {@link ProductService} ({@code findById}, {@code findBySku}, {@code findPage} e
+ * {@code streamAll}) sem bloquear threads: cada método devolve um {@link Mono} ou {@link Flux} que só
+ * consulta o banco quando assinado. As leituras vão sempre ao banco, sem o cache em memória do caminho JPA.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ProductReactiveService {
+
+    private final ProductReactiveRepository repository;
+    private final ReactiveProperties properties;
+
+    public Mono<Product> findById(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Recurso com ID #" + id + " não encontrado")));
+    }
+
+    public Mono<Product> findBySku(String sku) {
+        return repository.findBySku(sku)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Recurso com SKU " + sku + " não encontrado")));
+    }
+
+    public Mono<Slice<Product>> findPage(Long after, int size) {
+        // Busca um registro a mais que o solicitado para saber se existe uma próxima página sem executar um COUNT
+        return repository.findPage(after, size + 1)
+                .collectList()
+                .<Slice<Product>>map(content -> {
+                    boolean hasNext = content.size() > size;
+                    List<Product> pageContent = hasNext ? content.subList(0, size) : content;
+                    return new SliceImpl<>(pageContent, PageRequest.ofSize(size), hasNext);
+                });
+    }
+
+    public Flux<Product> streamAll() {
+        return repository.streamAll(properties.exportFetchSize());
+    }
+}
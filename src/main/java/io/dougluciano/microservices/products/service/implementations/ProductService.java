@@ -1,12 +1,50 @@
 package io.dougluciano.microservices.products.service.implementations;
 
+import io.dougluciano.microservices.products.config.CacheConfig;
+import io.dougluciano.microservices.products.config.MetricsConfig;
 import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSearchHit;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
 import io.dougluciano.microservices.products.domain.repository.ProductRepository;
+import io.dougluciano.microservices.products.domain.repository.ProductSpecifications;
+import io.dougluciano.microservices.products.exception.InvalidRequestParameterException;
+import io.dougluciano.microservices.products.exception.PreconditionFailedException;
 import io.dougluciano.microservices.products.exception.ResourceNotFoundException;
 import io.dougluciano.microservices.products.service.abstractions.AbstractGenericService;
+import io.dougluciano.microservices.products.service.batch.BatchItemResult;
+import io.dougluciano.microservices.products.service.batch.BatchItemStatus;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import io.dougluciano.microservices.products.service.events.ProductsInvalidatedEvent;
+import io.dougluciano.microservices.products.service.listing.ProductFilter;
+import io.dougluciano.microservices.products.service.listing.ProductSort;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * Implementação concreta do serviço para gerenciar a entidade {@link Product}.
  * <p>
@@ -15,49 +53,490 @@ import org.springframework.transaction.annotation.Transactional;
  * para todas as entidades do sistema.
  * <p>
  * O objetivo principal desta classe é conter lógicas de negócio que são
- * <b>específicas</b> apenas para Produtos e que não se aplicam a outras entidades.
- * Por enquanto, a classe pode parecer vazia, pois todas as operações básicas
- * já estão implementadas na classe pai.
+ * <b>específicas</b> apenas para Produtos e que não se aplicam a outras entidades:
+ * <ul>
+ *     <li>a busca por SKU, com um cache próprio que mapeia o SKU para o ID do produto;</li>
+ *     <li>as buscas em lote por IDs e por SKUs, que consultam o banco apenas pelos ausentes dos caches;</li>
+ *     <li>as listagens paginadas por cursor, com filtros e ordenação, a exportação em streaming e a busca
+ *     textual, todas no modelo de leitura {@link ProductSummary} ou {@link ProductSearchHit};</li>
+ *     <li>as escritas versionadas ({@code update} e {@code patch} com a versão esperada), a criação em lote e
+ *     a publicação de um {@link ProductChangedEvent} a cada alteração.</li>
+ * </ul>
  * <p>
  * <b>Observação de Design Importante:</b>
  * Esta classe <b>não</b> declara seu próprio campo de repositório. Ela utiliza o campo
- * {@code protected final JpaRepository<Product, Long> repository} herdado de
+ * {@code protected final GenericRepository<Product, Long> repository} herdado de
  * {@code AbstractGenericService}, que é inicializado através do construtor abaixo.
  * Isso evita a duplicação de campos ("field shadowing") e mantém o código limpo.
+ * As consultas específicas de {@link ProductRepository} são acessadas por {@link #productRepository()}.
  *
  * @author dougluciano
  * @since 2025-09-09
  */
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ProductService extends AbstractGenericService<Product, Long> {
 
+    /**
+     * Tamanho máximo do texto aceito pela busca textual.
+     */
+    public static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
+    /**
+     * Cache que mapeia o SKU para o ID do produto. Guardar apenas o ID mantém um único
+     * exemplar de cada produto em memória (no cache por ID) e faz com que atualizações e
+     * exclusões, que invalidam o cache por ID, sejam refletidas também nas buscas por SKU.
+     */
+    private final Cache skuCache;
+
+    /**
+     * Publica um {@link ProductChangedEvent} a cada produto criado, alterado ou removido, para as
+     * estruturas derivadas do catálogo (ex: o índice do autocompletar).
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Construtor que realiza a injeção de dependência do {@link ProductRepository}.
      * <p>
      * O repositório específico de {@code Product} é então passado para o construtor
      * da superclasse {@code AbstractGenericService}, que o armazena em seu campo
-     * {@code protected} para uso nas operações de CRUD genéricas.
+     * {@code protected} para uso nas operações de CRUD genéricas, junto com o cache
+     * de produtos por ID ({@link CacheConfig#PRODUCTS_BY_ID}). O cache de SKU
+     * ({@link CacheConfig#PRODUCTS_BY_SKU}) é mantido por esta classe.
      *
      * @param productRepository o repositório específico para a entidade Product, injetado pelo Spring.
+     * @param cacheManager o gerenciador de caches configurado pelo Spring Boot.
+     * @param eventPublisher o publicador dos eventos de alteração dos produtos.
+     */
+    public ProductService(ProductRepository productRepository, CacheManager cacheManager,
+                          ApplicationEventPublisher eventPublisher) {
+        super(productRepository, cacheManager.getCache(CacheConfig.PRODUCTS_BY_ID));
+        this.skuCache = decorate(cacheManager.getCache(CacheConfig.PRODUCTS_BY_SKU), CacheConfig.PRODUCTS_BY_SKU);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected Long getId(Product product) {
+        return product.getId();
+    }
+
+    /**
+     * Busca a versão de um produto, usada para responder requisições condicionais.
+     * <p>
+     * Se o produto está no cache por ID, a versão é extraída dele, sem consultar o banco. Caso contrário,
+     * a consulta lê apenas o ID, a versão e a data de alteração, sem carregar a entidade (e sem colocá-la
+     * no cache).
+     *
+     * @param id o ID do produto.
+     * @return a versão do produto.
+     * @throws ResourceNotFoundException se não existir produto com o ID informado.
+     */
+    public ProductVersion findVersion(Long id) {
+        Optional<Product> cached = findCached(id);
+        if (cached.isPresent()) {
+            return ProductVersion.of(cached.get());
+        }
+        return productRepository().findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Recurso com ID #" + id + " não encontrado"));
+    }
+
+    /**
+     * Busca um produto que esteja, no mínimo, na versão informada (ex: a devolvida por {@link #findVersion}).
+     * <p>
+     * Se o produto em cache é anterior a ela (uma escrita confirmada que ainda não o invalidou), ele é
+     * removido do cache e recarregado do banco. O produto devolvido pode ser posterior à versão informada,
+     * se foi alterado depois dela.
+     *
+     * @param version a versão mínima do produto.
+     * @return o produto encontrado.
+     * @throws ResourceNotFoundException se o produto não existir mais.
+     */
+    public Product findAtLeast(ProductVersion version) {
+        Product product = findById(version.id());
+        if (product.getVersion() < version.version()) {
+            evict(version.id());
+            product = findById(version.id());
+        }
+        return product;
+    }
+
+    /**
+     * Busca um produto pelo seu SKU.
+     * <p>
+     * O SKU é resolvido para o ID através do cache de SKU e o produto é então buscado no cache
+     * por ID. Como o SKU de um produto não pode ser alterado, o mapeamento só fica obsoleto
+     * quando o produto é excluído (e o SKU eventualmente reutilizado por outro produto); nesse
+     * caso a busca por ID falha ou devolve outro SKU, e o mapeamento é recarregado do banco.
+     *
+     * @param sku o SKU do produto.
+     * @return o produto encontrado.
+     * @throws ResourceNotFoundException se não existir produto com o SKU informado.
+     */
+    public Product findBySku(String sku) {
+        Long id = findIdBySku(sku);
+
+        try {
+            Product product = findById(id);
+            if (sku.equals(product.getSku())) {
+                return product;
+            }
+        } catch (ResourceNotFoundException ex) {
+            // O ID em cache pertence a um produto excluído; o mapeamento é recarregado abaixo
+        }
+
+        skuCache.evict(sku);
+        return findById(findIdBySku(sku));
+    }
+
+    /**
+     * Remove do cache por ID produtos alterados sem passar por este serviço (ex: as operações em massa
+     * do {@link ProductBulkService}). Dentro de uma transação, a remoção só acontece após o commit.
+     *
+     * @param ids os IDs dos produtos alterados.
+     */
+    public void evict(Collection<Long> ids) {
+        ids.forEach(this::evict);
+    }
+
+    /**
+     * Busca vários produtos pelos seus SKUs, sem falhar pelos SKUs inexistentes.
+     * <p>
+     * Os SKUs presentes no cache de SKU são resolvidos para os IDs e os produtos são buscados com o
+     * {@link #findAllById(List)}; um mapeamento obsoleto (o produto não existe mais ou tem outro SKU) é
+     * tratado como uma falha no cache. Os SKUs restantes são buscados com uma única consulta por bloco, e os
+     * produtos encontrados são colocados nos dois caches (no cache por ID, se ele não foi invalidado durante
+     * a busca).
+     *
+     * @param skus os SKUs dos produtos, possivelmente repetidos.
+     * @return os produtos encontrados, sem repetição, na ordem em que os SKUs foram informados; os SKUs sem
+     *         produto correspondente são omitidos.
+     */
+    public List<Product> findAllBySku(List<String> skus) {
+        List<String> distinct = skus.stream().distinct().toList();
+        long invalidationCount = invalidationCount();
+        Map<String, Product> found = new HashMap<>();
+
+        Map<String, Long> cachedIds = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String sku : distinct) {
+            Cache.ValueWrapper cached = skuCache.get(sku);
+            if (cached != null && cached.get() instanceof Long id) {
+                cachedIds.put(sku, id);
+            } else {
+                misses.add(sku);
+            }
+        }
+
+        Map<Long, Product> byId = findAllById(List.copyOf(cachedIds.values())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        cachedIds.forEach((sku, id) -> {
+            Product product = byId.get(id);
+            if (product != null && sku.equals(product.getSku())) {
+                found.put(sku, product);
+            } else {
+                skuCache.evict(sku);
+                misses.add(sku);
+            }
+        });
+
+        for (int start = 0; start < misses.size(); start += READ_BATCH_SIZE) {
+            List<String> chunk = misses.subList(start, Math.min(start + READ_BATCH_SIZE, misses.size()));
+            for (Product product : productRepository().findAllBySkuIn(chunk)) {
+                found.put(product.getSku(), product);
+                putIfNotInvalidated(invalidationCount, product.getId(), product);
+                skuCache.putIfAbsent(product.getSku(), product.getId());
+            }
+        }
+
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Remove do cache por ID os produtos alterados em outra instância do serviço. O cache de SKU não
+     * precisa ser invalidado produto a produto (ver {@link #findBySku(String)}); ele só é esvaziado, junto
+     * com o cache por ID, quando todos os produtos são invalidados.
+     *
+     * @param event o evento publicado pela escuta das invalidações.
+     */
+    @EventListener
+    public void onProductsInvalidated(ProductsInvalidatedEvent event) {
+        if (event.all()) {
+            evictAll();
+            skuCache.clear();
+        } else {
+            evict(event.ids());
+        }
+    }
+
+    /**
+     * Busca todos os produtos, ordenados pelo ID, no modelo de leitura {@link ProductSummary}.
+     * <p>
+     * Diferente do {@link #findAll()}, nenhuma entidade é criada: o Hibernate lê apenas as colunas da
+     * visão pública e monta os objetos diretamente, sem ocupar o contexto de persistência.
+     *
+     * @return todos os produtos.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findAllSummaries() {
+        return productRepository().findAllSummaries();
+    }
+
+    /**
+     * Busca os produtos informados no modelo de leitura {@link ProductSummary}, sem passar pelo cache.
+     *
+     * @param ids os IDs dos produtos.
+     * @return os produtos encontrados, em qualquer ordem; os IDs sem produto são ignorados.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> findSummaries(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : productRepository().findSummariesByIdIn(ids);
+    }
+
+    /**
+     * Busca uma página de produtos filtrados e ordenados, paginada por cursor (keyset), no modelo de
+     * leitura {@link ProductSummary}.
+     * <p>
+     * A consulta é montada com {@link ProductSpecifications}: a página começa logo após o valor do campo
+     * ordenado e o ID do último produto entregue, e o índice {@code (campo, id)} é percorrido a partir desse
+     * ponto, com custo independente da profundidade da página. Sem filtros e na ordenação padrão, é a mesma
+     * consulta de {@link #findPage(Long, int)} ({@code WHERE id > ? ORDER BY id LIMIT ?}), mas sem criar
+     * entidades. Também é buscado um registro a mais que o solicitado para saber se existe uma próxima
+     * página, sem {@code COUNT}.
+     *
+     * @param filter o filtro da listagem.
+     * @param sort a ordenação da listagem.
+     * @param afterKey o valor do campo ordenado no último produto entregue, ou {@code null} na primeira página
+     *                 (na ordenação pelo ID, pode ser omitido: o valor é o próprio {@code afterId}).
+     * @param afterId o ID do último produto entregue, ou {@code null} na primeira página.
+     * @param size o tamanho da página.
+     * @return a página de produtos.
+     * @throws InvalidRequestParameterException se a faixa de preço for inválida.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductSummary> findPage(ProductFilter filter, ProductSort sort, Comparable<?> afterKey, Long afterId, int size) {
+        if (filter.minPrice() != null && filter.maxPrice() != null && filter.minPrice().compareTo(filter.maxPrice()) > 0) {
+            throw new InvalidRequestParameterException("O preço mínimo não pode ser maior que o preço máximo!");
+        }
+
+        Specification<Product> specification = ProductSpecifications.matching(filter);
+        if (afterId != null) {
+            Comparable<?> key = afterKey == null && sort.attribute().equals("id") ? afterId : afterKey;
+            specification = specification.and(ProductSpecifications.after(sort, key, afterId));
+        }
+
+        List<ProductSummary> content = productRepository().findSummaries(specification, sort.toSort(), size + 1);
+
+        boolean hasNext = content.size() > size;
+        List<ProductSummary> pageContent = hasNext ? content.subList(0, size) : content;
+
+        return new SliceImpl<>(pageContent, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * Percorre todos os produtos, ordenados pelo ID, no modelo de leitura {@link ProductSummary}, através de
+     * um cursor no servidor. Diferente do {@link #streamAll(Consumer)}, não há entidades a desanexar.
+     *
+     * @param action a ação executada para cada produto, dentro da transação de leitura.
      */
-    public ProductService(ProductRepository productRepository) {
-        super(productRepository);
+    @Transactional(readOnly = true)
+    public void streamSummaries(Consumer<ProductSummary> action) {
+        try (Stream<ProductSummary> summaries = productRepository().streamSummaries()) {
+            summaries.forEach(action);
+        }
+    }
+
+    /**
+     * Busca textual sobre o nome e a descrição dos produtos, ordenada pela relevância.
+     * <p>
+     * A paginação é por cursor (keyset) sobre a relevância e o ID do último resultado entregue. Assim como
+     * em {@link #findPage(Long, int)}, é buscado um resultado a mais que o solicitado para saber se existe
+     * uma próxima página sem executar um {@code COUNT}.
+     *
+     * @param query o texto da busca.
+     * @param afterRank a relevância do último resultado já entregue, ou {@code null} na primeira página.
+     * @param afterId o ID do último resultado já entregue, ou {@code null} na primeira página.
+     * @param size o tamanho da página.
+     * @return a página de resultados.
+     * @throws InvalidRequestParameterException se o texto da busca estiver em branco ou for longo demais.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductSearchHit> search(String query, Float afterRank, Long afterId, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestParameterException("O texto da busca não pode estar em branco!");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new InvalidRequestParameterException("O texto da busca deve ter no máximo " + MAX_SEARCH_QUERY_LENGTH + " caracteres!");
+        }
+
+        List<ProductSearchHit> hits = productRepository().search(query.strip(), afterRank, afterId, size + 1);
+
+        boolean hasNext = hits.size() > size;
+        List<ProductSearchHit> pageContent = hasNext ? hits.subList(0, size) : hits;
+
+        return new SliceImpl<>(pageContent, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * Cria uma lista de produtos em uma única transação, com os INSERTs enviados em lotes JDBC.
+     * <p>
+     * Produtos cujo SKU já está cadastrado, ou se repete dentro da própria lista, não são
+     * persistidos e são devolvidos com {@link BatchItemStatus#DUPLICATED_SKU}; os demais são
+     * salvos por {@link #saveAll(List)}. Os SKUs existentes são verificados com uma única consulta.
+     *
+     * @param products os novos produtos, ainda sem ID (ver {@code ProductMapper#toNewEntityList}).
+     * @return o resultado de cada produto, na mesma ordem da lista recebida.
+     */
+    @Transactional
+    public List<BatchItemResult> createAll(List<Product> products) {
+        Set<String> takenSkus = new HashSet<>(productRepository().findExistingSkus(
+                products.stream().map(Product::getSku).collect(Collectors.toSet())));
+
+        List<Product> toPersist = new ArrayList<>(products.size());
+        for (Product product : products) {
+            // Set.add devolve false se o SKU já existia no banco ou já apareceu na lista
+            if (takenSkus.add(product.getSku())) {
+                toPersist.add(product);
+            }
+        }
+
+        // As entidades salvas são as mesmas instâncias recebidas, que passam a ter o ID preenchido
+        saveAll(toPersist);
+
+        List<BatchItemResult> results = new ArrayList<>(products.size());
+        for (int index = 0; index < products.size(); index++) {
+            Product product = products.get(index);
+            results.add(product.getId() != null
+                    ? new BatchItemResult(index, product.getSku(), product.getId(), BatchItemStatus.CREATED)
+                    : new BatchItemResult(index, product.getSku(), null, BatchItemStatus.DUPLICATED_SKU));
+        }
+        return results;
+    }
+
+    /**
+     * Resolve o ID de um produto pelo SKU. Em uma falha no cache de SKU, o produto é carregado
+     * do banco e colocado também no cache por ID, evitando uma segunda consulta, se esse cache não
+     * foi invalidado durante a carga.
+     */
+    private Long findIdBySku(String sku) {
+        return getOrLoad(skuCache, sku, () -> {
+            long invalidationCount = invalidationCount();
+            Product product = productRepository().findBySku(sku)
+                    .orElseThrow(() -> new ResourceNotFoundException("Recurso com SKU " + sku + " não encontrado"));
+
+            putIfNotInvalidated(invalidationCount, product.getId(), product);
+            return product.getId();
+        });
+    }
+
+    /**
+     * Devolve o repositório herdado com o seu tipo específico, para as consultas
+     * que só existem em {@link ProductRepository}.
+     */
+    private ProductRepository productRepository() {
+        return (ProductRepository) repository;
+    }
+
+    @Override
+    @Transactional
+    public Product save(Product product) {
+        Product saved = super.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<Product> saveAll(List<Product> products) {
+        List<Product> saved = super.saveAll(products);
+        saved.forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.saved(product)));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        super.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id, null));
     }
 
     @Override
     @Transactional
     public Product update(Long id, Product toUpdate) {
-        Product existingProduct = this.findById(id);
+        return update(id, toUpdate, null);
+    }
+
+    /**
+     * Atualiza um produto, opcionalmente condicionado à versão que o cliente leu ({@code If-Match}).
+     * <p>
+     * A entidade é carregada uma única vez e as alterações são aplicadas sobre a instância gerenciada;
+     * o UPDATE é gerado pelo dirty checking no commit, apenas com as colunas alteradas
+     * ({@code @DynamicUpdate}), e inclui a versão lida na cláusula {@code WHERE}. Se outra transação
+     * alterar o produto entre a leitura e o commit, uma {@code ObjectOptimisticLockingFailureException}
+     * é lançada e nenhuma alteração é perdida.
+     *
+     * @param id o ID do produto.
+     * @param toUpdate os novos valores do produto.
+     * @param expectedVersion a versão que o cliente leu, ou {@code null} para atualizar incondicionalmente.
+     * @return o produto atualizado.
+     * @throws ResourceNotFoundException se não existir produto com o ID informado.
+     * @throws PreconditionFailedException se a versão atual do produto não for a esperada.
+     */
+    @Transactional
+    public Product update(Long id, Product toUpdate, Long expectedVersion) {
+        Product existingProduct = loadForUpdate(id, expectedVersion);
 
         if (toUpdate.getSku() != null && !existingProduct.getSku().equals(toUpdate.getSku())) {
-            throw new IllegalArgumentException("O SKU de um produto não pode ser alterado!");
+            throw new InvalidRequestParameterException("O SKU de um produto não pode ser alterado!");
         }
 
         existingProduct.setName(toUpdate.getName());
         existingProduct.setDescription(toUpdate.getDescription());
         existingProduct.setPrice(toUpdate.getPrice());
 
-        return repository.save(existingProduct);
+        // Sem save/merge: a entidade já é gerenciada e será sincronizada no commit
+        evict(id);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(existingProduct));
+
+        return existingProduct;
+    }
 
+    /**
+     * Atualiza parcialmente um produto, aplicando as alterações sobre a entidade gerenciada.
+     * <p>
+     * A função {@code changes} recebe a entidade carregada nesta transação e altera apenas os campos
+     * desejados; como {@link Product} usa {@code @DynamicUpdate}, o UPDATE gerado no commit contém
+     * somente as colunas que efetivamente mudaram. Qualquer exceção lançada pela função desfaz a transação.
+     *
+     * @param id o ID do produto.
+     * @param changes a função que aplica as alterações à entidade.
+     * @param expectedVersion a versão que o cliente leu, ou {@code null} para atualizar incondicionalmente.
+     * @return o produto atualizado.
+     * @throws ResourceNotFoundException se não existir produto com o ID informado.
+     * @throws PreconditionFailedException se a versão atual do produto não for a esperada.
+     */
+    @Transactional
+    public Product patch(Long id, Consumer<Product> changes, Long expectedVersion) {
+        Product existingProduct = loadForUpdate(id, expectedVersion);
+
+        changes.accept(existingProduct);
+        evict(id);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(existingProduct));
+
+        return existingProduct;
+    }
+
+    /**
+     * Carrega a entidade gerenciada que será alterada e confere a versão esperada pelo cliente.
+     * A entidade é carregada pelo repositório, e não pelo cache, pois será alterada pelo chamador.
+     */
+    private Product loadForUpdate(Long id, Long expectedVersion) {
+        Product existingProduct = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Recurso com ID #" + id + " não encontrado"));
+
+        if (expectedVersion != null && !expectedVersion.equals(existingProduct.getVersion())) {
+            throw new PreconditionFailedException("O recurso com ID #" + id + " foi alterado: versão atual "
+                    + existingProduct.getVersion() + ", versão informada " + expectedVersion);
+        }
+        return existingProduct;
     }
 }
@@ -0,0 +1,281 @@
+package io.dougluciano.microservices.products.service.invalidation;
+
+import io.dougluciano.microservices.products.config.InvalidationProperties;
+import io.dougluciano.microservices.products.enumerated.LogMessages;
+import io.dougluciano.microservices.products.service.events.ProductsInvalidatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Escuta as notificações de invalidação das demais instâncias do serviço ({@code LISTEN}) e as aplica aos
+ * caches em memória desta instância, publicando {@link ProductsInvalidatedEvent}s.
+ * <p>
+ * A escuta usa uma conexão própria, aberta fora do pool: ela fica presa à thread de escuta durante toda a
+ * vida da aplicação e não pode ser devolvida ao pool com o {@code LISTEN} ativo. As notificações recebidas
+ * dentro de {@link InvalidationProperties#coalesceWindow()} são acumuladas e aplicadas em um único evento;
+ * as enviadas por esta mesma instância (ver {@link ProductInvalidationPublisher}) são ignoradas.
+ * <p>
+ * Se a conexão cair, a escuta é restabelecida com espera exponencial. As notificações enviadas enquanto a
+ * instância não escutava são perdidas, então, ao reconectar, é publicado um evento que esvazia os caches.
+ * <p>
+ * Uma conexão interrompida sem aviso (ex: uma conexão TCP abandonada por um firewall ou NAT) não falha: ela
+ * apenas deixa de receber notificações. Por isso a conexão é verificada a cada
+ * {@link InvalidationProperties#validationInterval()} ({@link Connection#isValid(int)}, que envia um comando
+ * ao servidor) e, se não responder em {@link InvalidationProperties#validationTimeout()}, é tratada como
+ * perdida.
+ */
+@Slf4j
+public class ProductInvalidationListener implements SmartLifecycle {
+
+    /**
+     * Espera máxima por notificações quando não há IDs acumulados; limita o tempo até a thread
+     * perceber o {@link #stop()}.
+     */
+    private static final int IDLE_POLL_MILLIS = 1000;
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final InvalidationProperties properties;
+    private final String origin;
+    private final Consumer<ProductsInvalidatedEvent> consumer;
+    private final Counter received;
+    private final Counter invalidations;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    /**
+     * @param connectionDetails os dados de conexão do banco, os mesmos do pool da aplicação.
+     * @param properties as propriedades da invalidação.
+     * @param origin a origem desta instância; as notificações com essa origem são ignoradas.
+     * @param consumer quem aplica as invalidações aos caches (na aplicação, o publicador de eventos).
+     * @param registry o registro das métricas.
+     */
+    public ProductInvalidationListener(JdbcConnectionDetails connectionDetails, InvalidationProperties properties,
+                                       String origin, Consumer<ProductsInvalidatedEvent> consumer,
+                                       MeterRegistry registry) {
+        this.connectionDetails = connectionDetails;
+        this.properties = properties;
+        this.origin = origin;
+        this.consumer = consumer;
+        this.received = Counter.builder("products.invalidation.received")
+                .description("Notificações de invalidação de cache recebidas de outras instâncias")
+                .register(registry);
+        this.invalidations = Counter.builder("products.invalidation.applied")
+                .description("Invalidações aplicadas aos caches locais, após o agrupamento das notificações")
+                .register(registry);
+        this.reconnects = Counter.builder("products.invalidation.reconnects")
+                .description("Reconexões da escuta de invalidações, cada uma seguida do esvaziamento dos caches")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("product-invalidation").daemon().start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeQuietly(connection);
+        thread.interrupt();
+        try {
+            thread.join(IDLE_POLL_MILLIS * 2L);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * O ID do processo do servidor que atende a conexão de escuta, ou {@code -1} se não houver conexão.
+     *
+     * @return o {@code pg_backend_pid} da conexão de escuta.
+     */
+    public int backendPid() {
+        Connection current = connection;
+        try {
+            return current != null ? current.unwrap(PGConnection.class).getBackendPID() : -1;
+        } catch (SQLException ex) {
+            return -1;
+        }
+    }
+
+    private void run() {
+        long backoff = properties.reconnectBackoff().toMillis();
+        boolean connectedBefore = false;
+
+        while (running) {
+            try (Connection listening = connect()) {
+                connection = listening;
+                backoff = properties.reconnectBackoff().toMillis();
+                log.info(LogMessages.INVALIDATION_LISTENING.getValue(), properties.channel(), origin);
+
+                if (connectedBefore) {
+                    reconnects.increment();
+                    consumer.accept(ProductsInvalidatedEvent.everything());
+                }
+                connectedBefore = true;
+
+                listen(listening);
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    break;
+                }
+                log.warn(LogMessages.INVALIDATION_CONNECTION_LOST.getValue(), backoff, ex.getMessage());
+                connection = null;
+                if (!sleep(backoff)) {
+                    break;
+                }
+                backoff = Math.min(backoff * 2, properties.maxReconnectBackoff().toMillis());
+            }
+        }
+        connection = null;
+    }
+
+    /**
+     * Recebe as notificações até a conexão cair ou a escuta ser encerrada. O primeiro ID recebido abre uma
+     * janela de {@link InvalidationProperties#coalesceWindow()}; ao final dela, todos os IDs acumulados são
+     * aplicados de uma vez. A cada {@link InvalidationProperties#validationInterval()}, a conexão é verificada.
+     */
+    private void listen(Connection listening) throws SQLException {
+        PGConnection pg = listening.unwrap(PGConnection.class);
+        long window = Math.max(1, properties.coalesceWindow().toMillis());
+        long validationInterval = Math.max(1, properties.validationInterval().toMillis());
+        Set<Long> pending = new HashSet<>();
+        long flushAt = 0;
+        long validateAt = System.currentTimeMillis() + validationInterval;
+
+        while (running) {
+            int timeout = pending.isEmpty() ? IDLE_POLL_MILLIS : (int) Math.max(1, flushAt - System.currentTimeMillis());
+            timeout = (int) Math.max(1, Math.min(timeout, validateAt - System.currentTimeMillis()));
+            PGNotification[] notifications = pg.getNotifications(timeout);
+
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    boolean wasEmpty = pending.isEmpty();
+                    if (collect(notification.getParameter(), pending) && wasEmpty && !pending.isEmpty()) {
+                        flushAt = System.currentTimeMillis() + window;
+                    }
+                }
+            }
+
+            if (!pending.isEmpty() && System.currentTimeMillis() >= flushAt) {
+                invalidations.increment();
+                consumer.accept(ProductsInvalidatedEvent.of(pending));
+                pending.clear();
+            }
+
+            if (System.currentTimeMillis() >= validateAt) {
+                validate(listening);
+                validateAt = System.currentTimeMillis() + validationInterval;
+            }
+        }
+    }
+
+    /**
+     * Verifica se a conexão de escuta ainda responde ao servidor.
+     *
+     * @throws SQLException se a conexão não responder dentro de {@link InvalidationProperties#validationTimeout()}.
+     */
+    private void validate(Connection listening) throws SQLException {
+        int timeoutSeconds = (int) Math.max(1, properties.validationTimeout().toSeconds());
+        if (!listening.isValid(timeoutSeconds)) {
+            throw new SQLException("a conexão de escuta não respondeu à verificação em " + timeoutSeconds + " s");
+        }
+    }
+
+    /**
+     * Acrescenta aos IDs acumulados os IDs de uma notificação de outra instância.
+     *
+     * @return {@code false} se a notificação foi enviada por esta instância ou não pôde ser lida.
+     */
+    private boolean collect(String payload, Set<Long> pending) {
+        int separator = payload.indexOf(ProductInvalidationPublisher.ORIGIN_SEPARATOR);
+        if (separator < 0 || origin.equals(payload.substring(0, separator))) {
+            return false;
+        }
+
+        received.increment();
+        try {
+            for (String id : payload.substring(separator + 1).split(String.valueOf(ProductInvalidationPublisher.ID_SEPARATOR))) {
+                if (!id.isEmpty()) {
+                    pending.add(Long.valueOf(id));
+                }
+            }
+            return true;
+        } catch (NumberFormatException ex) {
+            log.debug("Notificação de invalidação ignorada: {}", payload);
+            return false;
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties info = new Properties();
+        if (connectionDetails.getUsername() != null) {
+            info.setProperty("user", connectionDetails.getUsername());
+        }
+        if (connectionDetails.getPassword() != null) {
+            info.setProperty("password", connectionDetails.getPassword());
+        }
+        info.setProperty("tcpKeepAlive", "true");
+        info.setProperty("ApplicationName", "products-invalidation");
+
+        Connection listening = DriverManager.getConnection(connectionDetails.getJdbcUrl(), info);
+        try (Statement statement = listening.createStatement()) {
+            listening.setAutoCommit(true);
+            statement.execute("LISTEN " + listening.unwrap(PGConnection.class).escapeIdentifier(properties.channel()));
+        } catch (SQLException | RuntimeException ex) {
+            closeQuietly(listening);
+            throw ex;
+        }
+        return listening;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            // A conexão já está sendo descartada
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.dougluciano.microservices.products.service.invalidation;
+
+import io.dougluciano.microservices.products.config.InvalidationProperties;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Notifica as demais instâncias do serviço dos produtos alterados, através do {@code NOTIFY} do PostgreSQL.
+ * <p>
+ * Os {@link ProductChangedEvent}s publicados pelos serviços são recebidos de forma síncrona, ainda dentro da
+ * transação, e os IDs são acumulados; pouco antes do commit é executado um {@code pg_notify} com todos os IDs
+ * da transação. O PostgreSQL só entrega as notificações se a transação for confirmada, e na ordem dos commits,
+ * então uma instância nunca descarta um produto antes de a alteração estar visível. Operações que não publicam
+ * eventos (os reajustes de preço em massa) registram os produtos diretamente por {@link #record}.
+ * <p>
+ * O conteúdo de cada notificação é {@code origem|id,id,...}, dividido em várias notificações quando
+ * ultrapassaria o limite do PostgreSQL (8000 bytes). A origem identifica esta instância, para que o
+ * {@link ProductInvalidationListener} ignore as suas próprias alterações, já aplicadas aos caches locais.
+ */
+@Component
+public class ProductInvalidationPublisher {
+
+    /**
+     * Tamanho máximo do conteúdo de uma notificação, abaixo do limite de 8000 bytes do PostgreSQL.
+     */
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    static final char ORIGIN_SEPARATOR = '|';
+
+    static final char ID_SEPARATOR = ',';
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InvalidationProperties properties;
+    private final Counter notifications;
+
+    public ProductInvalidationPublisher(JdbcTemplate jdbcTemplate, InvalidationProperties properties, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.notifications = Counter.builder("products.invalidation.published")
+                .description("Notificações de invalidação de cache enviadas às demais instâncias")
+                .register(registry);
+    }
+
+    /**
+     * A identificação desta instância nas notificações.
+     *
+     * @return a origem das notificações enviadas por esta instância.
+     */
+    public String origin() {
+        return origin;
+    }
+
+    /**
+     * Registra o produto alterado por um serviço.
+     *
+     * @param event o evento publicado pelo serviço, dentro da transação da alteração.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        record(event.id());
+    }
+
+    /**
+     * Registra um produto alterado, que será notificado às demais instâncias no commit da transação atual.
+     * Nada é feito se a invalidação estiver desligada.
+     *
+     * @param productId o ID do produto.
+     * @throws IllegalStateException se não houver uma transação ativa.
+     */
+    public void record(Long productId) {
+        if (properties.enabled()) {
+            pending().add(productId);
+        }
+    }
+
+    /**
+     * Monta o conteúdo das notificações de um conjunto de IDs, cada uma com no máximo
+     * {@link #MAX_PAYLOAD_BYTES} bytes.
+     *
+     * @param origin a origem das notificações.
+     * @param ids os IDs dos produtos.
+     * @return o conteúdo de cada notificação.
+     */
+    static List<String> payloads(String origin, Set<Long> ids) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder().append(origin).append(ORIGIN_SEPARATOR);
+        int header = payload.length();
+
+        for (Long id : ids) {
+            String value = id.toString();
+            if (payload.length() > header && payload.length() + 1 + value.length() > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(header);
+            }
+            if (payload.length() > header) {
+                payload.append(ID_SEPARATOR);
+            }
+            payload.append(value);
+        }
+
+        if (payload.length() > header) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * Envia as notificações na conexão da transação. O conteúdo é ASCII (UUID e dígitos), então o tamanho
+     * em caracteres é o tamanho em bytes.
+     */
+    private void sendNotifications(Set<Long> ids) {
+        for (String payload : payloads(origin, ids)) {
+            jdbcTemplate.queryForRowSet("SELECT pg_notify(?, ?)", properties.channel(), payload);
+            notifications.increment();
+        }
+    }
+
+    /**
+     * Os IDs ainda não notificados da transação atual. No primeiro produto da transação, o conjunto
+     * é associado à transação e é registrada a notificação antes do commit.
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> pending() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("As invalidações de cache só podem ser registradas dentro de uma transação!");
+        }
+
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (!ids.isEmpty()) {
+                        sendNotifications(ids);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductInvalidationPublisher.this);
+                }
+            });
+            pending = ids;
+        }
+        return pending;
+    }
+}
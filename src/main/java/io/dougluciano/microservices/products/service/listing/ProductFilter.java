@@ -0,0 +1,37 @@
+package io.dougluciano.microservices.products.service.listing;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Filtro da listagem de produtos. Os critérios nulos são ignorados; um filtro sem critérios
+ * seleciona todos os produtos.
+ *
+ * @param minPrice o preço mínimo (inclusive).
+ * @param maxPrice o preço máximo (inclusive).
+ * @param name um trecho do nome, comparado sem diferenciar maiúsculas.
+ * @param updatedSince a data mínima da última alteração (inclusive).
+ */
+public record ProductFilter(BigDecimal minPrice, BigDecimal maxPrice, String name, Instant updatedSince) {
+
+    /**
+     * Um filtro sem critérios.
+     */
+    public static final ProductFilter NONE = new ProductFilter(null, null, null, null);
+
+    /**
+     * Normaliza o trecho do nome: espaços nas bordas são removidos e um texto em branco é ignorado.
+     */
+    public ProductFilter {
+        name = (name == null || name.isBlank()) ? null : name.strip();
+    }
+
+    /**
+     * Indica se o filtro não tem nenhum critério.
+     *
+     * @return {@code true} se todos os critérios forem nulos.
+     */
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null && name == null && updatedSince == null;
+    }
+}
@@ -0,0 +1,124 @@
+package io.dougluciano.microservices.products.service.listing;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import io.dougluciano.microservices.products.exception.InvalidRequestParameterException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * As ordenações aceitas pela listagem de produtos, informadas no parâmetro {@code sort}
+ * (ex: {@code price}, {@code -updatedAt}; o {@code -} indica ordem decrescente).
+ * <p>
+ * Apenas campos com um índice composto {@code (campo, id)} (ver a migração {@code V8}) são ordenáveis,
+ * para que nenhuma requisição provoque a ordenação da tabela inteira. O {@code id} desempata os valores
+ * iguais, na mesma direção, e forma com o campo a chave da paginação por cursor.
+ */
+public enum ProductSort {
+
+    ID("id", "id", false, ProductSummary::id, Long::valueOf),
+    ID_DESC("-id", "id", true, ProductSummary::id, Long::valueOf),
+    PRICE("price", "price", false, ProductSummary::price, BigDecimal::new),
+    PRICE_DESC("-price", "price", true, ProductSummary::price, BigDecimal::new),
+    NAME("name", "name", false, ProductSummary::name, Function.identity()),
+    NAME_DESC("-name", "name", true, ProductSummary::name, Function.identity()),
+    UPDATED_AT("updatedAt", "updatedAt", false, ProductSummary::updatedAt, Instant::parse),
+    UPDATED_AT_DESC("-updatedAt", "updatedAt", true, ProductSummary::updatedAt, Instant::parse);
+
+    /**
+     * A ordenação padrão da listagem, cujo cursor guarda apenas o {@code id}.
+     */
+    public static final ProductSort DEFAULT = ID;
+
+    private final String token;
+    private final String attribute;
+    private final boolean descending;
+    private final Function<ProductSummary, ? extends Comparable<?>> key;
+    private final Function<String, ? extends Comparable<?>> keyParser;
+
+    ProductSort(String token, String attribute, boolean descending,
+                Function<ProductSummary, ? extends Comparable<?>> key, Function<String, ? extends Comparable<?>> keyParser) {
+        this.token = token;
+        this.attribute = attribute;
+        this.descending = descending;
+        this.key = key;
+        this.keyParser = keyParser;
+    }
+
+    /**
+     * Resolve a ordenação informada pelo cliente.
+     *
+     * @param token o valor do parâmetro {@code sort}, ou {@code null} para a ordenação padrão.
+     * @return a ordenação correspondente.
+     * @throws InvalidRequestParameterException se o campo não for ordenável.
+     */
+    public static ProductSort fromToken(String token) {
+        if (token == null || token.isBlank()) {
+            return DEFAULT;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.token.equals(token.strip()))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestParameterException("Ordenação inválida: " + token + ". Valores aceitos: "
+                        + Arrays.stream(values()).map(ProductSort::token).collect(Collectors.joining(", "))));
+    }
+
+    /**
+     * O valor do parâmetro {@code sort} que seleciona esta ordenação.
+     */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * O nome do atributo de {@link Product} ordenado.
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Indica se a ordenação é decrescente (inclusive no desempate pelo {@code id}).
+     */
+    public boolean descending() {
+        return descending;
+    }
+
+    /**
+     * A ordenação equivalente do Spring Data, com o desempate pelo {@code id}.
+     *
+     * @return a ordenação.
+     */
+    public Sort toSort() {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return attribute.equals("id")
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, attribute).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Extrai de um produto o valor do campo ordenado, guardado no cursor da próxima página.
+     *
+     * @param product o último produto entregue.
+     * @return o valor do campo ordenado.
+     */
+    public Comparable<?> keyOf(ProductSummary product) {
+        return key.apply(product);
+    }
+
+    /**
+     * Converte de volta o valor do campo ordenado lido do cursor.
+     *
+     * @param value o valor, como texto ({@code String.valueOf} do valor original).
+     * @return o valor do campo ordenado.
+     * @throws RuntimeException se o texto não for um valor válido do campo.
+     */
+    public Comparable<?> parseKey(String value) {
+        return keyParser.apply(value);
+    }
+}
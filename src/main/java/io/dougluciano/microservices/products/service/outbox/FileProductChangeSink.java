@@ -0,0 +1,66 @@
+package io.dougluciano.microservices.products.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dougluciano.microservices.products.config.OutboxProperties;
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Destino que acrescenta as alterações a um arquivo NDJSON local (uma alteração por linha), para testes
+ * e desenvolvimento sem um broker. Só existe com os profiles {@code dev} e {@code test}.
+ * <p>
+ * Cada lote é escrito com uma única chamada e forçado para o disco antes de ser removido do outbox.
+ */
+@Component
+@Profile({"dev", "test"})
+@ConditionalOnProperty(name = "products.outbox.sink", havingValue = "file")
+public class FileProductChangeSink implements ProductChangeSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileProductChangeSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        this.path = properties.file().path();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<ProductChange> changes) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (ProductChange change : changes) {
+                lines.write(objectMapper.writeValueAsBytes(change));
+                lines.write('\n');
+            }
+
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path, CREATE, WRITE, APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
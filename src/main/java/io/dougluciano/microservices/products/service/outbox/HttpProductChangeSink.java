@@ -0,0 +1,53 @@
+package io.dougluciano.microservices.products.service.outbox;
+
+import io.dougluciano.microservices.products.config.OutboxProperties;
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Adaptador para um broker de mensagens: envia cada lote de alterações, como um array JSON, em um
+ * {@code POST} para {@code products.outbox.http.url} (ex: o proxy REST do Kafka, ou um serviço ponte
+ * que publica no broker).
+ * <p>
+ * O lote é considerado entregue apenas com uma resposta 2xx; qualquer outra resposta, ou um erro de
+ * conexão, faz o lote ser reenviado na próxima leitura do outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "products.outbox.sink", havingValue = "http")
+public class HttpProductChangeSink implements ProductChangeSink {
+
+    private final RestClient restClient;
+    private final URI url;
+
+    public HttpProductChangeSink(OutboxProperties properties, RestClient.Builder builder) {
+        this.url = Objects.requireNonNull(properties.http().url(),
+                "A propriedade products.outbox.http.url é obrigatória com products.outbox.sink=http");
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.http().timeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.http().timeout());
+
+        this.restClient = builder.requestFactory(requestFactory).build();
+    }
+
+    @Override
+    public void publish(List<ProductChange> changes) {
+        restClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(changes)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,33 @@
+package io.dougluciano.microservices.products.service.outbox;
+
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Destino que publica cada {@link ProductChange} como um evento da própria aplicação, recebido por qualquer
+ * {@code @EventListener} de {@link ProductChange}. Usado nos testes e no desenvolvimento local, sem nenhuma
+ * infraestrutura externa; por isso só existe com os profiles {@code dev} e {@code test}: em produção, sem
+ * ouvintes, as alterações seriam removidas do outbox sem chegar a ninguém.
+ * <p>
+ * Os ouvintes são executados de forma síncrona na thread do relay; uma exceção em um deles faz o lote
+ * inteiro ser entregue novamente.
+ */
+@Component
+@Profile({"dev", "test"})
+@ConditionalOnProperty(name = "products.outbox.sink", havingValue = "in-process")
+@RequiredArgsConstructor
+public class InProcessProductChangeSink implements ProductChangeSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<ProductChange> changes) {
+        changes.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,25 @@
+package io.dougluciano.microservices.products.service.outbox;
+
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+
+import java.util.List;
+
+/**
+ * Destino das alterações de produtos lidas do outbox pelo {@link ProductOutboxRelay}.
+ * <p>
+ * A implementação é escolhida pela propriedade {@code products.outbox.sink}, que não tem valor padrão: sem
+ * ela, as alterações não são gravadas no outbox e o relay não é criado. Um lote só é removido do
+ * outbox se {@link #publish} terminar sem exceção; em uma falha, o lote inteiro é entregue novamente na
+ * próxima leitura, então o destino pode receber a mesma alteração mais de uma vez.
+ */
+public interface ProductChangeSink {
+
+    /**
+     * Entrega um lote de alterações. As alterações de um mesmo produto vêm em ordem e nunca se repetem
+     * dentro do lote.
+     *
+     * @param changes as alterações, em ordem de registro.
+     * @throws RuntimeException se o lote não pôde ser entregue.
+     */
+    void publish(List<ProductChange> changes);
+}
@@ -0,0 +1,106 @@
+package io.dougluciano.microservices.products.service.outbox;
+
+import io.dougluciano.microservices.products.config.OutboxProperties;
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import io.dougluciano.microservices.products.domain.repository.ProductOutboxRepository;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava as alterações de produtos no outbox ({@code product_outbox}), na mesma transação que altera os produtos.
+ * <p>
+ * Os {@link ProductChangedEvent}s publicados pelos serviços são recebidos de forma síncrona, ainda dentro da
+ * transação, e acumulados; pouco antes do commit todas as alterações da transação são gravadas com um único
+ * {@code INSERT}. Se a transação for desfeita, nada é gravado. Operações que não publicam eventos (os
+ * reajustes de preço em massa) registram as alterações diretamente por {@link #record}.
+ * <p>
+ * Sem um destino configurado ({@code products.outbox.sink}), nada é gravado: sem o relay, ninguém removeria
+ * as alterações e a tabela cresceria indefinidamente.
+ * <p>
+ * A gravação bloqueia os produtos alterados até o commit, para que as alterações de um produto sejam
+ * entregues na ordem dos commits (ver {@link ProductOutboxRepository}). Antes dela, o contexto de
+ * persistência é sincronizado com o banco ({@code flush}), que de outra forma só ocorreria no commit:
+ * assim, os registros dos produtos são sempre bloqueados antes dos produtos no outbox, e duas transações
+ * não podem esperar uma pela outra.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductOutbox {
+
+    private final ProductOutboxRepository repository;
+
+    private final OutboxProperties properties;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Registra a alteração de um produto publicada por um serviço.
+     *
+     * @param event o evento publicado pelo serviço, dentro da transação da alteração.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        record(event.deleted() ? ProductChange.Type.DELETED : ProductChange.Type.SAVED, event.id(), event.sku());
+    }
+
+    /**
+     * Registra a alteração de um produto, que será gravada no outbox ao final da transação atual.
+     * Sem um destino configurado, a alteração é descartada.
+     *
+     * @param type o tipo da alteração.
+     * @param productId o ID do produto.
+     * @param sku o SKU do produto, se conhecido.
+     * @throws IllegalStateException se não houver uma transação ativa.
+     */
+    public void record(ProductChange.Type type, Long productId, String sku) {
+        if (properties.sink() == null) {
+            return;
+        }
+        pending().add(new ProductChange(null, productId, type, sku, null));
+    }
+
+    /**
+     * As alterações ainda não gravadas da transação atual. Na primeira alteração da transação, a lista
+     * é associada à transação e é registrada a gravação antes do commit.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ProductChange> pending() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("As alterações de produtos só podem ser registradas no outbox dentro de uma transação!");
+        }
+
+        List<ProductChange> pending = (List<ProductChange>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<ProductChange> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (!changes.isEmpty()) {
+                        if (entityManager.isJoinedToTransaction()) {
+                            entityManager.flush();
+                        }
+                        repository.append(changes);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductOutbox.this);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+}
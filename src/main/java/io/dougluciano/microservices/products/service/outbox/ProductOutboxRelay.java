@@ -0,0 +1,150 @@
+package io.dougluciano.microservices.products.service.outbox;
+
+import io.dougluciano.microservices.products.config.OutboxProperties;
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import io.dougluciano.microservices.products.domain.repository.ProductOutboxRepository;
+import io.dougluciano.microservices.products.enumerated.LogMessages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay do outbox: lê as alterações de produtos gravadas em {@code product_outbox}, entrega-as ao
+ * {@link ProductChangeSink} configurado e as remove, em lotes de {@link OutboxProperties#batchSize()}.
+ * <p>
+ * Cada lote é lido com {@code FOR UPDATE SKIP LOCKED}, entregue e removido na mesma transação: várias
+ * instâncias do serviço podem executar o relay ao mesmo tempo, cada uma com lotes diferentes. Se a entrega
+ * falhar, a transação é desfeita e o lote volta a ficar disponível (entrega "ao menos uma vez"). As alterações
+ * de um mesmo produto são entregues em ordem (ver {@link ProductOutboxRepository#lockNext(int)}).
+ * <p>
+ * O relay só é criado quando um destino é configurado explicitamente em {@code products.outbox.sink}: sem
+ * destino, as alterações ficam guardadas no outbox até que um seja configurado, em vez de serem removidas.
+ * <p>
+ * Métricas: {@code products.outbox.published} (alterações entregues), {@code products.outbox.failures},
+ * {@code products.outbox.batch} (tempo de cada lote), {@code products.outbox.batch.size} e
+ * {@code products.outbox.lag} (idade da alteração pendente mais antiga, atualizada a cada leitura).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "products.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "products.outbox.sink")
+public class ProductOutboxRelay {
+
+    private final ProductOutboxRepository repository;
+    private final ProductChangeSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failures;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizes;
+
+    public ProductOutboxRelay(ProductOutboxRepository repository,
+                              ProductChangeSink sink,
+                              PlatformTransactionManager transactionManager,
+                              OutboxProperties properties,
+                              MeterRegistry registry) {
+        this.repository = repository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = properties.batchSize();
+
+        this.published = Counter.builder("products.outbox.published")
+                .description("Alterações de produtos entregues pelo relay do outbox")
+                .register(registry);
+        this.failures = Counter.builder("products.outbox.failures")
+                .description("Lotes do outbox que falharam e serão reenviados")
+                .register(registry);
+        this.batchTimer = Timer.builder("products.outbox.batch")
+                .description("Tempo de leitura, entrega e remoção de um lote do outbox")
+                .register(registry);
+        this.batchSizes = DistributionSummary.builder("products.outbox.batch.size")
+                .description("Alterações entregues por lote do outbox")
+                .register(registry);
+        Gauge.builder("products.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Idade da alteração pendente mais antiga do outbox")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * Entrega as alterações pendentes, executado periodicamente ({@code products.outbox.poll-interval}
+     * após o fim da execução anterior).
+     */
+    @Scheduled(fixedDelayString = "${products.outbox.poll-interval:1s}")
+    public void poll() {
+        try {
+            relayPending();
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn(LogMessages.OUTBOX_RELAY_FAILED.getValue(), ex.getMessage(), ex);
+        } finally {
+            updateLag();
+        }
+    }
+
+    /**
+     * Entrega lotes até não restarem alterações pendentes.
+     *
+     * @return a quantidade de alterações entregues.
+     * @throws RuntimeException se a entrega de um lote falhar; os lotes anteriores permanecem entregues.
+     */
+    public int relayPending() {
+        long start = System.nanoTime();
+        int total = 0;
+        int relayed;
+        do {
+            Timer.Sample sample = Timer.start();
+            relayed = relayBatch();
+            sample.stop(batchTimer);
+            if (relayed > 0) {
+                published.increment(relayed);
+                batchSizes.record(relayed);
+                total += relayed;
+            }
+        } while (relayed > 0);
+
+        if (total > 0) {
+            log.info(LogMessages.OUTBOX_RELAYED.getValue(), total, (System.nanoTime() - start) / 1_000_000);
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        return transactionTemplate.execute(status -> {
+            List<ProductChange> changes = repository.lockNext(batchSize);
+            if (changes.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(changes);
+            repository.delete(changes.stream().map(ProductChange::sequence).toList());
+            return changes.size();
+        });
+    }
+
+    private void updateLag() {
+        try {
+            lagMillis.set(repository.findOldestPending()
+                    .map(oldest -> Math.max(0, Duration.between(oldest, Instant.now()).toMillis()))
+                    .orElse(0L));
+        } catch (RuntimeException ex) {
+            log.warn(LogMessages.OUTBOX_RELAY_FAILED.getValue(), ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.dougluciano.microservices.products.service.suggestion;
+
+/**
+ * Sugestão do autocompletar: apenas os campos do produto necessários para exibi-la e selecioná-la.
+ *
+ * @param id o ID do produto.
+ * @param name o nome do produto.
+ * @param sku o SKU do produto.
+ */
+public record ProductSuggestion(Long id, String name, String sku) {
+}
@@ -0,0 +1,341 @@
+package io.dougluciano.microservices.products.service.suggestion;
+
+import io.dougluciano.microservices.products.config.SuggestProperties;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import io.dougluciano.microservices.products.enumerated.LogMessages;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import io.dougluciano.microservices.products.service.events.ProductsInvalidatedEvent;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória do autocompletar de produtos, por prefixo do nome, de cada palavra do nome e do SKU.
+ * <p>
+ * Os termos são normalizados (minúsculas, sem acentos e com os espaços colapsados) e guardados em um
+ * {@link ConcurrentSkipListMap} ordenado, com a chave {@code termo + '\0' + id}. Uma consulta percorre
+ * apenas o intervalo de chaves que começam com o prefixo ({@code subMap}), sem tocar no banco, e devolve
+ * as {@code K} sugestões de maior pontuação (ver {@link SuggestProperties.Weights}). O intervalo inteiro é
+ * pontuado, com um heap limitado às {@code K} melhores: a ordem alfabética dos termos não influencia
+ * quais sugestões são devolvidas, e a memória de uma consulta não depende de quão comum é o prefixo.
+ * <p>
+ * O índice é construído quando a aplicação termina de subir e, a partir daí, é mantido pelos
+ * {@link ProductChangedEvent}s publicados pelos serviços, aplicados somente após o commit, e pelos
+ * {@link ProductsInvalidatedEvent}s das alterações feitas nas demais instâncias. Leituras
+ * concorrentes com uma alteração podem ver o produto com os termos antigos e novos por um instante.
+ * <p>
+ * A memória ocupada é estimada a cada produto indexado; produtos que ultrapassariam
+ * {@link SuggestProperties#maxMemory()} não são indexados e são contados na métrica
+ * {@code products.suggest.index.rejected}.
+ */
+@Slf4j
+@Component
+public class ProductSuggestionIndex {
+
+    /**
+     * Tamanho máximo de um termo. Prefixos maiores são truncados na consulta; um autocompletar
+     * não precisa distinguir nomes pelos caracteres além deste ponto.
+     */
+    static final int MAX_TERM_LENGTH = 64;
+
+    /**
+     * Estimativa do custo fixo de cada termo: o nó e os níveis do skip list, a {@code String}
+     * da chave com o seu array e o {@link Match}.
+     */
+    private static final long TERM_OVERHEAD_BYTES = 128;
+
+    /**
+     * Estimativa do custo fixo de cada produto: a {@link ProductSuggestion}, as suas {@code String}s
+     * e a entrada no mapa de produtos indexados.
+     */
+    private static final long PRODUCT_OVERHEAD_BYTES = 160;
+
+    private static final char SEPARATOR = '\0';
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Maior pontuação primeiro; em caso de empate, o nome mais curto e depois o menor ID.
+     */
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::weight).reversed()
+            .thenComparingInt(match -> match.suggestion().name().length())
+            .thenComparing(match -> match.suggestion().id());
+
+    private final ConcurrentSkipListMap<String, Match> terms = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Indexed> products = new ConcurrentHashMap<>();
+    private final AtomicInteger termCount = new AtomicInteger();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final AtomicBoolean budgetWarned = new AtomicBoolean();
+
+    private final SuggestProperties properties;
+    private final ProductService productService;
+    private final Timer lookupTimer;
+    private final Timer buildTimer;
+    private final Counter rejected;
+
+    public ProductSuggestionIndex(SuggestProperties properties, ProductService productService, MeterRegistry registry) {
+        this.properties = properties;
+        this.productService = productService;
+
+        Gauge.builder("products.suggest.index.products", products, Map::size)
+                .description("Produtos presentes no índice do autocompletar")
+                .register(registry);
+        Gauge.builder("products.suggest.index.terms", termCount, AtomicInteger::get)
+                .description("Termos presentes no índice do autocompletar")
+                .register(registry);
+        Gauge.builder("products.suggest.index.memory", estimatedBytes, AtomicLong::get)
+                .description("Memória estimada do índice do autocompletar")
+                .baseUnit("bytes")
+                .register(registry);
+
+        this.rejected = Counter.builder("products.suggest.index.rejected")
+                .description("Produtos não indexados por exceder o limite de memória do índice")
+                .register(registry);
+        this.buildTimer = Timer.builder("products.suggest.build")
+                .description("Tempo de construção do índice do autocompletar")
+                .register(registry);
+        this.lookupTimer = Timer.builder("products.suggest.lookup")
+                .description("Tempo de uma consulta ao índice do autocompletar")
+                .register(registry);
+    }
+
+    /**
+     * Constrói o índice a partir do catálogo, percorrendo os produtos com o streaming do serviço. Se o índice
+     * já estiver construído, os produtos são reindexados e os que não existem mais são removidos, sem que o
+     * índice fique vazio durante a reconstrução.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        Set<Long> found = new HashSet<>();
+        productService.streamSummaries(product -> {
+            found.add(product.id());
+            put(new ProductSuggestion(product.id(), product.name(), product.sku()));
+        });
+        products.keySet().stream().filter(id -> !found.contains(id)).toList().forEach(this::remove);
+        long elapsed = System.nanoTime() - start;
+
+        buildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info(LogMessages.SUGGESTION_INDEX_BUILT.getValue(),
+                products.size(), termCount.get(), estimatedBytes.get() / 1024, elapsed / 1_000_000);
+    }
+
+    /**
+     * Aplica ao índice a criação, alteração ou remoção de um produto, após o commit da transação
+     * (ou imediatamente, se o evento for publicado fora de uma transação).
+     *
+     * @param event o evento publicado pelo serviço.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.deleted()) {
+            remove(event.id());
+        } else {
+            put(new ProductSuggestion(event.id(), event.name(), event.sku()));
+        }
+    }
+
+    /**
+     * Recarrega do banco os produtos alterados em outra instância do serviço (removendo os excluídos),
+     * ou reconstrói o índice inteiro quando todos os produtos são invalidados.
+     *
+     * @param event o evento publicado pela escuta das invalidações.
+     */
+    @EventListener
+    public void onProductsInvalidated(ProductsInvalidatedEvent event) {
+        if (event.all()) {
+            build();
+            return;
+        }
+
+        Set<Long> missing = new HashSet<>(event.ids());
+        for (ProductSummary product : productService.findSummaries(event.ids())) {
+            missing.remove(product.id());
+            put(new ProductSuggestion(product.id(), product.name(), product.sku()));
+        }
+        missing.forEach(this::remove);
+    }
+
+    /**
+     * Busca as sugestões para um prefixo.
+     *
+     * @param prefix o texto digitado pelo usuário.
+     * @param limit a quantidade máxima de sugestões.
+     * @return as sugestões, da maior para a menor pontuação; vazio se o prefixo for curto demais.
+     */
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        return lookupTimer.record(() -> {
+            String normalized = truncate(normalize(prefix));
+            if (normalized.length() < properties.minPrefixLength()) {
+                return List.<ProductSuggestion>of();
+            }
+
+            // As K melhores até aqui, com a pior no topo do heap, e o termo de cada produto presente nele
+            PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            Map<Long, Match> selected = new HashMap<>();
+            for (Match match : terms.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+                Long id = match.suggestion().id();
+                Match current = selected.get(id);
+                if (current != null) {
+                    // Um produto pode casar por mais de um termo (ex: nome e SKU); vale o de maior peso
+                    if (RANKING.compare(match, current) < 0) {
+                        top.remove(current);
+                        top.add(match);
+                        selected.put(id, match);
+                    }
+                } else if (top.size() < limit) {
+                    top.add(match);
+                    selected.put(id, match);
+                } else if (RANKING.compare(match, top.peek()) < 0) {
+                    selected.remove(top.poll().suggestion().id());
+                    top.add(match);
+                    selected.put(id, match);
+                }
+            }
+
+            return top.stream()
+                    .sorted(RANKING)
+                    .map(Match::suggestion)
+                    .toList();
+        });
+    }
+
+    /**
+     * Indexa um produto, substituindo os termos de uma versão anterior.
+     *
+     * @param suggestion os dados do produto.
+     */
+    void put(ProductSuggestion suggestion) {
+        products.compute(suggestion.id(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+
+            Map<String, Integer> weights = termsOf(suggestion);
+            long bytes = PRODUCT_OVERHEAD_BYTES + 2L * (suggestion.name().length() + suggestion.sku().length());
+            for (String term : weights.keySet()) {
+                bytes += TERM_OVERHEAD_BYTES + 2L * term.length();
+            }
+
+            if (estimatedBytes.get() + bytes > properties.maxMemory().toBytes()) {
+                rejected.increment();
+                if (budgetWarned.compareAndSet(false, true)) {
+                    log.warn(LogMessages.SUGGESTION_INDEX_BUDGET_EXCEEDED.getValue(), properties.maxMemory(), products.size());
+                }
+                return null;
+            }
+
+            List<String> keys = new ArrayList<>(weights.size());
+            weights.forEach((term, weight) -> {
+                String key = term + SEPARATOR + id;
+                terms.put(key, new Match(suggestion, weight));
+                keys.add(key);
+            });
+
+            termCount.addAndGet(keys.size());
+            estimatedBytes.addAndGet(bytes);
+            return new Indexed(keys, bytes);
+        });
+    }
+
+    /**
+     * Remove um produto do índice, se ele estiver indexado.
+     *
+     * @param id o ID do produto.
+     */
+    void remove(Long id) {
+        products.computeIfPresent(id, (key, previous) -> {
+            unindex(previous);
+            return null;
+        });
+    }
+
+    private void unindex(Indexed indexed) {
+        indexed.keys().forEach(terms::remove);
+        termCount.addAndGet(-indexed.keys().size());
+        estimatedBytes.addAndGet(-indexed.bytes());
+    }
+
+    /**
+     * Os termos de um produto e o peso de cada um: o nome completo, o nome a partir de cada uma das
+     * outras palavras e o SKU. Um termo repetido fica com o maior peso.
+     */
+    private Map<String, Integer> termsOf(ProductSuggestion suggestion) {
+        SuggestProperties.Weights weights = properties.weights();
+        Map<String, Integer> result = new LinkedHashMap<>();
+
+        String name = normalize(suggestion.name());
+        addTerm(result, name, weights.name());
+        for (int index = name.indexOf(' '); index >= 0; index = name.indexOf(' ', index + 1)) {
+            addTerm(result, name.substring(index + 1), weights.word());
+        }
+        addTerm(result, normalize(suggestion.sku()), weights.sku());
+
+        return result;
+    }
+
+    private static void addTerm(Map<String, Integer> terms, String term, int weight) {
+        if (!term.isEmpty()) {
+            terms.merge(truncate(term), weight, Math::max);
+        }
+    }
+
+    /**
+     * Normaliza um texto para a comparação por prefixo: sem acentos, em minúsculas e com
+     * os espaços nas bordas removidos e os internos colapsados em um único espaço.
+     *
+     * @param text o texto original.
+     * @return o texto normalizado, ou vazio se {@code text} for {@code null}.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private static String truncate(String term) {
+        return term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term;
+    }
+
+    /**
+     * Um termo indexado: o produto a que pertence e o peso do tipo de termo.
+     */
+    private record Match(ProductSuggestion suggestion, int weight) {
+    }
+
+    /**
+     * Um produto indexado: as chaves dos seus termos (para removê-las) e a memória estimada.
+     */
+    private record Indexed(List<String> keys, long bytes) {
+    }
+}
@@ -0,0 +1,6 @@
+-- V4__drop-redundant-sku-index.sql
+-- Remove o índice 'idx_products_sku' criado na V1. A constraint UNIQUE da coluna 'sku'
+-- já cria um índice B-tree idêntico ('products_sku_key'), que atende às buscas por SKU.
+-- Com os dois índices, cada INSERT e cada UPDATE do SKU mantinha duas estruturas iguais.
+
+DROP INDEX IF EXISTS idx_products_sku;
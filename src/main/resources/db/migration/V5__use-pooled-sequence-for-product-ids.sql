@@ -0,0 +1,20 @@
+-- V5__use-pooled-sequence-for-product-ids.sql
+-- Troca a geração de IDs dos produtos de IDENTITY para uma sequence com incremento de 50,
+-- usada pelo otimizador "pooled" do Hibernate (ver AbstractEntity). Com IDENTITY, o Hibernate
+-- precisa executar cada INSERT individualmente para conhecer o ID, o que impede o batching JDBC.
+--
+-- O nome segue a convenção implícita do Hibernate (<entidade>_seq) e o incremento precisa ser
+-- igual ao allocationSize padrão (50). A sequence pertence à coluna 'id' para que um
+-- 'TRUNCATE products RESTART IDENTITY' também a reinicie.
+
+CREATE SEQUENCE product_seq INCREMENT BY 50 OWNED BY products.id;
+
+-- Posiciona a sequence após os IDs inseridos manualmente (ex: V3__insert-initial-products.sql).
+-- O otimizador "pooled" usa o intervalo (valor - 49 .. valor], então o próximo valor
+-- precisa ser pelo menos MAX(id) + 50 para que nenhum ID já existente seja reutilizado.
+SELECT setval('product_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM products), false);
+
+-- INSERTs feitos diretamente em SQL (scripts, cargas manuais) passam a usar a mesma sequence.
+-- Cada um consome um incremento inteiro, mas nunca colide com os intervalos reservados pelo Hibernate.
+ALTER TABLE products ALTER COLUMN id SET DEFAULT nextval('product_seq');
+DROP SEQUENCE products_id_seq;
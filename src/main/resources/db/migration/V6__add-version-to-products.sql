@@ -0,0 +1,6 @@
+-- V6__add-version-to-products.sql
+-- Adiciona a coluna de versão usada pelo controle de concorrência otimista (@Version em AbstractFullEntity).
+-- Cada UPDATE incrementa a versão e só é aplicado se a versão no banco ainda for a que foi lida;
+-- os produtos existentes começam na versão 0.
+
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- V7__add-full-text-search-to-products.sql
+-- Adiciona a busca textual sobre o nome e a descrição dos produtos.
+-- O vetor de busca é uma coluna gerada, mantida pelo próprio banco a cada INSERT/UPDATE, com a configuração
+-- 'portuguese' (stemming e stopwords do idioma do catálogo). O nome tem peso maior (A) que a descrição (B)
+-- no ranking. A remoção de acentos (unaccent) não é usada porque não é IMMUTABLE e, portanto, não pode
+-- compor uma coluna gerada.
+
+ALTER TABLE products ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese', name), 'A') ||
+    setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+) STORED;
+
+-- Índice invertido usado pelo operador @@ da busca
+CREATE INDEX idx_products_search_vector ON products USING GIN (search_vector);
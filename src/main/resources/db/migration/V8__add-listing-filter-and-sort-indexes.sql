@@ -0,0 +1,14 @@
+-- V8__add-listing-filter-and-sort-indexes.sql
+-- Índices da listagem com filtros e ordenação (GET /api/v1/products?sort=...).
+-- Cada campo ordenável tem um índice composto (campo, id): o id desempata a ordenação e completa a chave
+-- da paginação por cursor, de modo que uma página é sempre a leitura de um trecho do índice, em qualquer
+-- direção, sem ordenar a tabela. Os mesmos índices atendem aos filtros de faixa de preço e de data de alteração.
+
+CREATE INDEX idx_products_price_id ON products (price, id);
+CREATE INDEX idx_products_name_id ON products (name, id);
+CREATE INDEX idx_products_updated_at_id ON products (updated_at, id);
+
+-- O filtro "nome contém" (lower(name) LIKE '%texto%') não pode usar uma B-tree; o índice de trigramas
+-- do pg_trgm (extensão confiável desde o PostgreSQL 13) atende a essa busca pela mesma expressão.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_products_name_trgm ON products USING GIN (lower(name) gin_trgm_ops);
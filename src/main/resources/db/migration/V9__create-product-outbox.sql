@@ -0,0 +1,17 @@
+-- V9__create-product-outbox.sql
+-- Outbox transacional das alterações de produtos. Cada criação, alteração ou exclusão grava uma linha na
+-- mesma transação que altera a tabela products; um relay lê as linhas em lotes, entrega as alterações aos
+-- serviços interessados (preços, busca, carrinho) e só então as remove. O id (sequencial) é a ordem de
+-- entrega e o identificador da alteração para a deduplicação nos consumidores.
+
+CREATE TABLE product_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    sku VARCHAR(100),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Atende à verificação "não há alteração mais antiga pendente para o mesmo produto" do relay,
+-- que garante a entrega em ordem por produto mesmo com várias instâncias lendo a tabela.
+CREATE INDEX idx_product_outbox_product_id_id ON product_outbox (product_id, id);
@@ -0,0 +1,80 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.service.batch.BatchItemResult;
+import io.dougluciano.microservices.products.service.batch.BatchItemStatus;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da criação de produtos: um INSERT por transação (como em {@code POST /api/v1/products})
+ * contra a criação em lote ({@code POST /api/v1/products/batch}), que agrupa os INSERTs em lotes JDBC.
+ * <p>
+ * Não roda na suíte padrão; execute com {@code mvn test -Pbenchmark}. As taxas (linhas/s) de cada
+ * modo são registradas no log.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProductBatchInsertBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("A criação em lote deve inserir mais linhas por segundo que a criação individual")
+    void batchInsertShouldOutperformSingleInserts() {
+        // Aquecimento: carrega as classes, o pool de conexões e os planos das consultas
+        productService.createAll(products("WARMUP", 1_000));
+
+        List<Product> single = products("SINGLE", ROWS);
+        long start = System.nanoTime();
+        single.forEach(productService::save);
+        double singleRowsPerSecond = rowsPerSecond(start);
+
+        List<Product> batch = products("BATCH", ROWS);
+        start = System.nanoTime();
+        List<BatchItemResult> results = productService.createAll(batch);
+        double batchRowsPerSecond = rowsPerSecond(start);
+
+        log.info("Inserção individual: {} linhas/s; inserção em lote: {} linhas/s ({}x)",
+                Math.round(singleRowsPerSecond), Math.round(batchRowsPerSecond),
+                String.format("%.1f", batchRowsPerSecond / singleRowsPerSecond));
+
+        assertThat(results).allMatch(result -> result.status() == BatchItemStatus.CREATED);
+        assertThat(batchRowsPerSecond).isGreaterThan(singleRowsPerSecond);
+    }
+
+    private static List<Product> products(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(n -> Product.builder()
+                        .name("Produto " + prefix + " " + n)
+                        .description("Produto sintético para o benchmark de inserção.")
+                        .price(new BigDecimal("10.00"))
+                        .sku("SKU-" + prefix + "-" + n)
+                        .build())
+                .toList();
+    }
+
+    private static double rowsPerSecond(long startNanos) {
+        return ROWS / ((System.nanoTime() - startNanos) / 1_000_000_000.0);
+    }
+}
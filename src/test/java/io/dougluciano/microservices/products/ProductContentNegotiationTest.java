@@ -0,0 +1,249 @@
+package io.dougluciano.microservices.products;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.dougluciano.microservices.products.api.http.ProductMediaTypes;
+import io.dougluciano.microservices.products.api.protobuf.ProductProtos;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração da negociação das representações binárias (Smile, CBOR e Protobuf) e da compressão.
+ * <p>
+ * Roda com o servidor real (porta aleatória), e não com o MockMvc, porque a compressão é feita pelo Tomcat.
+ * Em todas as representações, a visão pública deve ser respeitada: os campos de auditoria não são enviados.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProductContentNegotiationTest {
+
+    private static final String BASE_URI = "/api/v1/products";
+    private static final int CATALOG_SIZE = 50;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO products (name, description, price, sku, created_at, created_by, updated_at)
+                SELECT 'Produto ' || n,
+                       repeat('Descrição do produto sintético. ', 5),
+                       10.00 + n,
+                       'SKU-FORMAT-' || n,
+                       NOW(), 'testuser', NOW()
+                FROM generate_series(1, ?) AS n
+                """, CATALOG_SIZE);
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws Exception {
+        return get(path, accept, acceptEncoding, null);
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + BASE_URI + path))
+                .GET();
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (accept != null) {
+            request.header(HttpHeaders.ACCEPT, accept);
+        }
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String contentType(HttpResponse<?> response) {
+        return response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse("");
+    }
+
+    private long idOf(String sku) {
+        return jdbcTemplate.queryForObject("SELECT id FROM products WHERE sku = ?", Long.class, sku);
+    }
+
+    @Test
+    @DisplayName("Deve responder em JSON quando o cliente não envia o Accept")
+    void shouldDefaultToJsonWithoutAccept() throws Exception {
+        HttpResponse<byte[]> list = get("", null, null);
+        HttpResponse<byte[]> page = get("?size=10", null, null);
+
+        assertThat(list.statusCode()).isEqualTo(200);
+        assertThat(contentType(list)).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(mapper.readTree(list.body())).hasSize(CATALOG_SIZE);
+        assertThat(page.statusCode()).isEqualTo(200);
+        assertThat(contentType(page)).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    @DisplayName("Deve responder em JSON quando o cliente aceita qualquer tipo")
+    void shouldDefaultToJsonForAnyMediaType() throws Exception {
+        HttpResponse<byte[]> list = get("", MediaType.ALL_VALUE, null);
+        HttpResponse<byte[]> product = get("/" + idOf("SKU-FORMAT-1"), MediaType.ALL_VALUE, null);
+
+        assertThat(list.statusCode()).isEqualTo(200);
+        assertThat(contentType(list)).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(mapper.readTree(list.body())).hasSize(CATALOG_SIZE);
+        assertThat(product.statusCode()).isEqualTo(200);
+        assertThat(contentType(product)).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    @DisplayName("Deve listar os produtos em Smile, com a visão pública")
+    void shouldListProductsAsSmile() throws Exception {
+        HttpResponse<byte[]> response = get("", ProductMediaTypes.APPLICATION_SMILE.toString(), null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(contentType(response)).startsWith(ProductMediaTypes.APPLICATION_SMILE.toString());
+
+        JsonNode products = new ObjectMapper(new SmileFactory()).readTree(response.body());
+        assertThat(products).hasSize(CATALOG_SIZE);
+        assertThat(products.get(0).get("sku").asText()).startsWith("SKU-FORMAT-");
+        assertThat(products.get(0).has("createdBy")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve buscar um produto por ID em CBOR, com a visão pública e o Vary: Accept")
+    void shouldFindByIdAsCbor() throws Exception {
+        long id = idOf("SKU-FORMAT-1");
+
+        HttpResponse<byte[]> response = get("/" + id, ProductMediaTypes.APPLICATION_CBOR.toString(), null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(contentType(response)).startsWith(ProductMediaTypes.APPLICATION_CBOR.toString());
+        assertThat(response.headers().allValues(HttpHeaders.VARY)).anySatisfy(vary -> assertThat(vary).contains(HttpHeaders.ACCEPT));
+        assertThat(response.headers().firstValue(HttpHeaders.ETAG)).isPresent();
+
+        JsonNode product = new ObjectMapper(new CBORFactory()).readTree(response.body());
+        assertThat(product.get("id").asLong()).isEqualTo(id);
+        assertThat(product.get("sku").asText()).isEqualTo("SKU-FORMAT-1");
+        assertThat(product.has("createdBy")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve listar os produtos em Protobuf, sem os campos de auditoria")
+    void shouldListProductsAsProtobuf() throws Exception {
+        HttpResponse<byte[]> response = get("", ProductMediaTypes.APPLICATION_PROTOBUF.toString(), null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(contentType(response)).startsWith(ProductMediaTypes.APPLICATION_PROTOBUF.toString());
+
+        ProductProtos.ProductList products = ProductProtos.ProductList.parseFrom(response.body());
+        assertThat(products.getProductsCount()).isEqualTo(CATALOG_SIZE);
+        assertThat(products.getProducts(0).getSku()).startsWith("SKU-FORMAT-");
+        assertThat(products.getProducts(0).hasCreatedBy()).isFalse();
+        assertThat(products.getProducts(0).hasCreatedAt()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve paginar os produtos em Protobuf, com o cursor da próxima página")
+    void shouldPageProductsAsProtobuf() throws Exception {
+        HttpResponse<byte[]> response = get("?size=10", ProductMediaTypes.APPLICATION_PROTOBUF.toString(), null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        ProductProtos.ProductPage page = ProductProtos.ProductPage.parseFrom(response.body());
+        assertThat(page.getContentCount()).isEqualTo(10);
+        assertThat(page.getSize()).isEqualTo(10);
+        assertThat(page.hasNextCursor()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve buscar um produto por SKU em JSON quando o JSON for o tipo preferido do Accept")
+    void shouldPreferJsonByQuality() throws Exception {
+        HttpResponse<byte[]> response = get("/sku/SKU-FORMAT-2",
+                "application/x-protobuf;q=0.5, application/json", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(contentType(response)).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(mapper.readTree(response.body()).get("sku").asText()).isEqualTo("SKU-FORMAT-2");
+    }
+
+    @Test
+    @DisplayName("Não deve responder 304 ao pedir outra representação com o ETag do JSON")
+    void shouldTagEachRepresentation() throws Exception {
+        String path = "/" + idOf("SKU-FORMAT-1");
+        String jsonTag = get(path, MediaType.APPLICATION_JSON_VALUE, null).headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+
+        HttpResponse<byte[]> protobuf = get(path, ProductMediaTypes.APPLICATION_PROTOBUF.toString(), null, jsonTag);
+        String protobufTag = protobuf.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+        HttpResponse<byte[]> notModified = get(path, ProductMediaTypes.APPLICATION_PROTOBUF.toString(), null, protobufTag);
+
+        assertThat(protobuf.statusCode()).isEqualTo(200);
+        assertThat(contentType(protobuf)).startsWith(ProductMediaTypes.APPLICATION_PROTOBUF.toString());
+        assertThat(protobufTag).isNotEqualTo(jsonTag);
+        assertThat(notModified.statusCode()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Deve usar um ETag fraco por representação nas páginas, que podem ser comprimidas")
+    void shouldTagPagesWeakly() throws Exception {
+        HttpResponse<byte[]> json = get("?size=" + CATALOG_SIZE, MediaType.APPLICATION_JSON_VALUE, "gzip");
+        String jsonTag = json.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+        HttpResponse<byte[]> smile = get("?size=" + CATALOG_SIZE, ProductMediaTypes.APPLICATION_SMILE.toString(), null, jsonTag);
+
+        assertThat(jsonTag).startsWith("W/");
+        assertThat(json.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(smile.statusCode()).isEqualTo(200);
+        assertThat(smile.headers().firstValue(HttpHeaders.ETAG)).isPresent().get().isNotEqualTo(jsonTag);
+    }
+
+    @Test
+    @DisplayName("Deve comprimir a listagem com gzip quando o cliente aceitar")
+    void shouldCompressLargeResponses() throws Exception {
+        HttpResponse<byte[]> response = get("", MediaType.APPLICATION_JSON_VALUE, "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+
+        JsonNode products = mapper.readTree(gunzip(response.body()));
+        assertThat(products).hasSize(CATALOG_SIZE);
+    }
+
+    @Test
+    @DisplayName("Não deve comprimir respostas menores que o tamanho mínimo")
+    void shouldNotCompressSmallResponses() throws Exception {
+        HttpResponse<byte[]> response = get("/" + idOf("SKU-FORMAT-1"), MediaType.APPLICATION_JSON_VALUE, "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return input.readAllBytes();
+        }
+    }
+}
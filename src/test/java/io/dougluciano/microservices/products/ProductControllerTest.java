@@ -1,6 +1,12 @@
 package io.dougluciano.microservices.products;
 
+import io.dougluciano.microservices.products.api.dto.PriceAdjustmentRequestDTO;
+import io.dougluciano.microservices.products.api.dto.PriceChangeDTO;
+import io.dougluciano.microservices.products.api.dto.PriceUpdateRequestDTO;
+import io.dougluciano.microservices.products.api.dto.ProductBatchRequestDTO;
 import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.dto.ProductDeleteRequestDTO;
+import io.dougluciano.microservices.products.api.dto.ProductLookupRequestDTO;
 import io.dougluciano.microservices.products.domain.model.Product;
 import io.dougluciano.microservices.products.util.ProductTestFactory;
 import org.junit.jupiter.api.*;
@@ -8,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
@@ -19,6 +26,8 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -86,6 +95,197 @@ public class ProductControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes para o endpoint GET " + API_URI + " paginado por cursor")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class GetProductsPageTests{
+        @Test
+        @DisplayName("Deve percorrer as páginas utilizando o cursor retornado")
+        @Sql(SEED_SQL_SCRIPT)
+        void shouldWalkThroughPagesUsingCursor() throws Exception{
+
+            String nextCursor = mapper.readTree(mockMvc.perform(get(API_URI).param("size", "1"))
+                            .andExpect(status().isOk())
+                            .andExpect(header().exists("Link"))
+                            .andExpect(jsonPath("$.content", hasSize(1)))
+                            .andExpect(jsonPath("$.size", is(1)))
+                            .andExpect(jsonPath("$.content[0].createdBy").doesNotExist())
+                            .andReturn().getResponse().getContentAsString())
+                    .get("nextCursor").asText();
+
+            mockMvc.perform(get(API_URI).param("size", "1").param("cursor", nextCursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursor", nullValue()))
+                    .andExpect(header().doesNotExist("Link"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando o cursor é inválido")
+        void shouldReturnStatus400WhenCursorIsInvalid() throws Exception{
+            mockMvc.perform(get(API_URI).param("cursor", "%%%"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o endpoint GET " + API_URI + " com filtros e ordenação")
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class GetProductsFilteredTests{
+
+        private void createProduct(String name, String price, String sku) throws Exception {
+            ProductDTO productDTO = ProductTestFactory.aValidDTOProduct();
+            productDTO.setName(name);
+            productDTO.setPrice(new BigDecimal(price));
+            productDTO.setSku(sku);
+
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(productDTO)))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @DisplayName("Deve filtrar, ordenar pelo preço decrescente e percorrer as páginas pelo cursor")
+        void shouldFilterSortAndWalkThroughPages() throws Exception{
+            createProduct("Banqueta alta", "80.00", "SKU-FILTER-01");
+            createProduct("Banqueta baixa", "50.00", "SKU-FILTER-02");
+            createProduct("Banqueta infantil", "50.00", "SKU-FILTER-03");
+            createProduct("Aparador", "300.00", "SKU-FILTER-04");
+
+            String nextCursor = mapper.readTree(mockMvc.perform(get(API_URI)
+                                    .param("name", "BANQUETA")
+                                    .param("maxPrice", "100")
+                                    .param("sort", "-price")
+                                    .param("size", "2"))
+                            .andExpect(status().isOk())
+                            .andExpect(header().exists("Link"))
+                            .andExpect(jsonPath("$.content", hasSize(2)))
+                            .andExpect(jsonPath("$.content[0].sku", is("SKU-FILTER-01")))
+                            .andExpect(jsonPath("$.content[1].sku", is("SKU-FILTER-03")))
+                            .andReturn().getResponse().getContentAsString())
+                    .get("nextCursor").asText();
+
+            mockMvc.perform(get(API_URI)
+                            .param("name", "BANQUETA")
+                            .param("maxPrice", "100")
+                            .param("sort", "-price")
+                            .param("size", "2")
+                            .param("cursor", nextCursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].sku", is("SKU-FILTER-02")))
+                    .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+            // O cursor pertence à ordenação por preço e não vale para outra ordenação
+            mockMvc.perform(get(API_URI).param("sort", "name").param("cursor", nextCursor))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando o campo de ordenação não é permitido")
+        void shouldReturnStatus400WhenSortFieldIsNotAllowed() throws Exception{
+            mockMvc.perform(get(API_URI).param("sort", "description"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando a faixa de preço é invertida")
+        void shouldReturnStatus400WhenPriceRangeIsInverted() throws Exception{
+            mockMvc.perform(get(API_URI).param("minPrice", "100").param("maxPrice", "10"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o endpoint GET " + API_URI + "/suggest")
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class SuggestProductsTests{
+        @Test
+        @DisplayName("Deve sugerir o produto recém-criado pelo prefixo do nome, sem diferenciar acentos")
+        void shouldSuggestCreatedProductByNamePrefix() throws Exception{
+            ProductDTO productDTO = ProductTestFactory.aValidDTOProduct();
+            productDTO.setName("Escrivaninha Ônix");
+            productDTO.setSku("SKU-SUGGEST-01");
+
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(productDTO)))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get(API_URI + "/suggest").param("prefix", "onix"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60"))
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].name", is("Escrivaninha Ônix")))
+                    .andExpect(jsonPath("$[0].sku", is("SKU-SUGGEST-01")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar uma lista vazia quando o prefixo é curto demais")
+        void shouldReturnEmptyListForShortPrefix() throws Exception{
+            mockMvc.perform(get(API_URI + "/suggest").param("prefix", "e"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o endpoint GET " + API_URI + "/search")
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class SearchProductsTests{
+
+        private void createProduct(String name, String description, String sku) throws Exception {
+            ProductDTO productDTO = ProductTestFactory.aValidDTOProduct();
+            productDTO.setName(name);
+            productDTO.setDescription(description);
+            productDTO.setSku(sku);
+
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(productDTO)))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @DisplayName("Deve retornar os produtos mais relevantes primeiro e percorrer as páginas pelo cursor")
+        void shouldReturnRankedResultsAndWalkThroughPages() throws Exception{
+            createProduct("Cadeira de escritório", "Acompanha bem qualquer mesa de trabalho.", "SKU-SEARCH-01");
+            createProduct("Mesa de jantar", "Tampo de madeira maciça.", "SKU-SEARCH-02");
+            createProduct("Luminária de piso", "Luz indireta para a sala.", "SKU-SEARCH-03");
+
+            // "mesas" e "mesa" têm o mesmo radical; o nome pesa mais que a descrição no ranking
+            String nextCursor = mapper.readTree(mockMvc.perform(get(API_URI + "/search").param("q", "mesas").param("size", "1"))
+                            .andExpect(status().isOk())
+                            .andExpect(header().exists("Link"))
+                            .andExpect(jsonPath("$.content", hasSize(1)))
+                            .andExpect(jsonPath("$.content[0].sku", is("SKU-SEARCH-02")))
+                            .andReturn().getResponse().getContentAsString())
+                    .get("nextCursor").asText();
+
+            mockMvc.perform(get(API_URI + "/search").param("q", "mesas").param("size", "1").param("cursor", nextCursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].sku", is("SKU-SEARCH-01")))
+                    .andExpect(jsonPath("$.nextCursor", nullValue()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando o texto da busca está em branco")
+        void shouldReturnStatus400WhenQueryIsBlank() throws Exception{
+            mockMvc.perform(get(API_URI + "/search").param("q", " "))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando o cursor da busca é inválido")
+        void shouldReturnStatus400WhenSearchCursorIsInvalid() throws Exception{
+            mockMvc.perform(get(API_URI + "/search").param("q", "mesa").param("cursor", "MTIz"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("Testes para o endpoint GET " + API_URI_WITH_PARAMETER)
     @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -119,6 +319,128 @@ public class ProductControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes para as requisições condicionais (ETag / 304 Not Modified)")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class ConditionalGetTests {
+
+        private String createProduct() throws Exception {
+            String location = mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(ProductTestFactory.aValidDTOProduct())))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+            return location.substring(location.lastIndexOf('/') + 1);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 304 Not Modified quando o ETag informado é o atual")
+        void shouldReturnStatus304WhenETagMatches() throws Exception {
+            String id = createProduct();
+
+            String etag = mockMvc.perform(get(API_URI_WITH_PARAMETER, id))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(API_URI_WITH_PARAMETER, id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 200 com um novo ETag após o produto ser alterado")
+        void shouldReturnNewETagAfterUpdate() throws Exception {
+            String id = createProduct();
+
+            String etag = mockMvc.perform(get(API_URI_WITH_PARAMETER, id))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            ProductDTO changes = ProductTestFactory.aValidDTOProduct();
+            changes.setName("Produto Alterado");
+            mockMvc.perform(put(API_URI_WITH_PARAMETER, id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(changes)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get(API_URI_WITH_PARAMETER, id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                    .andExpect(jsonPath("$.name", is("Produto Alterado")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 304 Not Modified quando o produto não mudou desde a data informada")
+        void shouldReturnStatus304WhenNotModifiedSince() throws Exception {
+            String id = createProduct();
+
+            String lastModified = mockMvc.perform(get(API_URI_WITH_PARAMETER, id))
+                    .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+            mockMvc.perform(get(API_URI_WITH_PARAMETER, id).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 304 Not Modified para uma página que não mudou")
+        void shouldReturnStatus304ForUnchangedPage() throws Exception {
+            createProduct();
+
+            String etag = mockMvc.perform(get(API_URI).param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(API_URI).param("size", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(ProductTestFactory.anotherDTOProduct())))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get(API_URI).param("size", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o endpoint GET " + API_URI + "/sku/{sku}")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class GetProductBySkuTests {
+        @Test
+        @DisplayName("Deve retornar um produto e status OK quando o SKU existir")
+        void shouldReturnProductAndStatusOKWhenSkuExists() throws Exception{
+
+            ProductDTO productDTO = ProductTestFactory.aValidDTOProduct();
+
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(productDTO)))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get(API_URI + "/sku/{sku}", productDTO.getSku()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.sku", is(productDTO.getSku())))
+                    .andExpect(jsonPath("$.createdBy").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 404 Not Found quando o SKU não existe")
+        void shouldReturnStatus404WhenSkuDoesNotExist() throws Exception {
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-INEXISTENTE"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @Order(5)
     @DisplayName("Testes para o endpoint POST " + API_URI)
@@ -154,6 +476,172 @@ public class ProductControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes para o endpoint POST " + API_URI + "/batch")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class PostProductsBatchTests{
+        @Test
+        @DisplayName("Deve criar todos os produtos do lote e retornar status 201 Created")
+        void shouldCreateAllProductsAndReturnStatus201() throws Exception{
+            ProductBatchRequestDTO request = new ProductBatchRequestDTO(
+                    List.of(ProductTestFactory.aValidDTOProduct(), ProductTestFactory.anotherDTOProduct()));
+
+            mockMvc.perform(post(API_URI + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.created", is(2)))
+                    .andExpect(jsonPath("$.rejected", is(0)))
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].sku", is("SKU-NEW-01")))
+                    .andExpect(jsonPath("$.items[0].status", is("CREATED")))
+                    .andExpect(jsonPath("$.items[1].id").isNumber());
+
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-02"))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar os SKUs duplicados e retornar status 207 Multi-Status")
+        void shouldRejectDuplicatedSkusAndReturnStatus207() throws Exception{
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(ProductTestFactory.aValidDTOProduct())))
+                    .andExpect(status().isCreated());
+
+            ProductBatchRequestDTO request = new ProductBatchRequestDTO(List.of(
+                    ProductTestFactory.aValidDTOProduct(),
+                    ProductTestFactory.anotherDTOProduct(),
+                    ProductTestFactory.anotherDTOProduct()));
+
+            mockMvc.perform(post(API_URI + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isMultiStatus())
+                    .andExpect(jsonPath("$.created", is(1)))
+                    .andExpect(jsonPath("$.rejected", is(2)))
+                    .andExpect(jsonPath("$.items[0].status", is("DUPLICATED_SKU")))
+                    .andExpect(jsonPath("$.items[0].id", nullValue()))
+                    .andExpect(jsonPath("$.items[1].status", is("CREATED")))
+                    .andExpect(jsonPath("$.items[2].status", is("DUPLICATED_SKU")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando algum item do lote é inválido")
+        void shouldReturnStatus400WhenAnyItemIsInvalid() throws Exception{
+            ProductBatchRequestDTO request = new ProductBatchRequestDTO(
+                    List.of(ProductTestFactory.anotherDTOProduct(), ProductTestFactory.aBlankNameDTOProduct()));
+
+            mockMvc.perform(post(API_URI + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-02"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para os endpoints de reajuste de preços em massa")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class PricesTests{
+
+        @BeforeEach
+        void createProducts() throws Exception{
+            ProductBatchRequestDTO request = new ProductBatchRequestDTO(
+                    List.of(ProductTestFactory.aValidDTOProduct(), ProductTestFactory.anotherDTOProduct()));
+
+            mockMvc.perform(post(API_URI + "/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @DisplayName("Deve atualizar os preços pelo SKU, invalidar o cache e informar os SKUs não encontrados")
+        void shouldUpdatePricesBySkuAndReportNotFound() throws Exception{
+            // Coloca o produto no cache antes da atualização
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-01"))
+                    .andExpect(jsonPath("$.price", is(123.45)));
+
+            PriceUpdateRequestDTO request = new PriceUpdateRequestDTO(List.of(
+                    new PriceChangeDTO(null, "SKU-NEW-01", new BigDecimal("99.90")),
+                    new PriceChangeDTO(null, "SKU-INEXISTENTE", new BigDecimal("10.00"))));
+
+            mockMvc.perform(patch(API_URI + "/prices")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affectedRows", is(1)))
+                    .andExpect(jsonPath("$.chunks", hasSize(1)))
+                    .andExpect(jsonPath("$.chunks[0].affectedRows", is(1)))
+                    .andExpect(jsonPath("$.notFound", hasSize(1)))
+                    .andExpect(jsonPath("$.notFound[0]", is("sku:SKU-INEXISTENTE")));
+
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-01"))
+                    .andExpect(jsonPath("$.price", is(99.90)));
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando um item informa o ID e o SKU")
+        void shouldReturnStatus400WhenItemHasIdAndSku() throws Exception{
+            PriceUpdateRequestDTO request = new PriceUpdateRequestDTO(
+                    List.of(new PriceChangeDTO(1L, "SKU-NEW-01", new BigDecimal("99.90"))));
+
+            mockMvc.perform(patch(API_URI + "/prices")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve reajustar em percentual apenas os produtos que atendem ao filtro")
+        void shouldAdjustPricesOfFilteredProducts() throws Exception{
+            PriceAdjustmentRequestDTO request = new PriceAdjustmentRequestDTO(
+                    new BigDecimal("10"), "SKU-NEW-02", null, null);
+
+            mockMvc.perform(post(API_URI + "/prices/adjustments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affectedRows", is(1)));
+
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-02"))
+                    .andExpect(jsonPath("$.price", is(135.80)))
+                    .andExpect(jsonPath("$.updatedBy").doesNotExist());
+
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-01"))
+                    .andExpect(jsonPath("$.price", is(123.45)));
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request sem reajustar nenhum produto quando algum preço estouraria a coluna")
+        void shouldReturnStatus400WithoutAdjustingWhenAnyPriceWouldOverflow() throws Exception{
+            PriceUpdateRequestDTO expensive = new PriceUpdateRequestDTO(
+                    List.of(new PriceChangeDTO(null, "SKU-NEW-02", new BigDecimal("10000000.00"))));
+            mockMvc.perform(patch(API_URI + "/prices")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(expensive)))
+                    .andExpect(status().isOk());
+
+            PriceAdjustmentRequestDTO request = new PriceAdjustmentRequestDTO(
+                    new BigDecimal("1000"), null, null, null);
+
+            mockMvc.perform(post(API_URI + "/prices/adjustments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-01"))
+                    .andExpect(jsonPath("$.price", is(123.45)));
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-02"))
+                    .andExpect(jsonPath("$.price", is(10000000.00)));
+        }
+    }
+
     @Nested
     @DisplayName("Testes para o endpoint PUT " + API_URI_WITH_PARAMETER)
     @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -188,6 +676,161 @@ public class ProductControllerTest {
                     .content(jsonRequest))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("Deve atualizar com If-Match atual e retornar 412 Precondition Failed com o ETag antigo")
+        @Sql(SEED_SQL_SCRIPT)
+        void shouldHonorIfMatchHeader() throws Exception{
+            String etag = mockMvc.perform(get(VALID_PRODUCT_ID))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            String jsonRequest = mapper.writeValueAsString(ProductTestFactory.aValidDTOProduct());
+
+            String newEtag = mockMvc.perform(put(VALID_PRODUCT_ID)
+                    .header(HttpHeaders.IF_MATCH, etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonRequest))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(put(VALID_PRODUCT_ID)
+                    .header(HttpHeaders.IF_MATCH, etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonRequest))
+                    .andExpect(status().isPreconditionFailed());
+
+            mockMvc.perform(get(VALID_PRODUCT_ID))
+                    .andExpect(header().string(HttpHeaders.ETAG, newEtag));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o endpoint PATCH " + API_URI_WITH_PARAMETER)
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class PatchProductTests{
+
+        private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+        private String createProduct() throws Exception {
+            ProductDTO productDTO = ProductTestFactory.aValidDTOProduct();
+            productDTO.setDescription("Descrição original");
+
+            String location = mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(productDTO)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+            return location.substring(location.lastIndexOf('/') + 1);
+        }
+
+        @Test
+        @DisplayName("Deve alterar apenas os campos informados e retornar status 200 OK")
+        void shouldUpdateOnlySuppliedFields() throws Exception{
+            String id = createProduct();
+
+            mockMvc.perform(patch(API_URI_WITH_PARAMETER, id)
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"price\": 10.50}"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.price", is(10.50)))
+                    .andExpect(jsonPath("$.name", is("Produto Novo Criado")))
+                    .andExpect(jsonPath("$.description", is("Descrição original")));
+        }
+
+        @Test
+        @DisplayName("Deve remover um campo opcional informado com null")
+        void shouldRemoveFieldWhenValueIsNull() throws Exception{
+            String id = createProduct();
+
+            mockMvc.perform(patch(API_URI_WITH_PARAMETER, id)
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"description\": null}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.description", nullValue()));
+        }
+
+        @Test
+        @DisplayName("Deve validar o resultado do merge e retornar status 400 Bad Request")
+        void shouldReturnStatus400WhenMergedProductIsInvalid() throws Exception{
+            String id = createProduct();
+
+            mockMvc.perform(patch(API_URI_WITH_PARAMETER, id)
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"name\": null}"))
+                    .andExpect(status().isBadRequest());
+
+            mockMvc.perform(patch(API_URI_WITH_PARAMETER, id)
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"sku\": \"SKU-ALTERADO\"}"))
+                    .andExpect(status().isBadRequest());
+
+            mockMvc.perform(get(API_URI_WITH_PARAMETER, id))
+                    .andExpect(jsonPath("$.name", is("Produto Novo Criado")))
+                    .andExpect(jsonPath("$.sku", is("SKU-NEW-01")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 404 Not Found ao tentar alterar um ID inexistente")
+        void shouldReturnStatus404WhenPatchingNonExistentProduct() throws Exception{
+            mockMvc.perform(patch(INVALID_PRODUCT_ID)
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"price\": 10.50}"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o endpoint POST " + API_URI + "/lookup")
+    @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+    class LookupProductsTests{
+        @Test
+        @DisplayName("Deve buscar vários produtos pelo ID e pelo SKU, na ordem pedida, e informar os inexistentes")
+        void shouldLookupProductsByIdAndSku() throws Exception{
+            String location = mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(ProductTestFactory.aValidDTOProduct())))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+            Long id = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(ProductTestFactory.anotherDTOProduct())))
+                    .andExpect(status().isCreated());
+
+            // Coloca o primeiro produto no cache antes da busca
+            mockMvc.perform(get(API_URI_WITH_PARAMETER, id))
+                    .andExpect(status().isOk());
+
+            ProductLookupRequestDTO request = new ProductLookupRequestDTO(
+                    List.of(999L, id), List.of("SKU-NEW-02", "SKU-INEXISTENTE", "SKU-NEW-01"));
+
+            mockMvc.perform(post(API_URI + "/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.products", hasSize(2)))
+                    .andExpect(jsonPath("$.products[0].sku", is("SKU-NEW-01")))
+                    .andExpect(jsonPath("$.products[1].sku", is("SKU-NEW-02")))
+                    .andExpect(jsonPath("$.products[0].createdBy").doesNotExist())
+                    .andExpect(jsonPath("$.notFound", hasSize(2)))
+                    .andExpect(jsonPath("$.notFound[0]", is("id:999")))
+                    .andExpect(jsonPath("$.notFound[1]", is("sku:SKU-INEXISTENTE")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando nenhum ID ou SKU é informado")
+        void shouldReturnStatus400WhenLookupRequestIsEmpty() throws Exception{
+            mockMvc.perform(post(API_URI + "/lookup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -220,5 +863,50 @@ public class ProductControllerTest {
             mockMvc.perform(delete(INVALID_PRODUCT_ID))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("Deve deletar vários produtos pelo ID e pelo SKU e informar os inexistentes")
+        void shouldDeleteProductsByIdAndSku() throws Exception{
+            String location = mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(ProductTestFactory.aValidDTOProduct())))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+            Long id = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+
+            mockMvc.perform(post(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(ProductTestFactory.anotherDTOProduct())))
+                    .andExpect(status().isCreated());
+
+            // Coloca o produto no cache antes da exclusão
+            mockMvc.perform(get(API_URI_WITH_PARAMETER, id))
+                    .andExpect(status().isOk());
+
+            ProductDeleteRequestDTO request = new ProductDeleteRequestDTO(
+                    List.of(id, 999L), List.of("SKU-NEW-02"));
+
+            mockMvc.perform(delete(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affectedRows", is(2)))
+                    .andExpect(jsonPath("$.notFound", hasSize(1)))
+                    .andExpect(jsonPath("$.notFound[0]", is("id:999")));
+
+            mockMvc.perform(get(API_URI_WITH_PARAMETER, id))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(get(API_URI + "/sku/{sku}", "SKU-NEW-02"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Deve retornar status 400 Bad Request quando nenhum ID ou SKU é informado")
+        void shouldReturnStatus400WhenDeleteRequestIsEmpty() throws Exception{
+            mockMvc.perform(delete(API_URI)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 }
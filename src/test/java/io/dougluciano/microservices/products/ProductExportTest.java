@@ -0,0 +1,93 @@
+package io.dougluciano.microservices.products;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração para a exportação NDJSON do catálogo.
+ * <p>
+ * Este teste roda em uma execução própria do surefire, com o heap limitado a 256 MB (ver o {@code pom.xml}).
+ * O catálogo sintético inserido aqui ocupa mais do que isso quando materializado como entidades
+ * e DTOs, então o teste só passa se a exportação realmente for feita em streaming.
+ * O corpo da resposta também é lido linha a linha, para que o próprio cliente não acumule o catálogo.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProductExportTest {
+
+    private static final int CATALOG_SIZE = 500_000;
+    private static final String EXPORT_URI = "/api/v1/products/export";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    @DisplayName("Deve exportar um catálogo maior que o heap disponível, um produto por linha")
+    void shouldStreamCatalogLargerThanHeap() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO products (name, description, price, sku, created_at, created_by, updated_at)
+                SELECT 'Produto ' || n,
+                       repeat('Descrição longa do produto sintético. ', 15),
+                       10.00 + (n % 1000),
+                       'SKU-EXPORT-' || n,
+                       NOW(), 'testuser', NOW()
+                FROM generate_series(1, ?) AS n
+                """, CATALOG_SIZE);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + EXPORT_URI))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE)
+                .GET()
+                .build();
+
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofLines());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE))
+                .hasValueSatisfying(contentType -> assertThat(contentType).startsWith(MediaType.APPLICATION_NDJSON_VALUE));
+
+        long lines = 0;
+        long previousId = 0;
+        try (Stream<String> body = response.body()) {
+            Iterator<String> iterator = body.iterator();
+            while (iterator.hasNext()) {
+                JsonNode product = mapper.readTree(iterator.next());
+
+                assertThat(product.get("id").asLong()).isGreaterThan(previousId);
+                assertThat(product.has("createdBy")).isFalse();
+
+                previousId = product.get("id").asLong();
+                lines++;
+            }
+        }
+
+        assertThat(lines).isEqualTo(CATALOG_SIZE);
+    }
+}
@@ -0,0 +1,173 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.config.InvalidationProperties;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.service.events.ProductsInvalidatedEvent;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.service.invalidation.ProductInvalidationListener;
+import io.dougluciano.microservices.products.service.invalidation.ProductInvalidationPublisher;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração da invalidação de cache entre instâncias, com um único PostgreSQL.
+ * <p>
+ * O contexto do Spring faz o papel da instância que escreve. As demais instâncias são simuladas por escutas
+ * criadas pelo teste, com origens próprias, que guardam as invalidações recebidas.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class ProductInvalidationTest {
+
+    private static final Duration COALESCE_WINDOW = Duration.ofMillis(500);
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductInvalidationPublisher publisher;
+
+    @Autowired
+    private JdbcConnectionDetails connectionDetails;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ProductInvalidationListener> nodes = new ArrayList<>();
+
+    private final BlockingQueue<ProductsInvalidatedEvent> received = new LinkedBlockingQueue<>();
+
+    private ProductInvalidationListener otherNode;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        otherNode = startNode("other-node", received);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ProductInvalidationListener::stop);
+    }
+
+    private ProductInvalidationListener startNode(String origin, BlockingQueue<ProductsInvalidatedEvent> events)
+            throws InterruptedException {
+        InvalidationProperties properties = new InvalidationProperties(true, "product_invalidation",
+                COALESCE_WINDOW, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMillis(200), Duration.ofSeconds(1));
+        ProductInvalidationListener node = new ProductInvalidationListener(connectionDetails, properties, origin,
+                events::add, new SimpleMeterRegistry());
+        nodes.add(node);
+        node.start();
+        awaitListening(node, -1);
+        return node;
+    }
+
+    /**
+     * Aguarda a escuta estar ativa em uma conexão diferente de {@code previousPid}.
+     */
+    private static void awaitListening(ProductInvalidationListener node, int previousPid) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (node.backendPid() == -1 || node.backendPid() == previousPid) {
+            assertThat(System.nanoTime()).as("a escuta não foi estabelecida").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar às outras instâncias as escritas de uma janela em uma única invalidação")
+    void shouldCoalesceWritesIntoASingleInvalidation() throws InterruptedException {
+        List<Product> products = ProductTestFactory.manyValidProducts("INVALIDATION", 3);
+        List<Long> ids = new ArrayList<>();
+        for (Product product : products) {
+            ids.add(productService.save(product).getId());
+        }
+
+        ProductsInvalidatedEvent event = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(event).isNotNull();
+        assertThat(event.all()).isFalse();
+        assertThat(event.ids()).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(received.poll(COALESCE_WINDOW.toMillis() * 2, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve invalidar nas outras instâncias os produtos excluídos")
+    void shouldInvalidateDeletedProducts() throws InterruptedException {
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+        assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+
+        productService.deleteById(saved.getId());
+
+        ProductsInvalidatedEvent event = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(event).isNotNull();
+        assertThat(event.ids()).containsExactly(saved.getId());
+    }
+
+    @Test
+    @DisplayName("Não deve notificar as escritas de uma transação desfeita")
+    void shouldNotNotifyRolledBackWrites() throws InterruptedException {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            productService.save(ProductTestFactory.aValidProduct());
+            status.setRollbackOnly();
+        });
+
+        assertThat(received.poll(COALESCE_WINDOW.toMillis() * 3, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar as notificações enviadas pela própria instância")
+    void shouldIgnoreOwnNotifications() throws InterruptedException {
+        BlockingQueue<ProductsInvalidatedEvent> ownEvents = new LinkedBlockingQueue<>();
+        startNode(publisher.origin(), ownEvents);
+
+        productService.save(ProductTestFactory.aValidProduct());
+
+        assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+        assertThat(ownEvents.poll(COALESCE_WINDOW.toMillis() * 2, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve invalidar todos os produtos ao restabelecer a conexão de escuta")
+    void shouldInvalidateEverythingAfterReconnecting() throws InterruptedException {
+        int pid = otherNode.backendPid();
+
+        jdbcTemplate.queryForObject("SELECT pg_terminate_backend(?)", Boolean.class, pid);
+
+        ProductsInvalidatedEvent event = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(event).isNotNull();
+        assertThat(event.all()).isTrue();
+        awaitListening(otherNode, pid);
+
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+
+        ProductsInvalidatedEvent afterReconnect = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(afterReconnect).isNotNull();
+        assertThat(afterReconnect.ids()).containsExactly(saved.getId());
+    }
+}
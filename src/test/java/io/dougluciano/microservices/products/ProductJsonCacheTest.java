@@ -0,0 +1,106 @@
+package io.dougluciano.microservices.products;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.http.ProductJsonCache;
+import io.dougluciano.microservices.products.api.views.Views;
+import io.dougluciano.microservices.products.config.JsonCacheProperties;
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste unitário do cache de respostas JSON dos produtos, sem banco e sem contexto do Spring.
+ */
+public class ProductJsonCacheTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2025-09-10T12:00:00Z");
+
+    private MeterRegistry registry;
+
+    private ProductJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new ProductJsonCache(new JsonCacheProperties(true, DataSize.ofMegabytes(1)), new ObjectMapper().findAndRegisterModules(), registry);
+    }
+
+    private ProductDTO dto(long id) {
+        ProductDTO dto = ProductTestFactory.aValidDTOProduct();
+        dto.setId(id);
+        dto.setCreatedBy("testuser");
+        return dto;
+    }
+
+    private double requests(String result) {
+        return registry.get("products.json.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Deve devolver o JSON guardado enquanto a versão do produto não mudar")
+    void shouldReturnCachedJsonForSameVersion() {
+        ProductVersion version = new ProductVersion(1L, 0L, UPDATED_AT);
+        byte[] json = cache.put(1L, version, Views.Publico.class, dto(1L));
+
+        assertThat(cache.find(1L, version, Views.Publico.class)).isSameAs(json);
+        assertThat(new String(json, StandardCharsets.UTF_8))
+                .contains("\"sku\":\"SKU-NEW-01\"")
+                .doesNotContain("createdBy");
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve devolver o JSON de uma versão anterior do produto")
+    void shouldMissWhenVersionChanged() {
+        cache.put(1L, new ProductVersion(1L, 0L, UPDATED_AT), Views.Publico.class, dto(1L));
+
+        assertThat(cache.find(1L, new ProductVersion(1L, 1L, UPDATED_AT.plusSeconds(1)), Views.Publico.class)).isNull();
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(registry.get("products.json.cache.hit.ratio").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve guardar um JSON por visão")
+    void shouldKeepOneJsonPerView() {
+        ProductVersion version = new ProductVersion(1L, 0L, UPDATED_AT);
+        cache.put(1L, version, Views.Publico.class, dto(1L));
+        cache.put(1L, version, Views.Interno.class, dto(1L));
+
+        assertThat(new String(cache.find(1L, version, Views.Publico.class), StandardCharsets.UTF_8)).doesNotContain("createdBy");
+        assertThat(new String(cache.find(1L, version, Views.Interno.class), StandardCharsets.UTF_8)).contains("createdBy");
+    }
+
+    @Test
+    @DisplayName("Deve remover o produto do cache quando ele for alterado")
+    void shouldEvictOnProductChanged() {
+        ProductVersion version = new ProductVersion(1L, 0L, UPDATED_AT);
+        cache.put(1L, version, Views.Publico.class, dto(1L));
+
+        cache.onProductChanged(ProductChangedEvent.deleted(1L, "SKU-NEW-01"));
+
+        assertThat(cache.find(1L, version, Views.Publico.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("Não deve guardar nada quando o cache estiver desligado")
+    void shouldNotStoreWhenDisabled() {
+        ProductJsonCache disabled = new ProductJsonCache(new JsonCacheProperties(false, DataSize.ofMegabytes(1)),
+                new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+        ProductVersion version = new ProductVersion(1L, 0L, UPDATED_AT);
+
+        assertThat(disabled.put(1L, version, Views.Publico.class, dto(1L))).isNotEmpty();
+        assertThat(disabled.find(1L, version, Views.Publico.class)).isNull();
+    }
+}
@@ -0,0 +1,381 @@
+package io.dougluciano.microservices.products;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.pagination.CursorCodec;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.service.batch.BatchItemResult;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.util.LoadTestReport;
+import io.dougluciano.microservices.products.util.LoadTestReport.OperationStats;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga de ponta a ponta, executável em qualquer máquina e sem Docker: a aplicação completa sobe
+ * em uma porta aleatória sobre um PostgreSQL embarcado, o banco é populado e recebe uma carga de modelo
+ * aberto (as requisições chegam a uma taxa fixa, mesmo que as anteriores ainda não tenham sido respondidas)
+ * com uma mistura de buscas por ID, listagens, criações, atualizações e exclusões.
+ * <p>
+ * A vazão e os percentis de latência (HdrHistogram) de cada operação são gravados em JSON em
+ * {@code loadtest.report} e comparados com o baseline em {@code loadtest.baseline}: o teste falha quando o p99
+ * ou a vazão pioram além da tolerância, e também quando o baseline não existe, para que a verificação nunca
+ * passe sem ter comparado nada. Para adotar uma execução como o novo baseline, rode com
+ * {@code -Dloadtest.record-baseline=true} (o relatório também é gravado no caminho do baseline, sem
+ * comparação) e faça o commit do arquivo, informando a máquina e a JVM usadas.
+ * <p>
+ * Não roda na suíte padrão; execute com {@code mvn test -Pload-test}. Todos os parâmetros podem ser
+ * sobrescritos com {@code -D}, ex: {@code -Dloadtest.rate=500 -Dloadtest.duration=PT2M}.
+ */
+@Slf4j
+@Tag("load-test")
+public class ProductLoadTest {
+
+    private static final String BASE_URI = "/api/v1/products";
+    private static final String SKU_PREFIX = "LOAD";
+
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 10_000);
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT15S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private static final String MIX = System.getProperty("loadtest.mix", "findById=60,list=20,create=10,update=5,delete=5");
+    private static final Path BASELINE = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/load-test/baseline.json"));
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/load-test/report.json"));
+    private static final double MAX_P99_INCREASE = Double.parseDouble(System.getProperty("loadtest.max-p99-increase", "0.20"));
+    private static final double MAX_THROUGHPUT_DECREASE = Double.parseDouble(System.getProperty("loadtest.max-throughput-decrease", "0.10"));
+    private static final boolean RECORD_BASELINE = Boolean.getBoolean("loadtest.record-baseline");
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private static EmbeddedPostgres postgres;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    /**
+     * As operações da carga. Os IDs populados são divididos entre elas para que as buscas nunca encontrem um
+     * produto já excluído e as atualizações não disputem o mesmo registro com as exclusões.
+     */
+    private enum Operation {
+        FIND_BY_ID("findById"),
+        LIST("list"),
+        CREATE("create"),
+        UPDATE("update"),
+        DELETE("delete");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Operação desconhecida em loadtest.mix: " + key);
+        }
+    }
+
+    /**
+     * Os produtos disponíveis para cada operação, pelo ID e pela posição no lote populado (que define o SKU).
+     */
+    private record Catalog(List<Long> readable, List<Integer> updatableIndexes, List<Long> updatableIds,
+                           Queue<Long> deletable, AtomicLong createdSequence) {
+    }
+
+    /**
+     * Os histogramas e os erros de uma medição.
+     */
+    private record Measurement(Map<Operation, Histogram> latencies, Map<Operation, LongAdder> errors) {
+
+        static Measurement create() {
+            Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+            Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+                errors.put(operation, new LongAdder());
+            }
+            return new Measurement(latencies, errors);
+        }
+    }
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("Deve sustentar a carga configurada sem erros e sem regressão em relação ao baseline")
+    void shouldSustainWorkloadWithoutRegression() throws Exception {
+        Map<Operation, Integer> mix = parseMix(MIX);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductsApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres",
+                        "spring.docker.compose.enabled=false",
+                        "logging.level.io.dougluciano=WARN")
+                .run()) {
+
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + BASE_URI;
+            Catalog catalog = seed(context.getBean(ProductService.class));
+
+            log.info("Aquecimento: {} req/s por {}", RATE, WARMUP);
+            run(baseUrl, catalog, mix, WARMUP, Measurement.create());
+
+            log.info("Medição: {} req/s por {}, mistura {}", RATE, DURATION, MIX);
+            Measurement measurement = Measurement.create();
+            Duration elapsed = run(baseUrl, catalog, mix, DURATION, measurement);
+
+            LoadTestReport report = report(mix, measurement, elapsed);
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+            mapper.writeValue(REPORT.toFile(), report);
+
+            report.operations().forEach((name, stats) -> log.info(
+                    "{}: {} requisições, {} erros, {} req/s, p50 {}ms, p99 {}ms, p99.9 {}ms, máx {}ms", name,
+                    stats.requests(), stats.errors(), Math.round(stats.throughput()), stats.p50Millis(),
+                    stats.p99Millis(), stats.p999Millis(), stats.maxMillis()));
+            log.info("Relatório gravado em {}", REPORT.toAbsolutePath());
+
+            assertThat(report.overall().errors()).as("requisições com erro").isZero();
+
+            if (RECORD_BASELINE) {
+                Files.createDirectories(BASELINE.toAbsolutePath().getParent());
+                mapper.writeValue(BASELINE.toFile(), report);
+                log.info("Baseline gravado em {}; nenhuma comparação foi feita.", BASELINE.toAbsolutePath());
+                return;
+            }
+
+            assertThat(BASELINE)
+                    .as("baseline do teste de carga (grave um com -Dloadtest.record-baseline=true)")
+                    .exists();
+            LoadTestReport baseline = mapper.readValue(BASELINE.toFile(), LoadTestReport.class);
+            assertThat(report.regressionsAgainst(baseline, MAX_P99_INCREASE, MAX_THROUGHPUT_DECREASE))
+                    .as("regressões em relação a %s", BASELINE)
+                    .isEmpty();
+        }
+    }
+
+    private static Catalog seed(ProductService productService) {
+        List<Product> products = ProductTestFactory.manyValidProducts(SKU_PREFIX, PRODUCTS);
+        List<Long> ids = new ArrayList<>(PRODUCTS);
+        for (int from = 0; from < PRODUCTS; from += 1_000) {
+            productService.createAll(products.subList(from, Math.min(from + 1_000, PRODUCTS)))
+                    .stream()
+                    .map(BatchItemResult::id)
+                    .forEach(ids::add);
+        }
+
+        // Um décimo dos produtos pode ser excluído, outro décimo atualizado, e o restante é apenas lido
+        List<Long> readable = new ArrayList<>();
+        List<Integer> updatableIndexes = new ArrayList<>();
+        List<Long> updatableIds = new ArrayList<>();
+        Queue<Long> deletable = new ConcurrentLinkedQueue<>();
+        for (int index = 0; index < ids.size(); index++) {
+            switch (index % 10) {
+                case 0 -> deletable.add(ids.get(index));
+                case 1 -> {
+                    updatableIndexes.add(index);
+                    updatableIds.add(ids.get(index));
+                }
+                default -> readable.add(ids.get(index));
+            }
+        }
+        return new Catalog(readable, updatableIndexes, updatableIds, deletable, new AtomicLong());
+    }
+
+    /**
+     * Envia as requisições em intervalos fixos durante o tempo informado e espera as pendentes terminarem.
+     *
+     * @return o tempo total da medição.
+     */
+    private Duration run(String baseUrl, Catalog catalog, Map<Operation, Integer> mix, Duration duration,
+                         Measurement measurement) {
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int n = 0; n < weight; n++) {
+                weighted.add(operation);
+            }
+        });
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / RATE);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long intended = start + n * interval;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                executor.submit(() -> execute(baseUrl, catalog, operation, intended, measurement));
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void execute(String baseUrl, Catalog catalog, Operation operation, long intended, Measurement measurement) {
+        boolean success;
+        try {
+            HttpRequest request = request(baseUrl, catalog, operation);
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() / 100 == 2;
+            if (success && operation == Operation.CREATE) {
+                // Os produtos criados durante a carga são os primeiros a serem excluídos
+                response.headers().firstValue(HttpHeaders.LOCATION)
+                        .map(location -> Long.valueOf(location.substring(location.lastIndexOf('/') + 1)))
+                        .ifPresent(id -> catalog.deletable().add(id));
+            }
+        } catch (Exception ex) {
+            success = false;
+        }
+
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+        measurement.latencies().get(operation).recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+        if (!success) {
+            measurement.errors().get(operation).increment();
+        }
+    }
+
+    private HttpRequest request(String baseUrl, Catalog catalog, Operation operation) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case FIND_BY_ID -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + randomOf(catalog.readable()))).GET().build();
+            case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "?size=50&cursor="
+                    + CursorCodec.encode(randomOf(catalog.readable())))).GET().build();
+            case CREATE -> json(HttpRequest.newBuilder(URI.create(baseUrl)),
+                    dto("LOAD-NEW-" + catalog.createdSequence().incrementAndGet()), "POST");
+            case UPDATE -> {
+                int position = random.nextInt(catalog.updatableIds().size());
+                String sku = ProductTestFactory.skuOf(SKU_PREFIX, catalog.updatableIndexes().get(position));
+                yield json(HttpRequest.newBuilder(URI.create(baseUrl + "/" + catalog.updatableIds().get(position))),
+                        dto(sku), "PUT");
+            }
+            case DELETE -> {
+                Long id = catalog.deletable().poll();
+                if (id == null) {
+                    throw new IllegalStateException("Não há mais produtos para excluir; aumente loadtest.products");
+                }
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, ProductDTO body, String method) throws IOException {
+        return builder.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private static ProductDTO dto(String sku) {
+        ProductDTO dto = new ProductDTO();
+        dto.setName("Produto " + sku);
+        dto.setDescription("Produto enviado pelo teste de carga.");
+        dto.setPrice(BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(100, 100_000), 2));
+        dto.setSku(sku);
+        return dto;
+    }
+
+    private static <T> T randomOf(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static LoadTestReport report(Map<Operation, Integer> mix, Measurement measurement, Duration elapsed) {
+        Histogram overall = new Histogram(MAX_LATENCY_MICROS, 3);
+        long overallErrors = 0;
+        Map<String, OperationStats> operations = new LinkedHashMap<>();
+        Map<String, Integer> weights = new LinkedHashMap<>();
+
+        for (Operation operation : mix.keySet()) {
+            Histogram latencies = measurement.latencies().get(operation);
+            long errors = measurement.errors().get(operation).sum();
+            overall.add(latencies);
+            overallErrors += errors;
+            operations.put(operation.key, OperationStats.of(latencies, errors, elapsed));
+            weights.put(operation.key, mix.get(operation));
+        }
+
+        return new LoadTestReport(
+                Instant.now(),
+                new LoadTestReport.Workload(PRODUCTS, RATE, DURATION.toString(), weights),
+                OperationStats.of(overall, overallErrors, elapsed),
+                operations);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.of(parts[0].trim()), weight);
+            }
+        }
+        return weights;
+    }
+}
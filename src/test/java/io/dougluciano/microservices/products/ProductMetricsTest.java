@@ -0,0 +1,72 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.config.MetricsConfig;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Teste de integração das métricas: garante que uma requisição alimenta os timers dos serviços e as
+ * distribuições do trabalho do Hibernate por operação.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = "spring.cache.type=none")
+@AutoConfigureMockMvc
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProductMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve medir o serviço e contar os comandos SQL e as entidades carregadas da requisição")
+    void shouldRecordServiceTimerAndDbWorkPerOperation() throws Exception {
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+
+        mockMvc.perform(get("/api/v1/products/{id}", saved.getId()))
+                .andExpect(status().isOk());
+
+        Timer findById = meterRegistry.find(MetricsConfig.SERVICE_TIMER)
+                .tag("method", "findById")
+                .timer();
+        assertThat(findById).isNotNull();
+        assertThat(findById.count()).isPositive();
+
+        DistributionSummary statements = meterRegistry.find("products.db.statements")
+                .tag("operation", "findById")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        // Sem cache: uma consulta da versão e uma da entidade
+        assertThat(statements.totalAmount()).isEqualTo(2);
+
+        DistributionSummary loads = meterRegistry.find("products.db.entity.loads")
+                .tag("operation", "findById")
+                .summary();
+        assertThat(loads).isNotNull();
+        assertThat(loads.totalAmount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,184 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.config.OutboxProperties;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductChange;
+import io.dougluciano.microservices.products.domain.repository.ProductOutboxRepository;
+import io.dougluciano.microservices.products.service.batch.PriceChange;
+import io.dougluciano.microservices.products.service.implementations.ProductBulkService;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.service.outbox.ProductOutboxRelay;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Teste de integração do outbox de alterações: a gravação na transação das escritas e a entrega pelo relay.
+ * <p>
+ * O relay agendado fica desligado, mas com um destino configurado, para que as alterações sejam gravadas; o
+ * teste cria o seu próprio relay, com um destino que guarda as alterações recebidas, e o executa diretamente.
+ */
+@SpringBootTest(properties = {"products.outbox.relay-enabled=false", "products.outbox.sink=in-process"})
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class ProductOutboxTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductBulkService bulkService;
+
+    @Autowired
+    private ProductOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ProductChange> delivered = new ArrayList<>();
+
+    private final AtomicBoolean failNextBatch = new AtomicBoolean();
+
+    private ProductOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM product_outbox");
+        relay = new ProductOutboxRelay(outboxRepository, changes -> {
+            if (failNextBatch.getAndSet(false)) {
+                throw new IllegalStateException("Destino indisponível");
+            }
+            delivered.addAll(changes);
+        }, transactionManager, properties, new SimpleMeterRegistry());
+    }
+
+    private long pending() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM product_outbox", Long.class);
+    }
+
+    @Test
+    @DisplayName("Deve entregar a criação, a alteração e a exclusão de um produto, em ordem")
+    void shouldDeliverChangesOfAProductInOrder() {
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+        Product changes = ProductTestFactory.aValidProduct();
+        changes.setName("Produto Alterado");
+        productService.update(saved.getId(), changes);
+        productService.deleteById(saved.getId());
+
+        assertThat(relay.relayPending()).isEqualTo(3);
+
+        assertThat(delivered).extracting(ProductChange::productId).containsOnly(saved.getId());
+        assertThat(delivered).extracting(ProductChange::type)
+                .containsExactly(ProductChange.Type.SAVED, ProductChange.Type.SAVED, ProductChange.Type.DELETED);
+        assertThat(delivered).extracting(ProductChange::sequence).isSorted();
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve registrar alterações de uma transação desfeita")
+    void shouldNotRecordRolledBackChanges() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            productService.save(ProductTestFactory.aValidProduct());
+            status.setRollbackOnly();
+        });
+
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve entregar novamente um lote cuja entrega falhou")
+    void shouldRedeliverFailedBatch() {
+        productService.createAll(ProductTestFactory.manyValidProducts("OUTBOX", 3));
+        failNextBatch.set(true);
+
+        assertThatThrownBy(() -> relay.relayPending()).isInstanceOf(IllegalStateException.class);
+        assertThat(delivered).isEmpty();
+        assertThat(pending()).isEqualTo(3);
+
+        assertThat(relay.relayPending()).isEqualTo(3);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve registrar as alterações de preço em massa")
+    void shouldRecordBulkPriceChanges() {
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+        relay.relayPending();
+        delivered.clear();
+
+        bulkService.updatePrices(List.of(new PriceChange(saved.getId(), null, new BigDecimal("9.99"))));
+
+        assertThat(relay.relayPending()).isEqualTo(1);
+        assertThat(delivered.get(0).productId()).isEqualTo(saved.getId());
+        assertThat(delivered.get(0).sku()).isEqualTo(saved.getSku());
+    }
+
+    @Test
+    @DisplayName("Deve serializar as gravações de um mesmo produto, para que os IDs sigam a ordem dos commits")
+    void shouldSerializeAppendsOfTheSameProduct() throws Exception {
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+        relay.relayPending();
+        delivered.clear();
+        ProductChange savedChange = new ProductChange(null, saved.getId(), ProductChange.Type.SAVED, saved.getSku(), null);
+        ProductChange deletedChange = new ProductChange(null, saved.getId(), ProductChange.Type.DELETED, saved.getSku(), null);
+
+        CountDownLatch firstAppended = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            outboxRepository.append(List.of(savedChange));
+            firstAppended.countDown();
+            await(releaseFirst);
+        }));
+        firstAppended.await(10, TimeUnit.SECONDS);
+
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status ->
+                outboxRepository.append(List.of(deletedChange))));
+
+        assertThatThrownBy(() -> second.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        releaseFirst.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        assertThat(relay.relayPending()).isEqualTo(2);
+        assertThat(delivered).extracting(ProductChange::type)
+                .containsExactly(ProductChange.Type.SAVED, ProductChange.Type.DELETED);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.http.EntityTags;
+import io.dougluciano.microservices.products.api.http.ProductMediaTypes;
+import io.dougluciano.microservices.products.api.mapper.ProductProtobufMapper;
+import io.dougluciano.microservices.products.api.protobuf.ProductProtos;
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste unitário das conversões entre os DTOs de produto e as mensagens Protobuf, sem contexto do Spring.
+ */
+public class ProductProtobufMapperTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2025-09-10T12:00:00.123456Z");
+
+    private ProductDTO dto(long id) {
+        ProductDTO dto = ProductTestFactory.aValidDTOProduct();
+        dto.setId(id);
+        dto.setCreatedAt(UPDATED_AT);
+        dto.setCreatedBy("testuser");
+        dto.setUpdatedAt(UPDATED_AT);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Deve converter o produto e de volta sem perder os campos, inclusive os de auditoria")
+    void shouldRoundTripInternalView() throws Exception {
+        ProductDTO dto = dto(1L);
+
+        byte[] payload = ProductProtobufMapper.toMessage(dto, true).toByteArray();
+        ProductDTO parsed = ProductProtobufMapper.toDTO(ProductProtos.Product.parseFrom(payload));
+
+        assertThat(parsed).isEqualTo(dto);
+    }
+
+    @Test
+    @DisplayName("Não deve escrever os campos de auditoria na visão pública")
+    void shouldOmitAuditFieldsInPublicView() throws Exception {
+        ProductProtos.ProductList message = ProductProtobufMapper.toMessage(List.of(dto(1L), dto(2L)), false);
+
+        List<ProductDTO> parsed = ProductProtobufMapper.toDTOList(ProductProtos.ProductList.parseFrom(message.toByteArray()));
+
+        assertThat(parsed).hasSize(2);
+        assertThat(parsed.get(0).getPrice()).isEqualByComparingTo(dto(1L).getPrice());
+        assertThat(parsed).allSatisfy(product -> {
+            assertThat(product.getCreatedAt()).isNull();
+            assertThat(product.getCreatedBy()).isNull();
+            assertThat(product.getUpdatedAt()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve escolher o JSON apenas quando ele for o tipo preferido do Accept")
+    void shouldPreferJsonOnlyWhenPreferred() {
+        assertThat(ProductMediaTypes.negotiate(null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(ProductMediaTypes.negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(ProductMediaTypes.negotiate("application/x-protobuf, application/json")).isEqualTo(ProductMediaTypes.APPLICATION_PROTOBUF);
+        assertThat(ProductMediaTypes.negotiate("application/x-protobuf;q=0.5, application/json")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(ProductMediaTypes.negotiate("application/cbor")).isEqualTo(ProductMediaTypes.APPLICATION_CBOR);
+        assertThat(ProductMediaTypes.negotiate("application/x-jackson-smile;q=0.9, application/*;q=0.8")).isEqualTo(ProductMediaTypes.APPLICATION_SMILE);
+        assertThat(ProductMediaTypes.negotiate("application/xml")).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    @DisplayName("Deve gerar um ETag por representação, todos aceitos no If-Match")
+    void shouldTagEachRepresentation() {
+        ProductVersion version = new ProductVersion(1L, 3L, UPDATED_AT);
+
+        String json = EntityTags.of(version, MediaType.APPLICATION_JSON);
+        String protobuf = EntityTags.of(version, ProductMediaTypes.APPLICATION_PROTOBUF);
+        String smile = EntityTags.of(version, ProductMediaTypes.APPLICATION_SMILE);
+
+        assertThat(json).isEqualTo(EntityTags.of(version));
+        assertThat(protobuf).isNotEqualTo(json).isNotEqualTo(smile);
+        assertThat(EntityTags.parseVersion("\"" + json + "\"", 1L)).isEqualTo(3L);
+        assertThat(EntityTags.parseVersion("\"" + protobuf + "\"", 1L)).isEqualTo(3L);
+        assertThat(EntityTags.parseVersion("\"" + smile + "\"", 1L)).isEqualTo(3L);
+        assertThat(EntityTags.ofPage(List.of(version), 10, null, MediaType.APPLICATION_JSON))
+                .startsWith("W/\"")
+                .isNotEqualTo(EntityTags.ofPage(List.of(version), 10, null, ProductMediaTypes.APPLICATION_PROTOBUF));
+    }
+}
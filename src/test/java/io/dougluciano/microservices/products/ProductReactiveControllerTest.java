@@ -0,0 +1,128 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração do módulo reativo de leitura: a aplicação sobe com o profile {@code reactive}
+ * (WebFlux + R2DBC) e as mesmas rotas de leitura do {@code ProductController} são verificadas com o
+ * {@link WebTestClient}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProductReactiveControllerTest {
+
+    private static final String BASE_URI = "/api/v1/products";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve retornar 200 OK e a visão pública do produto ao buscar pelo ID")
+    void shouldReturnProductById() {
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+
+        webTestClient.get().uri(BASE_URI + "/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(saved.getId())
+                .jsonPath("$.name").isEqualTo(saved.getName())
+                .jsonPath("$.sku").isEqualTo(saved.getSku())
+                .jsonPath("$.price").isEqualTo(199.99)
+                .jsonPath("$.createdAt").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 Not Found ao buscar um ID inexistente")
+    void shouldReturnNotFoundForUnknownId() {
+        webTestClient.get().uri(BASE_URI + "/{id}", 999_999)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo(BASE_URI + "/999999");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 200 OK ao buscar um produto pelo SKU")
+    void shouldReturnProductBySku() {
+        Product saved = productService.save(ProductTestFactory.aValidProduct());
+
+        webTestClient.get().uri(BASE_URI + "/sku/{sku}", saved.getSku())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(saved.getId());
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor, informando a próxima página no corpo e no header Link")
+    void shouldPageWithCursor() {
+        productService.saveAll(List.of(ProductTestFactory.aValidProduct(), ProductTestFactory.anotherValidProduct()));
+
+        webTestClient.get().uri(BASE_URI + "?size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.LINK, link -> assertThat(link).contains("rel=\"next\""))
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].sku").isEqualTo("SKU-VALIDO-01")
+                .jsonPath("$.nextCursor").isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 Bad Request para um cursor malformado")
+    void shouldRejectInvalidCursor() {
+        webTestClient.get().uri(BASE_URI + "?cursor=@@@")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Deve exportar o catálogo em NDJSON, um produto por linha")
+    void shouldExportCatalogAsNdjson() {
+        jdbcTemplate.update("""
+                INSERT INTO products (name, description, price, sku, created_at, created_by, updated_at)
+                SELECT 'Produto ' || n, 'Produto sintético.', 10.00, 'SKU-REACTIVE-' || n, NOW(), 'testuser', NOW()
+                FROM generate_series(1, ?) AS n
+                """, 2_000);
+
+        String body = webTestClient.get().uri(BASE_URI + "/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.lines()).hasSize(2_000).allMatch(line -> line.startsWith("{\"id\":"));
+    }
+}
@@ -0,0 +1,135 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.api.mapper.ProductMapper;
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.service.listing.ProductFilter;
+import io.dougluciano.microservices.products.service.listing.ProductSort;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark do caminho de leitura da listagem: entidades gerenciadas convertidas pelo MapStruct
+ * ({@link ProductService#findPage(Long, int)} + {@link ProductMapper#toDTOList}) contra a projeção
+ * {@link ProductSummary} ({@link ProductService#findPage(ProductFilter, ProductSort, Comparable, Long, int)}
+ * + {@link ProductMapper#toSummaryDTOList}).
+ * <p>
+ * Cada rodada percorre o catálogo inteiro, página a página, pelos dois caminhos. São medidos o tempo e os
+ * bytes alocados pela thread ({@code com.sun.management.ThreadMXBean}), e a melhor rodada de cada caminho
+ * é registrada no log. A projeção não cria entidades, snapshots do dirty checking nem entradas no contexto
+ * de persistência, então precisa alocar menos.
+ * <p>
+ * Não roda na suíte padrão; execute com {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProductReadPathBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Test
+    @DisplayName("A listagem pela projeção deve alocar menos memória que a listagem por entidades")
+    void summaryPathShouldAllocateLessThanEntityPath() {
+        productService.createAll(ProductTestFactory.manyValidProducts("READ", ROWS));
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            readEntities();
+            readSummaries();
+        }
+
+        Measurement entities = measure(this::readEntities);
+        Measurement summaries = measure(this::readSummaries);
+
+        log.info("Listagem de {} produtos em páginas de {}: entidades + MapStruct {} ms e {} KB; projeção {} ms e {} KB",
+                ROWS, PAGE_SIZE, entities.millis(), entities.bytes() / 1024, summaries.millis(), summaries.bytes() / 1024);
+
+        assertThat(summaries.bytes()).isLessThan(entities.bytes());
+    }
+
+    /**
+     * Executa as rodadas e devolve o menor tempo e a menor alocação observados.
+     */
+    private Measurement measure(IntSupplier read) {
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        long threadId = Thread.currentThread().threadId();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            int count = read.getAsInt();
+            long elapsed = System.nanoTime() - start;
+            long allocated = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+            assertThat(count).isEqualTo(ROWS);
+            bestNanos = Math.min(bestNanos, elapsed);
+            bestBytes = Math.min(bestBytes, allocated);
+        }
+        return new Measurement(bestNanos / 1_000_000, bestBytes);
+    }
+
+    private int readEntities() {
+        int total = 0;
+        Long after = null;
+        Slice<Product> page;
+        do {
+            page = productService.findPage(after, PAGE_SIZE);
+            List<ProductDTO> dtos = productMapper.toDTOList(page.getContent());
+            total += dtos.size();
+            if (!dtos.isEmpty()) {
+                after = dtos.get(dtos.size() - 1).getId();
+            }
+        } while (page.hasNext());
+        return total;
+    }
+
+    private int readSummaries() {
+        int total = 0;
+        Long after = null;
+        Slice<ProductSummary> page;
+        do {
+            page = productService.findPage(ProductFilter.NONE, ProductSort.DEFAULT, null, after, PAGE_SIZE);
+            List<ProductDTO> dtos = productMapper.toSummaryDTOList(page.getContent());
+            total += dtos.size();
+            if (!dtos.isEmpty()) {
+                after = dtos.get(dtos.size() - 1).getId();
+            }
+        } while (page.hasNext());
+        return total;
+    }
+
+    private record Measurement(long millis, long bytes) {
+    }
+}
@@ -1,7 +1,10 @@
 package io.dougluciano.microservices.products;
 
 import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductSummary;
 import io.dougluciano.microservices.products.domain.repository.ProductRepository;
+import io.dougluciano.microservices.products.domain.repository.ProductSpecifications;
+import io.dougluciano.microservices.products.service.listing.ProductSort;
 import io.dougluciano.microservices.products.util.ProductTestFactory;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.math.BigDecimal;
@@ -40,6 +44,9 @@ public class ProductRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Nested
     class WhenTryingToGet{
 
@@ -62,6 +69,20 @@ public class ProductRepositoryTest {
             assertThat(products).hasSize(2);
         }
 
+        @Test
+        @DisplayName("Deve retornar todos os produtos no modelo de leitura, ordenados pelo ID")
+        void shouldReturnAllSummariesOrderedById(){
+            List<Product> persisted = productRepository.saveAllAndFlush(ProductTestFactory.aValidListOfProducts());
+
+            List<ProductSummary> summaries = productRepository.findAllSummaries();
+
+            assertThat(summaries).extracting(ProductSummary::sku)
+                    .containsExactly(persisted.get(0).getSku(), persisted.get(1).getSku());
+            assertThat(summaries.get(0).id()).isEqualTo(persisted.get(0).getId());
+            assertThat(summaries.get(0).price()).isEqualByComparingTo(persisted.get(0).getPrice());
+            assertThat(summaries.get(0).version()).isEqualTo(persisted.get(0).getVersion());
+        }
+
         @Test
         @DisplayName("Deve encontrar um produto pelo seu ID após salvá-lo")
         void shouldFindProductByIdAfterSaving(){
@@ -98,7 +119,7 @@ public class ProductRepositoryTest {
             Product persisted = productRepository.save(toPersist);
 
             assertThat(persisted).isNotNull();
-            assertThat(persisted.getId()).isEqualTo(1L);
+            assertThat(persisted.getId()).isNotNull().isPositive();
             assertThat(persisted.getName()).isEqualTo("Produto Válido");
             assertThat(persisted.getCreatedAt()).isNotNull();
         }
@@ -258,5 +279,56 @@ public class ProductRepositoryTest {
             assertThat(countBeforeDelete).isEqualTo(countAfterDelete);
 
         }
+
+        @Test
+        @DisplayName("Deve remover com um único DELETE e informar a quantidade de linhas removidas")
+        void shouldDeleteOneByIdAndReturnAffectedRows(){
+            Product persisted = productRepository.save(ProductTestFactory.aValidProduct());
+
+            assertThat(productRepository.deleteOneById(persisted.getId())).isEqualTo(1);
+            assertThat(productRepository.deleteOneById(persisted.getId())).isZero();
+            assertThat(productRepository.findById(persisted.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    class WhenListingByKeyset{
+
+        /**
+         * A mesma forma do critério de {@link ProductSpecifications#after}, na ordenação por preço.
+         */
+        private static final String NEXT_PAGE_BY_PRICE = """
+                SELECT id FROM products
+                 WHERE price >= ? AND (price > ? OR (price = ? AND id > ?))
+                 ORDER BY price, id
+                 LIMIT 21
+                """;
+
+        @Test
+        @DisplayName("Deve retornar os produtos posteriores ao último entregue, desempatando pelo ID")
+        void shouldReturnProductsAfterTheLastDelivered(){
+            List<Product> persisted = productRepository.saveAllAndFlush(ProductTestFactory.manyValidProducts("KEYSET", 4));
+            Product last = persisted.get(1);
+
+            List<Product> next = productRepository.findAll(
+                    ProductSpecifications.after(ProductSort.PRICE, last.getPrice(), last.getId()), ProductSort.PRICE.toSort());
+
+            assertThat(next).extracting(Product::getSku).containsExactly(
+                    ProductTestFactory.skuOf("KEYSET", 2), ProductTestFactory.skuOf("KEYSET", 3));
+        }
+
+        @Test
+        @DisplayName("Deve iniciar a leitura do índice (campo, id) no último valor entregue")
+        void shouldSeekTheIndexFromTheLastKey(){
+            productRepository.saveAllAndFlush(ProductTestFactory.manyValidProducts("KEYSET", 100));
+            // Com poucas linhas o planejador preferiria a leitura sequencial; desligada, resta o índice
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+            BigDecimal price = new BigDecimal("10.50");
+            String plan = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN " + NEXT_PAGE_BY_PRICE, String.class, price, price, price, 0L));
+
+            assertThat(plan).contains("idx_products_price_id").contains("Index Cond: (price >= ");
+        }
     }
 }
@@ -0,0 +1,104 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.domain.model.ProductSearchHit;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da busca textual ({@code GET /api/v1/products/search}) sobre um catálogo sintético de 1 milhão
+ * de produtos.
+ * <p>
+ * Registra no log o plano de execução ({@code EXPLAIN ANALYZE}) da consulta para um termo raro e para um
+ * termo comum, além do tempo da primeira página pelo serviço. O termo raro precisa ser resolvido pelo
+ * índice GIN {@code idx_products_search_vector}; no termo comum o planejador pode preferir a leitura
+ * sequencial, e o plano é apenas registrado.
+ * <p>
+ * Não roda na suíte padrão; execute com {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ProductSearchBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+
+    /**
+     * Nomes e descrições combinam palavras de listas fixas; uma a cada 1000 descrições cita "titânio".
+     */
+    private static final String SEED = """
+            INSERT INTO products (name, description, price, sku, created_at, created_by, updated_at, version)
+            SELECT (ARRAY['Cadeira', 'Mesa', 'Luminária', 'Estante', 'Sofá', 'Tapete', 'Armário', 'Poltrona', 'Banqueta', 'Cômoda'])[1 + g % 10]
+                       || ' ' || (ARRAY['de madeira', 'de aço', 'de vidro', 'estofada', 'dobrável', 'infantil', 'rústica', 'moderna', 'clássica', 'compacta', 'reforçada', 'decorativa'])[1 + (g / 10) % 12]
+                       || ' ' || g,
+                   'Produto ' || (ARRAY['ideal para a sala', 'para escritórios', 'para áreas externas', 'de fácil montagem', 'com garantia estendida'])[1 + (g / 7) % 5]
+                       || CASE WHEN g % 1000 = 0 THEN ', com acabamento em titânio.' ELSE '.' END,
+                   10 + (g % 990),
+                   'SKU-FTS-' || g,
+                   now(), 'benchmark', now(), 0
+              FROM generate_series(1, ?) AS g
+            """;
+
+    /**
+     * A mesma consulta de {@code ProductSearchOperationsImpl}, na primeira página.
+     */
+    private static final String SEARCH = """
+            SELECT p.id, p.name, p.description, p.price, p.sku, p.version, p.updated_at,
+                   ts_rank(p.search_vector, q.query) AS rank
+              FROM products p, websearch_to_tsquery('portuguese', ?) AS q(query)
+             WHERE p.search_vector @@ q.query
+             ORDER BY rank DESC, p.id
+             LIMIT 51
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("A busca por um termo raro deve usar o índice GIN sobre 1 milhão de produtos")
+    void searchShouldUseGinIndex() {
+        long start = System.nanoTime();
+        jdbcTemplate.update(SEED, ROWS);
+        jdbcTemplate.execute("ANALYZE products");
+        log.info("Catálogo sintético de {} produtos criado em {} ms", ROWS, (System.nanoTime() - start) / 1_000_000);
+
+        String rarePlan = explain("titânio");
+        String commonPlan = explain("mesa");
+        log.info("Plano da busca por um termo raro ('titânio'):\n{}", rarePlan);
+        log.info("Plano da busca por um termo comum ('mesa'):\n{}", commonPlan);
+
+        for (String query : List.of("titânio", "mesa", "cadeira de madeira", "\"sofá estofado\" -infantil")) {
+            // Aquecimento: carrega as classes e o cache de páginas do banco
+            productService.search(query, null, null, 50);
+
+            start = System.nanoTime();
+            Slice<ProductSearchHit> page = productService.search(query, null, null, 50);
+            log.info("Busca por '{}': {} resultados na primeira página em {} ms",
+                    query, page.getNumberOfElements(), (System.nanoTime() - start) / 1_000_000.0);
+        }
+
+        assertThat(rarePlan).contains("idx_products_search_vector");
+    }
+
+    private String explain(String query) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + SEARCH, String.class, query));
+    }
+}
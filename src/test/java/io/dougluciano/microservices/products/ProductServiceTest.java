@@ -1,9 +1,13 @@
 package io.dougluciano.microservices.products;
 
 import io.dougluciano.microservices.products.api.dto.ProductDTO;
+import io.dougluciano.microservices.products.config.CacheConfig;
 import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.model.ProductVersion;
 import io.dougluciano.microservices.products.domain.repository.ProductRepository;
+import io.dougluciano.microservices.products.exception.PreconditionFailedException;
 import io.dougluciano.microservices.products.exception.ResourceNotFoundException;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
 import io.dougluciano.microservices.products.service.implementations.ProductService;
 import io.dougluciano.microservices.products.util.ProductTestFactory;
 import org.junit.jupiter.api.DisplayName;
@@ -13,8 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +43,16 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository repository;
 
+    /**
+     * Sem stubs, o {@code getCache} devolve {@code null} e o serviço opera sem cache,
+     * sempre delegando as buscas ao repositório mockado.
+     */
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductService service;
 
@@ -81,6 +101,157 @@ public class ProductServiceTest {
         }
     }
 
+    @Nested
+    class CacheTests{
+        @Test
+        @DisplayName("Deve consultar o repositório apenas uma vez para buscas repetidas e novamente após a exclusão")
+        void shouldServeRepeatedReadsFromCacheUntilEvicted(){
+            ProductService cachedService = new ProductService(repository, new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_BY_ID), eventPublisher);
+
+            Long productId = 1L;
+            Product mockProduct = ProductTestFactory.aValidProduct();
+            mockProduct.setId(productId);
+
+            when(repository.findById(productId)).thenReturn(Optional.of(mockProduct));
+            when(repository.deleteOneById(productId)).thenReturn(1);
+
+            cachedService.findById(productId);
+            cachedService.findById(productId);
+            verify(repository, times(1)).findById(productId);
+
+            cachedService.deleteById(productId);
+            cachedService.findById(productId);
+            verify(repository, times(2)).findById(productId);
+        }
+
+        @Test
+        @DisplayName("Deve recarregar o SKU do banco quando o ID em cache pertence a um produto excluído")
+        void shouldReloadSkuWhenCachedIdWasDeleted(){
+            ProductService cachedService = new ProductService(repository,
+                    new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_BY_ID, CacheConfig.PRODUCTS_BY_SKU), eventPublisher);
+
+            Product deletedProduct = ProductTestFactory.aValidProduct();
+            deletedProduct.setId(1L);
+            Product recreatedProduct = ProductTestFactory.aValidProduct();
+            recreatedProduct.setId(2L);
+
+            when(repository.findBySku(deletedProduct.getSku()))
+                    .thenReturn(Optional.of(deletedProduct), Optional.of(recreatedProduct));
+            when(repository.deleteOneById(1L)).thenReturn(1);
+            when(repository.findById(1L)).thenReturn(Optional.empty());
+
+            assertThat(cachedService.findBySku(deletedProduct.getSku()).getId()).isEqualTo(1L);
+
+            cachedService.deleteById(1L);
+
+            assertThat(cachedService.findBySku(deletedProduct.getSku()).getId()).isEqualTo(2L);
+            verify(repository, times(2)).findBySku(deletedProduct.getSku());
+        }
+
+        @Test
+        @DisplayName("Deve buscar vários produtos consultando o banco apenas pelos IDs ausentes do cache, na ordem pedida")
+        void shouldFindManyByIdQueryingOnlyCacheMisses(){
+            ProductService cachedService = new ProductService(repository, new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_BY_ID), eventPublisher);
+
+            Product cached = ProductTestFactory.aValidProduct();
+            cached.setId(1L);
+            Product notCached = ProductTestFactory.anotherValidProduct();
+            notCached.setId(2L);
+
+            when(repository.findById(1L)).thenReturn(Optional.of(cached));
+            when(repository.findAllById(List.of(2L, 3L))).thenReturn(List.of(notCached));
+            cachedService.findById(1L);
+
+            assertThat(cachedService.findAllById(List.of(2L, 1L, 3L, 2L))).containsExactly(notCached, cached);
+            assertThat(cachedService.findAllById(List.of(1L, 2L))).containsExactly(cached, notCached);
+            verify(repository, times(1)).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Não deve colocar no cache os produtos lidos antes de uma invalidação concorrente")
+        void shouldNotCacheProductsReadBeforeConcurrentInvalidation(){
+            ProductService cachedService = new ProductService(repository, new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_BY_ID), eventPublisher);
+
+            Product stale = ProductTestFactory.aValidProduct();
+            stale.setId(1L);
+
+            // A escrita concorrente confirma e invalida o produto enquanto a leitura em lote ainda está em andamento
+            when(repository.findAllById(List.of(1L))).thenAnswer(invocation -> {
+                cachedService.evict(List.of(1L));
+                return List.of(stale);
+            });
+
+            assertThat(cachedService.findAllById(List.of(1L))).containsExactly(stale);
+            assertThat(cachedService.findCached(1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve buscar vários produtos pelo SKU e servir as buscas seguintes dos caches")
+        void shouldFindManyBySkuAndServeNextReadsFromCache(){
+            ProductService cachedService = new ProductService(repository,
+                    new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_BY_ID, CacheConfig.PRODUCTS_BY_SKU), eventPublisher);
+
+            Product first = ProductTestFactory.aValidProduct();
+            first.setId(1L);
+            Product second = ProductTestFactory.anotherValidProduct();
+            second.setId(2L);
+            List<String> skus = List.of(second.getSku(), "SKU-INEXISTENTE", first.getSku());
+
+            when(repository.findAllBySkuIn(skus)).thenReturn(List.of(first, second));
+
+            assertThat(cachedService.findAllBySku(skus)).containsExactly(second, first);
+            assertThat(cachedService.findAllBySku(List.of(first.getSku(), second.getSku()))).containsExactly(first, second);
+            verify(repository, times(1)).findAllBySkuIn(any());
+            verify(repository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Deve obter a versão do produto do cache, sem consultar o banco")
+        void shouldReadVersionFromCacheWithoutQueryingDatabase(){
+            ProductService cachedService = new ProductService(repository, new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_BY_ID), eventPublisher);
+
+            Product mockProduct = ProductTestFactory.aValidProduct();
+            mockProduct.setId(1L);
+            mockProduct.setUpdatedAt(Instant.parse("2025-09-09T10:15:30Z"));
+            mockProduct.setVersion(0L);
+
+            when(repository.findVersionById(1L))
+                    .thenReturn(Optional.of(new ProductVersion(1L, 0L, mockProduct.getUpdatedAt())));
+            when(repository.findById(1L)).thenReturn(Optional.of(mockProduct));
+
+            assertThat(cachedService.findVersion(1L).updatedAt()).isEqualTo(mockProduct.getUpdatedAt());
+            verify(repository, times(1)).findVersionById(1L);
+
+            cachedService.findById(1L);
+
+            assertThat(cachedService.findVersion(1L)).isEqualTo(ProductVersion.of(mockProduct));
+            verify(repository, times(1)).findVersionById(1L);
+        }
+
+        @Test
+        @DisplayName("Deve recarregar do banco o produto em cache anterior à versão informada")
+        void shouldReloadCachedProductOlderThanVersion(){
+            ProductService cachedService = new ProductService(repository, new ConcurrentMapCacheManager(CacheConfig.PRODUCTS_BY_ID), eventPublisher);
+
+            Product stale = ProductTestFactory.aValidProduct();
+            stale.setId(1L);
+            stale.setVersion(0L);
+            Product committed = ProductTestFactory.aValidProduct();
+            committed.setId(1L);
+            committed.setVersion(1L);
+
+            when(repository.findById(1L)).thenReturn(Optional.of(stale), Optional.of(committed));
+            cachedService.findById(1L);
+
+            // Uma escrita confirmada ainda não invalidou o produto em cache
+            Product found = cachedService.findAtLeast(new ProductVersion(1L, 1L, Instant.parse("2025-09-09T10:15:30Z")));
+
+            assertThat(found.getVersion()).isEqualTo(1L);
+            assertThat(cachedService.findCached(1L)).contains(committed);
+            verify(repository, times(2)).findById(1L);
+        }
+    }
+
     @Nested
     class FindAllTests{
         @Test
@@ -99,6 +270,39 @@ public class ProductServiceTest {
         }
     }
 
+    @Nested
+    class FindPageTests{
+        @Test
+        @DisplayName("Deve retornar a primeira página e indicar que existe uma próxima página")
+        void shouldReturnFirstPageWithNext(){
+
+            List<Product> mockProductList = ProductTestFactory.aValidListOfProducts();
+
+            when(repository.findFirstPage(any(Pageable.class))).thenReturn(mockProductList);
+
+            Slice<Product> page = service.findPage(null, 1);
+
+            assertThat(page.getContent()).hasSize(1);
+            assertThat(page.hasNext()).isTrue();
+            verify(repository, never()).findPageAfter(any(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Deve buscar a página após o cursor e indicar que é a última página")
+        void shouldReturnPageAfterCursorWithoutNext(){
+
+            List<Product> mockProductList = ProductTestFactory.aValidListOfProducts();
+
+            when(repository.findPageAfter(eq(10L), any(Pageable.class))).thenReturn(mockProductList);
+
+            Slice<Product> page = service.findPage(10L, 5);
+
+            assertThat(page.getContent()).hasSize(2);
+            assertThat(page.hasNext()).isFalse();
+            verify(repository, never()).findFirstPage(any(Pageable.class));
+        }
+    }
+
     @Nested
     class SaveTests{
         @Test
@@ -115,6 +319,7 @@ public class ProductServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(1L);
             verify(repository, times(1)).save(productToSave);
+            verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.saved(savedProduct));
         }
     }
 
@@ -133,7 +338,6 @@ public class ProductServiceTest {
             productWithChanges.setSku(existingProduct.getSku());
 
             when(repository.findById(productID)).thenReturn(Optional.of(existingProduct));
-            when(repository.save(any(Product.class))).thenAnswer(i -> i.getArgument(0));
 
             Product updated = service.update(productID, productWithChanges);
 
@@ -141,8 +345,32 @@ public class ProductServiceTest {
             assertThat(updated.getName()).isEqualTo("Nome atualizado");
             assertThat(updated.getPrice()).isEqualByComparingTo("99.99");
 
+            /**
+             * A entidade carregada é gerenciada: as alterações são gravadas pelo dirty checking
+             * no commit, sem uma chamada ao save (merge)
+             */
             verify(repository, times(1)).findById(productID);
-            verify(repository, times(1)).save(existingProduct);
+            verify(repository, never()).save(any(Product.class));
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando a versão informada no If-Match não é a versão atual")
+        void shouldThrowExceptionWhenExpectedVersionIsStale(){
+            Long productId = 1L;
+            Product existingProduct = ProductTestFactory.aValidProduct();
+            existingProduct.setId(productId);
+            existingProduct.setVersion(3L);
+
+            Product productWithChanges = ProductTestFactory.aValidProduct();
+            productWithChanges.setName("Nome atualizado");
+
+            when(repository.findById(productId)).thenReturn(Optional.of(existingProduct));
+
+            assertThrows(PreconditionFailedException.class, () -> {
+                service.update(productId, productWithChanges, 2L);
+            });
+
+            assertThat(existingProduct.getName()).isNotEqualTo("Nome atualizado");
         }
 
         @Test
@@ -183,18 +411,32 @@ public class ProductServiceTest {
     @Nested
     class DeleteTests{
         @Test
-        @DisplayName("Deve chhamar o método deleteById do repositorio quando o ID é válido")
-        void shouldCallRepositoryDeleteById(){
+        @DisplayName("Deve remover o produto com um único DELETE quando o ID é válido")
+        void shouldCallRepositoryDeleteOneById(){
 
             Long productId = 1L;
 
-            when(repository.existsById(productId)).thenReturn(true);
-            doNothing().when(repository).deleteById(productId);
+            when(repository.deleteOneById(productId)).thenReturn(1);
 
             service.deleteById(productId);
 
-            verify(repository, times(1)).existsById(productId);
-            verify(repository, times(1)).deleteById(productId);
+            verify(repository, times(1)).deleteOneById(productId);
+            verify(repository, never()).existsById(productId);
+            verify(repository, never()).deleteById(productId);
+            verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.deleted(productId, null));
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando nenhuma linha é removida")
+        void shouldThrowExceptionWhenNoRowIsDeleted(){
+
+            Long productId = 99L;
+
+            when(repository.deleteOneById(productId)).thenReturn(0);
+
+            assertThrows(ResourceNotFoundException.class, () -> {
+                service.deleteById(productId);
+            });
         }
     }
 }
@@ -0,0 +1,130 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.config.SuggestProperties;
+import io.dougluciano.microservices.products.service.events.ProductChangedEvent;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.service.suggestion.ProductSuggestion;
+import io.dougluciano.microservices.products.service.suggestion.ProductSuggestionIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Teste unitário do índice em memória do autocompletar, alimentado diretamente pelos
+ * {@link ProductChangedEvent}s, sem banco e sem contexto do Spring.
+ */
+public class ProductSuggestionIndexTest {
+
+    private MeterRegistry registry;
+
+    private ProductSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        index = newIndex(DataSize.ofMegabytes(64));
+    }
+
+    private ProductSuggestionIndex newIndex(DataSize maxMemory) {
+        SuggestProperties properties = new SuggestProperties(2, 10, 20, maxMemory, new SuggestProperties.Weights(3, 2, 1));
+        return new ProductSuggestionIndex(properties, mock(ProductService.class), registry);
+    }
+
+    private void save(ProductSuggestionIndex target, long id, String name, String sku) {
+        target.onProductChanged(new ProductChangedEvent(id, name, sku, false));
+    }
+
+    private List<Long> idsOf(List<ProductSuggestion> suggestions) {
+        return suggestions.stream().map(ProductSuggestion::id).toList();
+    }
+
+    @Test
+    @DisplayName("Deve sugerir sem diferenciar maiúsculas nem acentos")
+    void shouldIgnoreCaseAndAccents() {
+        save(index, 1L, "Luminária de Piso", "SKU-LUM-01");
+
+        assertThat(idsOf(index.suggest("LUMINARIA", 10))).containsExactly(1L);
+        assertThat(idsOf(index.suggest("  lumi", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar as sugestões pelo peso do termo e depois pelo nome mais curto")
+    void shouldRankByWeightThenShorterName() {
+        save(index, 1L, "Cadeira de madeira maciça", "SKU-CAD-01");
+        save(index, 2L, "Mesa de madeira", "SKU-MES-01");
+        save(index, 3L, "Madeira tratada", "SKU-MAD-01");
+        save(index, 4L, "Madeira", "SKU-MAD-02");
+
+        // Nome começando com o prefixo (peso 3) antes de outra palavra do nome (peso 2)
+        assertThat(idsOf(index.suggest("madei", 10))).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(idsOf(index.suggest("madei", 2))).containsExactly(4L, 3L);
+        // SKU (peso 1)
+        assertThat(idsOf(index.suggest("sku-mad", 10))).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve pontuar todos os termos do prefixo, e não apenas os primeiros em ordem alfabética")
+    void shouldRankWholePrefixRange() {
+        // Milhares de termos de peso 2 ("mea ...") ordenados antes do único nome com o prefixo ("mesa")
+        for (long id = 1; id <= 6000; id++) {
+            save(index, id, "Cadeira mea " + id, "SKU-CAD-" + id);
+        }
+        save(index, 6001L, "Mesa", "SKU-MES-01");
+
+        assertThat(idsOf(index.suggest("me", 1))).containsExactly(6001L);
+        assertThat(idsOf(index.suggest("me", 3))).containsExactly(6001L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve refletir a alteração e a remoção de um produto")
+    void shouldApplyUpdatesAndDeletes() {
+        save(index, 1L, "Poltrona reclinável", "SKU-POL-01");
+        save(index, 1L, "Sofá retrátil", "SKU-POL-01");
+
+        assertThat(index.suggest("poltrona", 10)).isEmpty();
+        assertThat(idsOf(index.suggest("sofa", 10))).containsExactly(1L);
+
+        index.onProductChanged(ProductChangedEvent.deleted(1L, "SKU-POL-01"));
+
+        assertThat(index.suggest("sofa", 10)).isEmpty();
+        assertThat(registry.get("products.suggest.index.products").gauge().value()).isZero();
+        assertThat(registry.get("products.suggest.index.terms").gauge().value()).isZero();
+        assertThat(registry.get("products.suggest.index.memory").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir nada para prefixos menores que o mínimo")
+    void shouldIgnoreShortPrefixes() {
+        save(index, 1L, "Tapete persa", "SKU-TAP-01");
+
+        assertThat(index.suggest("t", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+        assertThat(idsOf(index.suggest("ta", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve deixar de indexar produtos ao atingir o limite de memória")
+    void shouldRejectProductsOverMemoryBudget() {
+        // As métricas são registradas por nome: o novo índice precisa de um registro próprio
+        registry = new SimpleMeterRegistry();
+        ProductSuggestionIndex small = newIndex(DataSize.ofBytes(1024));
+
+        for (long id = 1; id <= 10; id++) {
+            save(small, id, "Estante modular " + id, "SKU-EST-" + id);
+        }
+
+        double indexed = registry.get("products.suggest.index.products").gauge().value();
+        assertThat(indexed).isBetween(1.0, 9.0);
+        assertThat(registry.get("products.suggest.index.memory").gauge().value()).isLessThanOrEqualTo(1024);
+        assertThat(registry.get("products.suggest.index.rejected").counter().count()).isEqualTo(10 - indexed);
+        assertThat(small.suggest("estante", 20)).hasSize((int) indexed);
+    }
+}
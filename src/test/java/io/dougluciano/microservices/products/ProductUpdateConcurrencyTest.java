@@ -0,0 +1,113 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.domain.repository.ProductRepository;
+import io.dougluciano.microservices.products.exception.PreconditionFailedException;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de integração da atualização de produtos com controle de concorrência otimista.
+ * <p>
+ * As estatísticas do Hibernate são habilitadas apenas neste contexto, para contar os comandos SQL
+ * executados pelo caminho de atualização.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestcontainersConfiguration.class)
+@Sql(scripts = "/sql/clean-database.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class ProductUpdateConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 5;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("A atualização deve executar apenas um SELECT e um UPDATE")
+    void updateShouldLoadOnceAndIssueSingleUpdate() {
+        Product product = productService.save(ProductTestFactory.aValidProduct());
+
+        Product changes = ProductTestFactory.aValidProduct();
+        changes.setName("Nome atualizado");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        productService.update(product.getId(), changes);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Atualizações concorrentes condicionadas à versão não devem perder nenhuma alteração")
+    void concurrentConditionalUpdatesShouldNotLoseUpdates() throws Exception {
+        Product product = ProductTestFactory.aValidProduct();
+        product.setPrice(new BigDecimal("10.00"));
+        Long id = productService.save(product).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int done = 0; done < INCREMENTS_PER_THREAD; ) {
+                    // Lê a versão atual e tenta gravar o preço + 1 condicionado a ela (read-modify-write)
+                    Product current = productRepository.findById(id).orElseThrow();
+                    Product changes = ProductTestFactory.aValidProduct();
+                    changes.setPrice(current.getPrice().add(BigDecimal.ONE));
+
+                    try {
+                        productService.update(id, changes, current.getVersion());
+                        done++;
+                    } catch (PreconditionFailedException | OptimisticLockingFailureException ex) {
+                        // Outra thread gravou primeiro: relê a versão atual e tenta de novo
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+
+        Product result = productRepository.findById(id).orElseThrow();
+        int expectedIncrements = THREADS * INCREMENTS_PER_THREAD;
+
+        assertThat(result.getPrice()).isEqualByComparingTo(new BigDecimal(10 + expectedIncrements));
+        assertThat(result.getVersion()).isEqualTo((long) expectedIncrements);
+    }
+}
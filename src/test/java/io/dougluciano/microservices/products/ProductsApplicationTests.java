@@ -1,8 +1,18 @@
 package io.dougluciano.microservices.products;
 
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import io.dougluciano.microservices.products.service.outbox.ProductChangeSink;
+import io.dougluciano.microservices.products.service.outbox.ProductOutboxRelay;
+import io.dougluciano.microservices.products.util.ProductTestFactory;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Teste de integração principal da aplicação.
@@ -21,6 +31,15 @@ import org.springframework.context.annotation.Import;
 @SpringBootTest
 class ProductsApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	/**
 	 * Testa se o contexto da aplicação Spring consegue ser carregado com sucesso.
 	 * <p>
@@ -32,4 +51,21 @@ class ProductsApplicationTests {
 	void contextLoads() {
 	}
 
+	@Test
+	@DisplayName("Não deve executar o relay do outbox sem um destino configurado")
+	void shouldNotRelayOutboxWithoutSink() {
+		assertThat(context.getBeansOfType(ProductChangeSink.class)).isEmpty();
+		assertThat(context.getBeansOfType(ProductOutboxRelay.class)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Não deve gravar alterações no outbox sem um destino configurado")
+	void shouldNotRecordOutboxWithoutSink() {
+		Long before = jdbcTemplate.queryForObject("SELECT count(*) FROM product_outbox", Long.class);
+
+		productService.save(ProductTestFactory.manyValidProducts("OUTBOX-OFF", 1).get(0));
+
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM product_outbox", Long.class)).isEqualTo(before);
+	}
+
 }
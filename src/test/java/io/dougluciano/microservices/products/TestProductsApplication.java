@@ -12,7 +12,8 @@ import org.springframework.boot.SpringApplication;
  * Isso é extremamente útil para desenvolvimento e testes manuais, pois permite
  * rodar a aplicação completa conectada a um banco de dados limpo e temporário
  * em um container Docker, em vez de depender do banco de dados configurado no
- * {@code docker-compose.yml} de desenvolvimento.
+ * {@code docker-compose.yml} de desenvolvimento. O profile {@code dev} é ativado, com as alterações do
+ * outbox entregues em um arquivo local (ver {@code application-dev.properties}).
  *
  * @author Spring Initializr / dougluciano
  * @since 2025-09-10
@@ -20,7 +21,10 @@ import org.springframework.boot.SpringApplication;
 public class TestProductsApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.from(ProductsApplication::main).with(TestcontainersConfiguration.class).run(args);
+		SpringApplication.from(ProductsApplication::main)
+				.with(TestcontainersConfiguration.class)
+				.withAdditionalProfiles("dev")
+				.run(args);
 	}
 
 }
@@ -0,0 +1,164 @@
+package io.dougluciano.microservices.products;
+
+import io.dougluciano.microservices.products.domain.model.Product;
+import io.dougluciano.microservices.products.service.batch.BatchItemResult;
+import io.dougluciano.microservices.products.service.implementations.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga que compara a aplicação atendendo com threads de plataforma (padrão) e com virtual
+ * threads (profile {@code virtual-threads}), sobre o mesmo banco.
+ * <p>
+ * Em cada modo a aplicação sobe em uma porta aleatória, com o cache desligado para que toda leitura
+ * chegue ao banco, e recebe {@value #REQUESTS} requisições {@code GET /api/v1/products/{id}} com
+ * {@value #CONCURRENCY} clientes simultâneos, bem acima das 200 threads padrão do Tomcat e do pool de
+ * conexões. A vazão e o p99 de cada modo são registrados no log.
+ * <p>
+ * Não roda na suíte padrão; execute com {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+public class VirtualThreadsLoadBenchmarkTest {
+
+    private static final int PRODUCTS = 500;
+
+    private static final int WARMUP_REQUESTS = 5_000;
+
+    private static final int REQUESTS = 50_000;
+
+    private static final int CONCURRENCY = 1_000;
+
+    private static final PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @BeforeAll
+    static void startDatabase() {
+        postgres.start();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        postgres.stop();
+    }
+
+    @Test
+    @DisplayName("Deve medir vazão e p99 com threads de plataforma e com virtual threads")
+    void shouldCompareThroughputAndLatencyBetweenThreadingModes() throws Exception {
+        LoadResult platform = run("platform", false);
+        LoadResult virtual = run("virtual", true);
+
+        log.info("Threads de plataforma: {} req/s, p50 {}ms, p99 {}ms", Math.round(platform.throughput()),
+                platform.percentile(50), platform.percentile(99));
+        log.info("Virtual threads:       {} req/s, p50 {}ms, p99 {}ms", Math.round(virtual.throughput()),
+                virtual.percentile(50), virtual.percentile(99));
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private LoadResult run(String mode, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductsApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "spring.docker.compose.enabled=false",
+                        "spring.cache.type=none",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<Long> ids = seed(context.getBean(ProductService.class), mode);
+
+            load(port, ids, WARMUP_REQUESTS);
+            return load(port, ids, REQUESTS);
+        }
+    }
+
+    private static List<Long> seed(ProductService productService, String mode) {
+        List<Product> products = IntStream.range(0, PRODUCTS)
+                .mapToObj(n -> Product.builder()
+                        .name("Produto " + mode + " " + n)
+                        .description("Produto sintético para o teste de carga.")
+                        .price(new BigDecimal("10.00"))
+                        .sku("SKU-LOAD-" + mode.toUpperCase() + "-" + n)
+                        .build())
+                .toList();
+        return productService.createAll(products).stream().map(BatchItemResult::id).toList();
+    }
+
+    private static LoadResult load(int port, List<Long> ids, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int n = 0; n < requests; n++) {
+                int index = n;
+                URI uri = URI.create("http://localhost:" + port + "/api/v1/products/" + ids.get(n % ids.size()));
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        latencies[index] = System.nanoTime() - sent;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        failures.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return new LoadResult(requests / (elapsed / 1_000_000_000.0), latencies, failures.get());
+    }
+
+    private record LoadResult(double throughput, long[] latencies, int failures) {
+
+        long percentile(int percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return Duration.ofNanos(sorted[Math.max(index, 0)]).toMillis();
+        }
+    }
+}
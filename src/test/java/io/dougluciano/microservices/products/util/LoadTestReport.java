@@ -0,0 +1,108 @@
+package io.dougluciano.microservices.products.util;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Relatório do teste de carga, gravado em JSON ao final de cada execução e usado como baseline
+ * das execuções seguintes.
+ *
+ * @param finishedAt quando a medição terminou.
+ * @param workload   a carga aplicada.
+ * @param overall    as estatísticas de todas as requisições juntas.
+ * @param operations as estatísticas de cada operação da carga, pelo nome usado em {@code loadtest.mix}.
+ */
+public record LoadTestReport(
+        Instant finishedAt,
+        Workload workload,
+        OperationStats overall,
+        Map<String, OperationStats> operations
+) {
+
+    /**
+     * A carga aplicada: um modelo aberto, em que as requisições chegam à taxa configurada
+     * independentemente de as anteriores já terem sido respondidas.
+     *
+     * @param products a quantidade de produtos no banco antes da medição.
+     * @param rate     a taxa de chegada, em requisições por segundo.
+     * @param duration a duração da medição (ISO-8601).
+     * @param mix      o peso de cada operação na carga.
+     */
+    public record Workload(int products, double rate, String duration, Map<String, Integer> mix) {
+    }
+
+    /**
+     * Vazão e percentis de latência de uma operação. As latências são medidas a partir do instante em
+     * que a requisição deveria ter sido enviada, para que atrasos do próprio gerador de carga
+     * (coordinated omission) também apareçam nos percentis.
+     */
+    public record OperationStats(
+            long requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {
+
+        /**
+         * @param micros  o histograma das latências, em microssegundos.
+         * @param errors  a quantidade de requisições com resposta inesperada ou falha.
+         * @param elapsed a duração da medição.
+         */
+        public static OperationStats of(Histogram micros, long errors, Duration elapsed) {
+            return new OperationStats(
+                    micros.getTotalCount(),
+                    errors,
+                    micros.getTotalCount() / (elapsed.toNanos() / 1_000_000_000.0),
+                    millis(micros.getValueAtPercentile(50)),
+                    millis(micros.getValueAtPercentile(90)),
+                    millis(micros.getValueAtPercentile(99)),
+                    millis(micros.getValueAtPercentile(99.9)),
+                    millis(micros.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+
+    /**
+     * Compara este relatório com um baseline.
+     *
+     * @param baseline              o relatório de referência.
+     * @param maxP99Increase        o aumento máximo tolerado do p99, em fração (0.2 = 20%).
+     * @param maxThroughputDecrease a queda máxima tolerada da vazão, em fração.
+     * @return a descrição de cada regressão encontrada; vazia se não houver nenhuma.
+     */
+    public List<String> regressionsAgainst(LoadTestReport baseline, double maxP99Increase, double maxThroughputDecrease) {
+        List<String> regressions = new ArrayList<>();
+        check(regressions, "geral", overall, baseline.overall(), maxP99Increase, maxThroughputDecrease);
+        operations.forEach((name, stats) -> {
+            OperationStats reference = baseline.operations().get(name);
+            if (reference != null) {
+                check(regressions, name, stats, reference, maxP99Increase, maxThroughputDecrease);
+            }
+        });
+        return regressions;
+    }
+
+    private static void check(List<String> regressions, String name, OperationStats current, OperationStats reference,
+                              double maxP99Increase, double maxThroughputDecrease) {
+        if (current.p99Millis() > reference.p99Millis() * (1 + maxP99Increase)) {
+            regressions.add(String.format("%s: p99 de %.2fms, acima do baseline de %.2fms (+%.0f%% tolerado)",
+                    name, current.p99Millis(), reference.p99Millis(), maxP99Increase * 100));
+        }
+        if (current.throughput() < reference.throughput() * (1 - maxThroughputDecrease)) {
+            regressions.add(String.format("%s: vazão de %.1f req/s, abaixo do baseline de %.1f req/s (-%.0f%% tolerado)",
+                    name, current.throughput(), reference.throughput(), maxThroughputDecrease * 100));
+        }
+    }
+}
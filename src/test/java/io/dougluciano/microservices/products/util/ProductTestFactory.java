@@ -133,6 +133,32 @@ public final class ProductTestFactory {
         return products;
     }
 
+    /**
+     * Cria uma quantidade arbitrária de produtos válidos, com SKUs únicos formados pelo prefixo
+     * e pela posição do produto na lista. Usado para popular o banco nos testes de carga.
+     * @param prefix prefixo dos SKUs, para que vários lotes não colidam entre si.
+     * @param count quantidade de produtos.
+     */
+    public static List<Product> manyValidProducts(String prefix, int count){
+        List<Product> products = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            products.add(Product.builder()
+                    .name("Produto " + prefix + " " + n)
+                    .description("Descrição do produto " + n + " gerado para teste.")
+                    .price(BigDecimal.valueOf(1_000 + n % 100_000, 2))
+                    .sku(skuOf(prefix, n))
+                    .build());
+        }
+        return products;
+    }
+
+    /**
+     * O SKU do n-ésimo produto gerado por {@link #manyValidProducts(String, int)}.
+     */
+    public static String skuOf(String prefix, int n){
+        return "SKU-" + prefix + "-" + n;
+    }
+
     /**
      * Método auxiliar para gerar strings longas
      * @param length